@@ -64,6 +64,28 @@ sourceSets {
         compileClasspath += sourceSets.main.get().compileClasspath
         compileClasspath += sourceSets["mixin"].output
     }
+
+    // JMH source set - 纯算法热点的基准测试（不打包进 shadowJar）
+    create("jmh") {
+        java.srcDirs("src/jmh/java")
+        compileClasspath += sourceSets.main.get().output
+        compileClasspath += sourceSets.main.get().compileClasspath
+        compileClasspath += sourceSets["mixin"].output
+        runtimeClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().compileClasspath
+        runtimeClasspath += sourceSets["mixin"].output
+    }
+
+    // 单元测试 - 算法等价性校验，复用 jmh 的合成方块夹具
+    test {
+        java.srcDirs("src/test/java")
+        compileClasspath += sourceSets.main.get().compileClasspath
+        compileClasspath += sourceSets["mixin"].output
+        compileClasspath += sourceSets["jmh"].output
+        runtimeClasspath += sourceSets.main.get().compileClasspath
+        runtimeClasspath += sourceSets["mixin"].output
+        runtimeClasspath += sourceSets["jmh"].output
+    }
 }
 
 // 配置 mixin 的依赖（在 sourceSets 之后）
@@ -96,6 +118,15 @@ dependencies {
     "igniteCompileOnly"(libs.mixinExtras)
     "igniteCompileOnly"(libs.fastutil)
     
+    // JMH source set dependencies
+    "jmhImplementation"(libs.jmhCore)
+    "jmhAnnotationProcessor"(libs.jmhGeneratorAnnprocess)
+
+    // Test source set dependencies
+    testImplementation(platform(libs.junitBom))
+    testImplementation(libs.junitJupiter)
+    testRuntimeOnly(libs.junitPlatformLauncher)
+    
     // Optional plugin dependencies for land protection integration
     // Note: These are optional dependencies, the plugin will work without them
     // They are only needed if you want to use land protection features
@@ -134,6 +165,11 @@ tasks {
         options.release.set(21)
     }
 
+    // VectorExposureSampler 使用孵化中的 Vector API，运行时缺少该模块时回退到标量实现
+    named<JavaCompile>("compileMixinJava") {
+        options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+    }
+
     processResources {
         duplicatesStrategy = DuplicatesStrategy.INCLUDE
     }
@@ -146,6 +182,11 @@ tasks {
         duplicatesStrategy = DuplicatesStrategy.INCLUDE
     }
 
+    test {
+        useJUnitPlatform()
+        jvmArgs("--add-modules", "jdk.incubator.vector")
+    }
+
     shadowJar {
         archiveFileName.set("${project.name}-${project.version}.jar")
         // 包含所有 source sets
@@ -157,6 +198,29 @@ tasks {
     build {
         dependsOn(shadowJar)
     }
+    
+    // 用法: ./gradlew jmh -Pjmh.includes=CompactSineLUT -Pjmh.args="-prof gc"
+    // 结果写入 build/reports/jmh/results.json，可直接与其他构建的结果对比
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks in src/jmh/java"
+        dependsOn("jmhClasses")
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        jvmArgs("--add-modules", "jdk.incubator.vector")
+        val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+        doFirst {
+            resultFile.get().asFile.parentFile.mkdirs()
+        }
+        args(
+            (project.findProperty("jmh.includes") as String?) ?: ".*",
+            "-rf", "json",
+            "-rff", resultFile.get().asFile.absolutePath
+        )
+        (project.findProperty("jmh.args") as String?)?.let { extra ->
+            args(extra.split(" ").filter { it.isNotBlank() })
+        }
+    }
 }
 
 // Configure access wideners if needed for compilation
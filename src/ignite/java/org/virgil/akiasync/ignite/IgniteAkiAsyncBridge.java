@@ -334,6 +334,9 @@ public class IgniteAkiAsyncBridge implements Bridge {
     @Override public int getTNTMaxBlocks() { return config != null ? config.getTNTMaxBlocks() : 500; }
     @Override public long getTNTTimeoutMicros() { return config != null ? config.getTNTTimeoutMicros() : 10000; }
     @Override public int getTNTBatchSize() { return config != null ? config.getTNTBatchSize() : 50; }
+    @Override public boolean isTNTBatchResolveEnabled() { return config != null && config.isTNTBatchResolveEnabled(); }
+    @Override public boolean isTNTPrecomputedShapeEnabled() { return config != null && config.isTNTPrecomputedShapeEnabled(); }
+    @Override public boolean isTNTVectorExposureEnabled() { return config != null && config.isTNTVectorExposureEnabled(); }
     @Override public boolean isTNTDebugEnabled() { return config != null && config.isTNTDebugEnabled(); }
     @Override public boolean isTNTVanillaCompatibilityEnabled() { return config != null && config.isTNTVanillaCompatibilityEnabled(); }
     @Override public boolean isTNTUseVanillaPower() { return config != null && config.isTNTUseVanillaPower(); }
@@ -1003,9 +1006,12 @@ public class IgniteAkiAsyncBridge implements Bridge {
     // 增强路径查找
     // ==========================================
     @Override public boolean isAsyncPathfindingSyncFallbackEnabled() { return config != null && config.isAsyncPathfindingSyncFallbackEnabled(); }
+    @Override public boolean isPathRegionGraphEnabled() { return config != null && config.isPathRegionGraphEnabled(); }
+    @Override public int getPathRegionGraphMinDistance() { return config != null ? config.getPathRegionGraphMinDistance() : 32; }
+    @Override public int getPathTickBudget() { return config != null ? config.getPathTickBudget() : 32; }
+    @Override public int getPathMaxDeferralTicks() { return config != null ? config.getPathMaxDeferralTicks() : 40; }
     @Override public boolean isEnhancedPathfindingEnabled() { return config != null && config.isEnhancedPathfindingEnabled(); }
     @Override public int getEnhancedPathfindingMaxConcurrentRequests() { return config != null ? config.getEnhancedPathfindingMaxConcurrentRequests() : 100; }
-    @Override public int getEnhancedPathfindingMaxRequestsPerTick() { return config != null ? config.getEnhancedPathfindingMaxRequestsPerTick() : 20; }
     @Override public int getEnhancedPathfindingHighPriorityDistance() { return config != null ? config.getEnhancedPathfindingHighPriorityDistance() : 16; }
     @Override public int getEnhancedPathfindingMediumPriorityDistance() { return config != null ? config.getEnhancedPathfindingMediumPriorityDistance() : 32; }
     @Override public boolean isPathPrewarmEnabled() { return config != null && config.isPathPrewarmEnabled(); }
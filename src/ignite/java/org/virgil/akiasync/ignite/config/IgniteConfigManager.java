@@ -551,6 +551,9 @@ public class IgniteConfigManager extends ConfigManager {
     public int getTNTMaxBlocks() { return 500; }
     public long getTNTTimeoutMicros() { return 10000L; }
     public int getTNTBatchSize() { return 50; }
+    public boolean isTNTBatchResolveEnabled() { return true; }
+    public boolean isTNTPrecomputedShapeEnabled() { return true; }
+    public boolean isTNTVectorExposureEnabled() { return false; }
     public boolean isTNTDebugEnabled() { return false; }
     public boolean isTNTVanillaCompatibilityEnabled() { return true; }
     public boolean isTNTUseVanillaPower() { return true; }
@@ -740,9 +743,12 @@ public class IgniteConfigManager extends ConfigManager {
     // 增强路径查找
     // ==========================================
     public boolean isAsyncPathfindingSyncFallbackEnabled() { return true; }
+    public boolean isPathRegionGraphEnabled() { return true; }
+    public int getPathRegionGraphMinDistance() { return 32; }
+    public int getPathTickBudget() { return 32; }
+    public int getPathMaxDeferralTicks() { return 40; }
     public boolean isEnhancedPathfindingEnabled() { return false; }
     public int getEnhancedPathfindingMaxConcurrentRequests() { return 100; }
-    public int getEnhancedPathfindingMaxRequestsPerTick() { return 20; }
     public int getEnhancedPathfindingHighPriorityDistance() { return 16; }
     public int getEnhancedPathfindingMediumPriorityDistance() { return 32; }
     public boolean isPathPrewarmEnabled() { return false; }
@@ -0,0 +1,79 @@
+package org.virgil.akiasync.jmh;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.virgil.akiasync.jmh.fixture.SyntheticEntities;
+import org.virgil.akiasync.mixin.brain.core.AiSliceGrid;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.decoration.ArmorStand;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AiSliceGridBenchmark {
+
+    @Param({"200", "2000"})
+    public int entityCount;
+
+    @Param({"16", "48"})
+    public int queryRadius;
+
+    private ArmorStand[] entities;
+    private AiSliceGrid grid;
+    private BlockPos[] queryCenters;
+
+    @Setup
+    public void setup() {
+        entities = SyntheticEntities.livingEntities(entityCount, 96, 7L);
+        grid = new AiSliceGrid();
+        for (ArmorStand entity : entities) {
+            grid.addEntity(entity);
+        }
+
+        SplittableRandom random = new SplittableRandom(11L);
+        queryCenters = new BlockPos[64];
+        for (int i = 0; i < queryCenters.length; i++) {
+            queryCenters[i] = new BlockPos(random.nextInt(-96, 96), 70, random.nextInt(-96, 96));
+        }
+    }
+
+    @Benchmark
+    public void queryEntities(Blackhole blackhole) {
+        for (BlockPos center : queryCenters) {
+            blackhole.consume(grid.queryEntities(center, queryRadius));
+        }
+    }
+
+    @Benchmark
+    public void queryPlayersEmpty(Blackhole blackhole) {
+        for (BlockPos center : queryCenters) {
+            blackhole.consume(grid.queryPlayers(center, queryRadius));
+        }
+    }
+
+    @Benchmark
+    public AiSliceGrid rebuild() {
+        AiSliceGrid rebuilt = new AiSliceGrid();
+        for (ArmorStand entity : entities) {
+            rebuilt.addEntity(entity);
+        }
+        return rebuilt;
+    }
+}
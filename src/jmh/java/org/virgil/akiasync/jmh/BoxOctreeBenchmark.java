@@ -0,0 +1,94 @@
+package org.virgil.akiasync.jmh;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.virgil.akiasync.util.worldgen.BoxOctree;
+
+import net.minecraft.world.phys.AABB;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BoxOctreeBenchmark {
+
+    private static final AABB STRUCTURE_BOUNDS = new AABB(-128, -64, -128, 128, 320, 128);
+
+    @Param({"64", "512", "2048"})
+    public int pieceCount;
+
+    private AABB[] pieces;
+    private AABB[] queries;
+    private BoxOctree populated;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0x0C7EEL);
+        pieces = randomBoxes(random, pieceCount, 12);
+        queries = randomBoxes(random, 256, 8);
+
+        populated = new BoxOctree(STRUCTURE_BOUNDS);
+        for (AABB piece : pieces) {
+            populated.insert(piece);
+        }
+    }
+
+    private static AABB[] randomBoxes(SplittableRandom random, int count, int maxSize) {
+        AABB[] boxes = new AABB[count];
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble(-120, 120);
+            double y = random.nextDouble(-60, 300);
+            double z = random.nextDouble(-120, 120);
+            boxes[i] = new AABB(x, y, z,
+                x + 1 + random.nextInt(maxSize),
+                y + 1 + random.nextInt(maxSize),
+                z + 1 + random.nextInt(maxSize));
+        }
+        return boxes;
+    }
+
+    @Benchmark
+    public BoxOctree insertAll() {
+        BoxOctree octree = new BoxOctree(STRUCTURE_BOUNDS);
+        for (AABB piece : pieces) {
+            octree.insert(piece);
+        }
+        return octree;
+    }
+
+    @Benchmark
+    public void octreeIntersects(Blackhole blackhole) {
+        for (AABB query : queries) {
+            blackhole.consume(populated.intersects(query));
+        }
+    }
+
+    @Benchmark
+    public void linearIntersects(Blackhole blackhole) {
+        for (AABB query : queries) {
+            boolean hit = false;
+            for (AABB piece : pieces) {
+                if (piece.intersects(query)) {
+                    hit = true;
+                    break;
+                }
+            }
+            blackhole.consume(hit);
+        }
+    }
+}
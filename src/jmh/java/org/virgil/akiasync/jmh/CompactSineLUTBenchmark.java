@@ -0,0 +1,80 @@
+package org.virgil.akiasync.jmh;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.virgil.akiasync.jmh.fixture.MinecraftBootstrap;
+import org.virgil.akiasync.mixin.util.math.CompactSineLUT;
+
+import net.minecraft.util.Mth;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompactSineLUTBenchmark {
+
+    private static final int ANGLES = 4096;
+
+    private float[] angles;
+
+    @Setup
+    public void setup() {
+        MinecraftBootstrap.ensure();
+        CompactSineLUT.init();
+
+        SplittableRandom random = new SplittableRandom(0x5EED_51DEL);
+        angles = new float[ANGLES];
+        for (int i = 0; i < ANGLES; i++) {
+            angles[i] = (float) random.nextDouble(-Math.PI * 8, Math.PI * 8);
+        }
+    }
+
+    @Benchmark
+    public float compactSin() {
+        float sum = 0.0f;
+        for (float angle : angles) {
+            sum += CompactSineLUT.sin(angle);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float vanillaSin() {
+        float sum = 0.0f;
+        for (float angle : angles) {
+            sum += Mth.sin(angle);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float compactCos() {
+        float sum = 0.0f;
+        for (float angle : angles) {
+            sum += CompactSineLUT.cos(angle);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float vanillaCos() {
+        float sum = 0.0f;
+        for (float angle : angles) {
+            sum += Mth.cos(angle);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,140 @@
+package org.virgil.akiasync.jmh;
+
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.virgil.akiasync.jmh.fixture.SyntheticBlockVolume;
+import org.virgil.akiasync.mixin.async.explosion.ExplosionRayEngine;
+import org.virgil.akiasync.mixin.async.explosion.ExplosionRayMarcher;
+import org.virgil.akiasync.mixin.async.explosion.ExplosionRayTemplate;
+import org.virgil.akiasync.mixin.async.explosion.OptimizedExplosionCache;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.Vec3;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ExplosionRayMarchBenchmark {
+
+    private static final long RAY_SEED = 0x7E7L;
+    private static final BlockPos ORIGIN = new BlockPos(0, 64, 0);
+
+    @Param({"4.0", "8.0"})
+    public float power;
+
+    @Param({"cannonChamber", "naturalTerrain", "obsidianBunker"})
+    public String terrain;
+
+    private SyntheticBlockVolume volume;
+    private Vec3 center;
+    private ExplosionRayEngine engine;
+    private ExplosionRayTemplate template;
+
+    @Setup
+    public void setup() {
+        int radius = (int) Math.ceil(power * 2) + 2;
+        volume = switch (terrain) {
+            case "naturalTerrain" -> SyntheticBlockVolume.naturalTerrain(ORIGIN, radius, 42L);
+            case "obsidianBunker" -> SyntheticBlockVolume.obsidianBunker(ORIGIN, radius, 42L);
+            default -> SyntheticBlockVolume.cannonChamber(ORIGIN, radius, 42L);
+        };
+        center = Vec3.atCenterOf(ORIGIN);
+        engine = new ExplosionRayEngine();
+        template = ExplosionRayTemplate.build(center.x, center.y, center.z, power);
+    }
+
+    private static LinkedHashSet<Long> vanillaRays(BlockGetter level, RandomSource random, Vec3 origin, float radius) {
+        LinkedHashSet<Long> set = new LinkedHashSet<>();
+        for (int j = 0; j < 16; ++j) {
+            for (int k = 0; k < 16; ++k) {
+                for (int l = 0; l < 16; ++l) {
+                    if (j != 0 && j != 15 && k != 0 && k != 15 && l != 0 && l != 15) {
+                        continue;
+                    }
+                    double d0 = (float) j / 15.0F * 2.0F - 1.0F;
+                    double d1 = (float) k / 15.0F * 2.0F - 1.0F;
+                    double d2 = (float) l / 15.0F * 2.0F - 1.0F;
+                    double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                    d0 /= d3;
+                    d1 /= d3;
+                    d2 /= d3;
+                    float f = radius * (0.7F + random.nextFloat() * 0.6F);
+                    double x = origin.x;
+                    double y = origin.y;
+                    double z = origin.z;
+                    for (; f > 0.0F; f -= 0.22500001F) {
+                        BlockPos pos = new BlockPos(Mth.floor(x), Mth.floor(y), Mth.floor(z));
+                        BlockState state = level.getBlockState(pos);
+                        FluidState fluid = state.getFluidState();
+                        if (level.isOutsideBuildHeight(pos)) {
+                            break;
+                        }
+                        if (!state.isAir() || !fluid.isEmpty()) {
+                            f -= (Math.max(state.getBlock().getExplosionResistance(), fluid.getExplosionResistance()) + 0.3F) * 0.3F;
+                        }
+                        if (f > 0.0F) {
+                            set.add(pos.asLong());
+                        }
+                        x += d0 * 0.3F;
+                        y += d1 * 0.3F;
+                        z += d2 * 0.3F;
+                    }
+                }
+            }
+        }
+        return set;
+    }
+
+    @Benchmark
+    public int legacyRayMarch() {
+        ConcurrentHashMap<BlockPos, Boolean> destroyed = new ConcurrentHashMap<>();
+        LinkedBlockingQueue<BlockPos> toDestroy = new LinkedBlockingQueue<>(10000);
+        ExplosionRayMarcher.march(
+            new OptimizedExplosionCache(volume),
+            RandomSource.create(RAY_SEED),
+            pos -> false,
+            center,
+            power,
+            destroyed,
+            toDestroy
+        );
+        return toDestroy.size();
+    }
+
+    @Benchmark
+    public int vanillaRayMarch() {
+        return vanillaRays(volume, RandomSource.create(RAY_SEED), center, power).size();
+    }
+
+    @Benchmark
+    public int rayEngine() {
+        return engine.march(volume, RandomSource.create(RAY_SEED), center.x, center.y, center.z, power);
+    }
+
+    @Benchmark
+    public int rayTemplate() {
+        return engine.march(template, volume, RandomSource.create(RAY_SEED));
+    }
+}
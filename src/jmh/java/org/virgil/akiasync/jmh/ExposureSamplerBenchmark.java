@@ -0,0 +1,117 @@
+package org.virgil.akiasync.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.virgil.akiasync.jmh.fixture.SyntheticBlockVolume;
+import org.virgil.akiasync.mixin.async.explosion.ExplosionSnapshot;
+import org.virgil.akiasync.mixin.async.explosion.ExposureSampler;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ExposureSamplerBenchmark {
+
+    private static final BlockPos ORIGIN = new BlockPos(0, 64, 0);
+    private static final double RADIUS = 8.0;
+
+    @Param({"64", "512"})
+    public int entityCount;
+
+    @Param({"cannonChamber", "naturalTerrain"})
+    public String terrain;
+
+    private SyntheticBlockVolume volume;
+    private Vec3 center;
+    private List<ExplosionSnapshot.EntitySnapshot> entities;
+    private ExposureSampler sampler;
+
+    @Setup
+    public void setup() {
+        volume = switch (terrain) {
+            case "naturalTerrain" -> SyntheticBlockVolume.naturalTerrain(ORIGIN, 12, 42L);
+            default -> SyntheticBlockVolume.cannonChamber(ORIGIN, 12, 42L);
+        };
+        center = Vec3.atCenterOf(ORIGIN);
+        sampler = new ExposureSampler();
+
+        SplittableRandom random = new SplittableRandom(0xE8905L);
+        entities = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            double x = center.x + random.nextDouble(-9, 9);
+            double y = center.y + random.nextDouble(-3, 3);
+            double z = center.z + random.nextDouble(-9, 9);
+            AABB box = new AABB(x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3);
+            entities.add(new ExplosionSnapshot.EntitySnapshot(new UUID(0L, i), i, new Vec3(x, y, z), box));
+        }
+        verifyEquivalence();
+    }
+
+    private void verifyEquivalence() {
+        if (!ExposureSampler.isVectorAvailable()) {
+            return;
+        }
+        int scalarCount = sampler.filterInRange(entities, center.x, center.y, center.z, RADIUS, false);
+        int[] scalarIndices = new int[scalarCount];
+        for (int i = 0; i < scalarCount; i++) {
+            scalarIndices[i] = sampler.getInRange(i);
+        }
+        int vectorCount = sampler.filterInRange(entities, center.x, center.y, center.z, RADIUS, true);
+        if (vectorCount != scalarCount) {
+            throw new IllegalStateException("Vector range filter diverged (" + vectorCount + " vs " + scalarCount + ")");
+        }
+        for (int i = 0; i < scalarCount; i++) {
+            if (sampler.getInRange(i) != scalarIndices[i]) {
+                throw new IllegalStateException("Vector range filter diverged at index " + i);
+            }
+            AABB box = entities.get(scalarIndices[i]).getBoundingBox();
+            double scalar = sampler.exposure(volume, center.x, center.y, center.z, box, false);
+            double vector = sampler.exposure(volume, center.x, center.y, center.z, box, true);
+            if (scalar != vector) {
+                throw new IllegalStateException("Vector exposure diverged for entity " + scalarIndices[i]
+                    + " (" + vector + " vs " + scalar + ")");
+            }
+        }
+    }
+
+    private double sampleAll(boolean vectorize) {
+        double total = 0;
+        int inRange = sampler.filterInRange(entities, center.x, center.y, center.z, RADIUS, vectorize);
+        for (int i = 0; i < inRange; i++) {
+            AABB box = entities.get(sampler.getInRange(i)).getBoundingBox();
+            total += sampler.exposure(volume, center.x, center.y, center.z, box, vectorize);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double scalarExposure() {
+        return sampleAll(false);
+    }
+
+    @Benchmark
+    public double vectorExposure() {
+        return sampleAll(true);
+    }
+}
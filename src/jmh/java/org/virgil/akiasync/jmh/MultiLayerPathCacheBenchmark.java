@@ -0,0 +1,105 @@
+package org.virgil.akiasync.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.virgil.akiasync.mixin.pathfinding.MultiLayerPathCache;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MultiLayerPathCacheBenchmark {
+
+    @Param({"100", "1000"})
+    public int cachedPaths;
+
+    private BlockPos[] starts;
+    private BlockPos[] targets;
+    private Path[] paths;
+    private BlockPos[] missStarts;
+    private MultiLayerPathCache cache;
+    private int cursor;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(17L);
+        starts = new BlockPos[cachedPaths];
+        targets = new BlockPos[cachedPaths];
+        paths = new Path[cachedPaths];
+        missStarts = new BlockPos[256];
+
+        for (int i = 0; i < cachedPaths; i++) {
+            starts[i] = new BlockPos(random.nextInt(-256, 256), 64, random.nextInt(-256, 256));
+            targets[i] = starts[i].offset(random.nextInt(-32, 32), 0, random.nextInt(-32, 32));
+            paths[i] = straightPath(starts[i], targets[i]);
+        }
+        for (int i = 0; i < missStarts.length; i++) {
+            missStarts[i] = new BlockPos(random.nextInt(1024, 2048), 64, random.nextInt(1024, 2048));
+        }
+
+        cache = new MultiLayerPathCache();
+        for (int i = 0; i < cachedPaths; i++) {
+            cache.put(starts[i], targets[i], paths[i]);
+        }
+    }
+
+    private static Path straightPath(BlockPos start, BlockPos target) {
+        List<Node> nodes = new ArrayList<>();
+        int steps = Math.max(Math.abs(target.getX() - start.getX()), Math.abs(target.getZ() - start.getZ()));
+        for (int i = 0; i <= steps; i++) {
+            double t = steps == 0 ? 1.0 : (double) i / steps;
+            nodes.add(new Node(
+                (int) Math.round(start.getX() + (target.getX() - start.getX()) * t),
+                start.getY(),
+                (int) Math.round(start.getZ() + (target.getZ() - start.getZ()) * t)));
+        }
+        return new Path(nodes, target, true);
+    }
+
+    @Benchmark
+    public Path getHit() {
+        int i = cursor++ % cachedPaths;
+        return cache.get(starts[i], targets[i]);
+    }
+
+    @Benchmark
+    public Path getMiss() {
+        BlockPos start = missStarts[cursor++ & 255];
+        return cache.get(start, start.offset(8, 0, 8));
+    }
+
+    @Benchmark
+    public Path getSimilar() {
+        int i = cursor++ % cachedPaths;
+        return cache.get(starts[i].offset(1, 0, 1), targets[i].offset(-1, 0, 0));
+    }
+
+    @Benchmark
+    public void put(Blackhole blackhole) {
+        int i = cursor++ % cachedPaths;
+        cache.put(starts[i], targets[i].above(), paths[i]);
+        blackhole.consume(cache);
+    }
+}
@@ -0,0 +1,89 @@
+package org.virgil.akiasync.jmh;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.virgil.akiasync.jmh.fixture.SyntheticEntities;
+import org.virgil.akiasync.mixin.util.SectionEntityGrid;
+
+import net.minecraft.world.entity.Marker;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SectionEntityGridBenchmark {
+
+    @Param({"64", "512"})
+    public int entityCount;
+
+    private Marker[] entities;
+    private SectionEntityGrid grid;
+    private AABB[] queries;
+    private Vec3[] jitteredPositions;
+    private int moveCursor;
+
+    @Setup
+    public void setup() {
+        entities = SyntheticEntities.markers(entityCount, 8, 3L);
+        grid = new SectionEntityGrid();
+        for (Marker entity : entities) {
+            grid.addEntity(entity);
+        }
+
+        SplittableRandom random = new SplittableRandom(5L);
+        queries = new AABB[64];
+        for (int i = 0; i < queries.length; i++) {
+            double x = random.nextDouble(-8, 6);
+            double y = random.nextDouble(64, 78);
+            double z = random.nextDouble(-8, 6);
+            queries[i] = new AABB(x, y, z, x + 2, y + 2, z + 2);
+        }
+
+        jitteredPositions = new Vec3[1024];
+        for (int i = 0; i < jitteredPositions.length; i++) {
+            jitteredPositions[i] = new Vec3(random.nextDouble(-8, 8), random.nextDouble(64, 80), random.nextDouble(-8, 8));
+        }
+    }
+
+    @Benchmark
+    public void queryAABB(Blackhole blackhole) {
+        for (AABB query : queries) {
+            blackhole.consume(grid.queryAABB(query));
+        }
+    }
+
+    @Benchmark
+    public void countCollisions(Blackhole blackhole) {
+        for (int i = 0; i < Math.min(64, entities.length); i++) {
+            blackhole.consume(grid.countCollisions(entities[i], 1.0));
+        }
+    }
+
+    @Benchmark
+    public void moveAndUpdate() {
+        int cursor = moveCursor;
+        for (int i = 0; i < 64; i++) {
+            Marker entity = entities[(cursor + i) % entities.length];
+            SyntheticEntities.moveTo(entity, jitteredPositions[(cursor + i) & 1023], 0.6, 1.8);
+            grid.updateEntity(entity);
+        }
+        moveCursor = cursor + 64;
+    }
+}
@@ -0,0 +1,86 @@
+package org.virgil.akiasync.jmh;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.virgil.akiasync.mixin.async.explosion.VectorizedAABBIntersection;
+
+import net.minecraft.world.phys.AABB;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VectorizedAABBIntersectionBenchmark {
+
+    @Param({"64", "512", "4096"})
+    public int boxCount;
+
+    private AABB[] boxes;
+    private Integer[] objects;
+    private float[] xmin, ymin, zmin, xmax, ymax, zmax;
+    private AABB query;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0xAABBL);
+        boxes = new AABB[boxCount];
+        objects = new Integer[boxCount];
+        xmin = new float[boxCount];
+        ymin = new float[boxCount];
+        zmin = new float[boxCount];
+        xmax = new float[boxCount];
+        ymax = new float[boxCount];
+        zmax = new float[boxCount];
+
+        for (int i = 0; i < boxCount; i++) {
+            double x = random.nextDouble(-32, 32);
+            double y = random.nextDouble(48, 80);
+            double z = random.nextDouble(-32, 32);
+            AABB box = new AABB(x, y, z, x + 0.6, y + 1.8, z + 0.6);
+            boxes[i] = box;
+            objects[i] = i;
+            xmin[i] = (float) box.minX;
+            ymin[i] = (float) box.minY;
+            zmin[i] = (float) box.minZ;
+            xmax[i] = (float) box.maxX;
+            ymax[i] = (float) box.maxY;
+            zmax[i] = (float) box.maxZ;
+        }
+
+        query = new AABB(-8, 56, -8, 8, 72, 8);
+    }
+
+    @Benchmark
+    public void unrolled(Blackhole blackhole) {
+        VectorizedAABBIntersection.intersectsWithVector(
+            (float) query.minX, (float) query.minY, (float) query.minZ,
+            (float) query.maxX, (float) query.maxY, (float) query.maxZ,
+            xmin, ymin, zmin, xmax, ymax, zmax,
+            boxes, objects,
+            (box, object) -> blackhole.consume(object));
+    }
+
+    @Benchmark
+    public void scalarAABB(Blackhole blackhole) {
+        for (int i = 0; i < boxes.length; i++) {
+            if (boxes[i].intersects(query)) {
+                blackhole.consume(objects[i]);
+            }
+        }
+    }
+}
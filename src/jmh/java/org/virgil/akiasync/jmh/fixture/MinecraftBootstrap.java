@@ -0,0 +1,21 @@
+package org.virgil.akiasync.jmh.fixture;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+public final class MinecraftBootstrap {
+
+    private static volatile boolean bootstrapped = false;
+
+    private MinecraftBootstrap() {
+    }
+
+    public static synchronized void ensure() {
+        if (bootstrapped) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+}
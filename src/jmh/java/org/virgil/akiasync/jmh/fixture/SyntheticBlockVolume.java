@@ -0,0 +1,126 @@
+package org.virgil.akiasync.jmh.fixture;
+
+import java.util.SplittableRandom;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+
+public final class SyntheticBlockVolume implements BlockGetter {
+
+    private final int originX;
+    private final int originY;
+    private final int originZ;
+    private final int size;
+    private final BlockState[] states;
+    private final BlockState outside;
+
+    private SyntheticBlockVolume(int originX, int originY, int originZ, int size, BlockState[] states, BlockState outside) {
+        this.originX = originX;
+        this.originY = originY;
+        this.originZ = originZ;
+        this.size = size;
+        this.states = states;
+        this.outside = outside;
+    }
+
+    public static SyntheticBlockVolume cannonChamber(BlockPos center, int radius, long seed) {
+        return create(center, radius, seed, 0.05, 0.10, 0.0, 0.35);
+    }
+
+    public static SyntheticBlockVolume naturalTerrain(BlockPos center, int radius, long seed) {
+        return create(center, radius, seed, 0.55, 0.02, 0.05, 0.0);
+    }
+
+    public static SyntheticBlockVolume obsidianBunker(BlockPos center, int radius, long seed) {
+        return create(center, radius, seed, 0.10, 0.0, 0.0, 0.80);
+    }
+
+    private static SyntheticBlockVolume create(
+            BlockPos center, int radius, long seed,
+            double stoneRatio, double waterRatio, double dirtRatio, double obsidianRatio) {
+        MinecraftBootstrap.ensure();
+
+        int size = radius * 2 + 1;
+        BlockState[] states = new BlockState[size * size * size];
+        SplittableRandom random = new SplittableRandom(seed);
+
+        BlockState air = Blocks.AIR.defaultBlockState();
+        BlockState stone = Blocks.STONE.defaultBlockState();
+        BlockState water = Blocks.WATER.defaultBlockState();
+        BlockState dirt = Blocks.DIRT.defaultBlockState();
+        BlockState obsidian = Blocks.OBSIDIAN.defaultBlockState();
+
+        for (int i = 0; i < states.length; i++) {
+            double roll = random.nextDouble();
+            if (roll < obsidianRatio) {
+                states[i] = obsidian;
+            } else if (roll < obsidianRatio + stoneRatio) {
+                states[i] = stone;
+            } else if (roll < obsidianRatio + stoneRatio + waterRatio) {
+                states[i] = water;
+            } else if (roll < obsidianRatio + stoneRatio + waterRatio + dirtRatio) {
+                states[i] = dirt;
+            } else {
+                states[i] = air;
+            }
+        }
+
+        int centerIndex = index(radius, radius, radius, size);
+        states[centerIndex] = air;
+
+        return new SyntheticBlockVolume(
+            center.getX() - radius, center.getY() - radius, center.getZ() - radius,
+            size, states, air);
+    }
+
+    private static int index(int x, int y, int z, int size) {
+        return (y * size + z) * size + x;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        int x = pos.getX() - originX;
+        int y = pos.getY() - originY;
+        int z = pos.getZ() - originZ;
+        if (x < 0 || y < 0 || z < 0 || x >= size || y >= size || z >= size) {
+            return outside;
+        }
+        return states[index(x, y, z, size)];
+    }
+
+    public BlockState getBlockStateIfLoaded(BlockPos pos) {
+        return getBlockState(pos);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    public FluidState getFluidIfLoaded(BlockPos pos) {
+        return getFluidState(pos);
+    }
+
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public int getHeight() {
+        return 384;
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return -64;
+    }
+
+    public int getVolume() {
+        return states.length;
+    }
+}
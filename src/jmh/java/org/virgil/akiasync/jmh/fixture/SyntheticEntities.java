@@ -0,0 +1,97 @@
+package org.virgil.akiasync.jmh.fixture;
+
+import java.lang.reflect.Field;
+import java.util.SplittableRandom;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Marker;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import sun.misc.Unsafe;
+
+// Level-less entities: constructors are skipped and only id/position/bb are populated,
+// which is everything the spatial grids read.
+public final class SyntheticEntities {
+
+    private static final Unsafe UNSAFE;
+    private static final Field ID;
+    private static final Field POSITION;
+    private static final Field BLOCK_POSITION;
+    private static final Field BOUNDING_BOX;
+
+    static {
+        try {
+            Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            UNSAFE = (Unsafe) unsafeField.get(null);
+            ID = accessible("id");
+            POSITION = accessible("position");
+            BLOCK_POSITION = accessible("blockPosition");
+            BOUNDING_BOX = accessible("bb");
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private SyntheticEntities() {
+    }
+
+    private static Field accessible(String name) throws NoSuchFieldException {
+        Field field = Entity.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    public static ArmorStand[] livingEntities(int count, int spread, long seed) {
+        MinecraftBootstrap.ensure();
+        SplittableRandom random = new SplittableRandom(seed);
+        ArmorStand[] entities = new ArmorStand[count];
+        for (int i = 0; i < count; i++) {
+            entities[i] = allocate(ArmorStand.class, i + 1, randomPosition(random, spread), 0.5, 1.975);
+        }
+        return entities;
+    }
+
+    public static Marker[] markers(int count, int spread, long seed) {
+        MinecraftBootstrap.ensure();
+        SplittableRandom random = new SplittableRandom(seed);
+        Marker[] entities = new Marker[count];
+        for (int i = 0; i < count; i++) {
+            entities[i] = allocate(Marker.class, i + 1, randomPosition(random, spread), 0.6, 1.8);
+        }
+        return entities;
+    }
+
+    public static void moveTo(Entity entity, Vec3 position, double width, double height) {
+        try {
+            double half = width / 2.0;
+            POSITION.set(entity, position);
+            BLOCK_POSITION.set(entity, BlockPos.containing(position));
+            BOUNDING_BOX.set(entity, new AABB(
+                position.x - half, position.y, position.z - half,
+                position.x + half, position.y + height, position.z + half));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Vec3 randomPosition(SplittableRandom random, int spread) {
+        return new Vec3(
+            random.nextDouble(-spread, spread),
+            64 + random.nextDouble(0, 16),
+            random.nextDouble(-spread, spread));
+    }
+
+    private static <T extends Entity> T allocate(Class<T> type, int id, Vec3 position, double width, double height) {
+        try {
+            T entity = type.cast(UNSAFE.allocateInstance(type));
+            ID.setInt(entity, id);
+            moveTo(entity, position, width, height);
+            return entity;
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Failed to allocate synthetic " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -23,6 +23,7 @@ public final class AkiAsyncPlugin extends JavaPlugin {
     private org.virgil.akiasync.throttling.EntityThrottlingManager throttlingManager;
     private ChunkLoadPriorityScheduler chunkLoadScheduler;
     private java.util.concurrent.ScheduledExecutorService metricsScheduler;
+    private org.virgil.akiasync.metrics.MetricsHttpExporter metricsExporter;
     private org.virgil.akiasync.compat.VirtualEntityCompatManager virtualEntityCompatManager;
     private org.virgil.akiasync.crypto.QuantumSeedManager quantumSeedManager;
 
@@ -143,6 +144,15 @@ public final class AkiAsyncPlugin extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new org.virgil.akiasync.listener.WorldUnloadListener(this), this);
         getServer().getPluginManager().registerEvents(new org.virgil.akiasync.listener.PlayerPathPrewarmListener(this), this);
         
+        if (configManager.isPathPersistentCacheEnabled()) {
+            org.virgil.akiasync.mixin.pathfinding.PersistentPathStore.configure(true,
+                getDataFolder().toPath().resolve("path-cache"),
+                configManager.getPathPersistentCacheMaxEntries(),
+                configManager.getPathPersistentCacheMinHits());
+            getServer().getPluginManager().registerEvents(new org.virgil.akiasync.listener.PathCacheWarmStartListener(this), this);
+            getLogger().info("[AkiAsync] Persistent path cache enabled");
+        }
+        
         if (configManager.isSeedCommandRestrictionEnabled()) {
             getServer().getPluginManager().registerEvents(new org.virgil.akiasync.listener.SeedCommandListener(this), this);
             getLogger().info("[AkiAsync] /seed command restriction enabled (OP only)");
@@ -167,6 +177,10 @@ public final class AkiAsyncPlugin extends JavaPlugin {
             startCombinedMetrics();
         }
 
+        if (configManager.isMetricsExporterEnabled()) {
+            startMetricsExporter();
+        }
+
         getLogger().info("========================================");
         getLogger().info("  AkiAsync - Async Optimization Plugin");
         getLogger().info("========================================");
@@ -201,6 +215,13 @@ public final class AkiAsyncPlugin extends JavaPlugin {
             metricsScheduler.shutdownNow();
         }
 
+        stopMetricsExporter();
+
+        try {
+            org.virgil.akiasync.mixin.pathfinding.PersistentPathStore.saveAll();
+        } catch (Exception e) {
+            getLogger().warning("[AkiAsync] Failed to save persistent path cache: " + e.getMessage());
+        }
         org.virgil.akiasync.mixin.pathfinding.AsyncPathProcessor.shutdown();
         
         try {
@@ -246,6 +267,8 @@ public final class AkiAsyncPlugin extends JavaPlugin {
             chunkLoadScheduler.shutdown();
         }
 
+        org.virgil.akiasync.mixin.async.chunk.ChunkSaveExecutor.shutdown(10, java.util.concurrent.TimeUnit.SECONDS);
+
         if (executorManager != null) {
             executorManager.shutdown();
         }
@@ -352,6 +375,41 @@ public final class AkiAsyncPlugin extends JavaPlugin {
         }
     }
 
+    public void startMetricsExporter() {
+        if (metricsExporter != null) {
+            return;
+        }
+        org.virgil.akiasync.metrics.MetricsHttpExporter exporter = new org.virgil.akiasync.metrics.MetricsHttpExporter(
+            this,
+            configManager.getMetricsExporterBindAddress(),
+            configManager.getMetricsExporterPort(),
+            configManager.getMetricsExporterPath()
+        );
+        try {
+            exporter.start();
+            metricsExporter = exporter;
+        } catch (java.io.IOException e) {
+            getLogger().warning("[AkiAsync] Failed to start metrics exporter on " +
+                configManager.getMetricsExporterBindAddress() + ":" + configManager.getMetricsExporterPort() +
+                ": " + e.getMessage());
+        }
+    }
+
+    public void stopMetricsExporter() {
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+            metricsExporter = null;
+        }
+    }
+
+    public void restartMetricsExporter() {
+        stopMetricsExporter();
+
+        if (configManager.isMetricsExporterEnabled()) {
+            startMetricsExporter();
+        }
+    }
+
     private void registerCommand(String name, org.bukkit.command.CommandExecutor executor) {
         org.bukkit.command.PluginCommand command = getCommand(name);
         if (command != null) {
@@ -1,6 +1,7 @@
 package org.virgil.akiasync.async.datapack;
 
 import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.mixin.optimization.thread.VirtualThreadService;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
@@ -9,6 +10,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.List;
 import java.util.ArrayList;
@@ -21,6 +23,7 @@ public class DataPackLoadOptimizer {
 
     private final ExecutorService fileLoadExecutor;
     private final ExecutorService zipProcessExecutor;
+    private final ScheduledExecutorService cleanupExecutor;
 
     private final Map<String, CachedFileSystem> fileSystemCache;
     private final Map<String, CachedFileEntry> fileCache;
@@ -45,12 +48,8 @@ public class DataPackLoadOptimizer {
 
         updateConfiguration();
 
-        this.fileLoadExecutor = Executors.newFixedThreadPool(fileLoadThreads, r -> {
-            Thread t = new Thread(r, "AkiAsync-DataPack-FileLoad-" + System.currentTimeMillis());
-            t.setDaemon(true);
-            t.setPriority(Thread.NORM_PRIORITY - 1);
-            return t;
-        });
+        this.fileLoadExecutor = VirtualThreadService.newBlockingExecutor(
+            "AkiAsync-DataPack-FileLoad-", fileLoadThreads, Thread.NORM_PRIORITY - 1);
 
         this.zipProcessExecutor = Executors.newFixedThreadPool(zipProcessThreads, r -> {
             Thread t = new Thread(r, "AkiAsync-DataPack-ZipProcess-" + System.currentTimeMillis());
@@ -59,6 +58,8 @@ public class DataPackLoadOptimizer {
             return t;
         });
 
+        this.cleanupExecutor = VirtualThreadService.newScheduledExecutor("AkiAsync-DataPack-Cleanup-");
+
         startCleanupTask();
     }
 
@@ -253,11 +254,7 @@ public class DataPackLoadOptimizer {
     }
 
     private void startCleanupTask() {
-        Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "AkiAsync-DataPack-Cleanup");
-            t.setDaemon(true);
-            return t;
-        }).scheduleAtFixedRate(this::performCleanup, 10, 10, java.util.concurrent.TimeUnit.MINUTES);
+        cleanupExecutor.scheduleAtFixedRate(this::performCleanup, 10, 10, java.util.concurrent.TimeUnit.MINUTES);
     }
 
     private void performCleanup() {
@@ -355,6 +352,7 @@ public class DataPackLoadOptimizer {
     }
 
     public void shutdown() {
+        cleanupExecutor.shutdownNow();
         fileLoadExecutor.shutdown();
         zipProcessExecutor.shutdown();
 
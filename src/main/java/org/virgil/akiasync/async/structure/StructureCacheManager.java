@@ -2,9 +2,9 @@ package org.virgil.akiasync.async.structure;
 
 import net.minecraft.core.BlockPos;
 import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.mixin.optimization.thread.VirtualThreadService;
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -32,11 +32,7 @@ public class StructureCacheManager {
         this.plugin = plugin;
         this.structureCache = new ConcurrentHashMap<>();
         this.negativeCache = new ConcurrentHashMap<>();
-        this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "AkiAsync-StructureCache-Cleanup");
-            t.setDaemon(true);
-            return t;
-        });
+        this.cleanupExecutor = VirtualThreadService.newScheduledExecutor("AkiAsync-StructureCache-Cleanup-");
 
         updateConfiguration();
         startCleanupTask();
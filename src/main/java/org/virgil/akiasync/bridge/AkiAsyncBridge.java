@@ -15,6 +15,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
     private final AkiAsyncPlugin plugin;
     private ConfigManager config;
     private final ExecutorService generalExecutor;
+    private final java.util.concurrent.Executor structureSearchExecutor;
     private final ExecutorService lightingExecutor;
     private final ExecutorService tntExecutor;
     private final ExecutorService chunkTickExecutor;
@@ -30,6 +31,8 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
         this.plugin = plugin;
         this.config = plugin.getConfigManager();
         this.generalExecutor = generalExecutor;
+        this.structureSearchExecutor = org.virgil.akiasync.mixin.async.executor.TickDeadlineScheduler.executorFor(
+            org.virgil.akiasync.mixin.async.executor.TickDeadlineScheduler.TickPhase.BACKGROUND, generalExecutor);
         this.lightingExecutor = lightingExecutor;
         this.tntExecutor = tntExecutor;
         this.chunkTickExecutor = chunkTickExecutor;
@@ -285,6 +288,18 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
         return config.isAsyncPathfindingSyncFallbackEnabled(); 
     }
     
+    @Override
+    public boolean isPathRegionGraphEnabled() { return config.isPathRegionGraphEnabled(); }
+    
+    @Override
+    public int getPathRegionGraphMinDistance() { return config.getPathRegionGraphMinDistance(); }
+    
+    @Override
+    public int getPathTickBudget() { return config.getPathTickBudget(); }
+    
+    @Override
+    public int getPathMaxDeferralTicks() { return config.getPathMaxDeferralTicks(); }
+    
     @Override
     public boolean isEnhancedPathfindingEnabled() { return config.isEnhancedPathfindingEnabled(); }
     
@@ -293,11 +308,6 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
         return config.getEnhancedPathfindingMaxConcurrentRequests(); 
     }
     
-    @Override
-    public int getEnhancedPathfindingMaxRequestsPerTick() { 
-        return config.getEnhancedPathfindingMaxRequestsPerTick(); 
-    }
-    
     @Override
     public int getEnhancedPathfindingHighPriorityDistance() { 
         return config.getEnhancedPathfindingHighPriorityDistance(); 
@@ -544,6 +554,15 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
     @Override
     public int getTNTBatchSize() {return config.getTNTBatchSize();}
 
+    @Override
+    public boolean isTNTBatchResolveEnabled() {return config.isTNTBatchResolveEnabled();}
+
+    @Override
+    public boolean isTNTPrecomputedShapeEnabled() {return config.isTntPrecomputedShapeEnabled();}
+
+    @Override
+    public boolean isTNTVectorExposureEnabled() {return config.isTNTVectorExposureEnabled();}
+
     @Override
     public boolean isTNTDebugEnabled() {return config.isTNTDebugEnabled();}
 
@@ -910,7 +929,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
                 System.err.println("[AkiAsync] Error in async locate command: " + e.getMessage());
                 return null;
             }
-        }, generalExecutor).whenComplete((foundStructure, asyncThrowable) -> {
+        }, structureSearchExecutor).whenComplete((foundStructure, asyncThrowable) -> {
             handleLocateCommandResult(sourceStack, foundStructure, asyncThrowable);
         });
     }
@@ -993,7 +1012,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
                     System.err.println("[AkiAsync] Error in async dolphin treasure hunt: " + e.getMessage());
                     return null;
                 }
-            }, generalExecutor).whenComplete((foundTreasure, asyncThrowable) -> {
+            }, structureSearchExecutor).whenComplete((foundTreasure, asyncThrowable) -> {
                 handleDolphinTreasureResult(dolphin, foundTreasure, asyncThrowable);
             });
             return;
@@ -1064,7 +1083,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
                 e.printStackTrace();
                 return null;
             }
-        }, generalExecutor).whenComplete((foundStructure, asyncThrowable) -> {
+        }, structureSearchExecutor).whenComplete((foundStructure, asyncThrowable) -> {
             handleChestExplorationMapResult(stack, context, foundStructure, mapDecoration, zoom, asyncThrowable, cir);
         });
     }
@@ -1139,7 +1158,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
                 e.printStackTrace();
                 return null;
             }
-        }, generalExecutor).whenComplete((foundStructure, asyncThrowable) -> {
+        }, structureSearchExecutor).whenComplete((foundStructure, asyncThrowable) -> {
             handleVillagerTradeMapResult(offer, trader, foundStructure, destinationType, displayName, maxUses, villagerXp, asyncThrowable, cir);
         });
     }
@@ -1781,16 +1800,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge,
                     default -> TaskSmoothingScheduler.Priority.NORMAL;
                 };
                 
-                int successCount = 0;
-                String cat = category != null ? category : "Unknown";
-                
-                for (Runnable task : tasks) {
-                    if (task != null && smoothScheduler.submit(task, pri, cat)) {
-                        successCount++;
-                    }
-                }
-                
-                return successCount;
+                return smoothScheduler.submitBatch(tasks, pri, category != null ? category : "Unknown");
             }
         } catch (Exception e) {
 
@@ -1,5 +1,7 @@
 package org.virgil.akiasync.cache;
 
+import org.virgil.akiasync.mixin.async.explosion.density.SakuraBlockDensityCache;
+import org.virgil.akiasync.mixin.async.redstone.RedstoneWireHelper;
 import org.virgil.akiasync.mixin.bridge.Bridge;
 import org.virgil.akiasync.mixin.bridge.BridgeManager;
 
@@ -61,6 +63,36 @@ public class SakuraCacheStatistics {
         return sb.toString();
     }
     
+    public static long getDensityExactHits() {
+        return SakuraBlockDensityCache.getExactHits();
+    }
+    
+    public static long getDensityLenientHits() {
+        return SakuraBlockDensityCache.getLenientHits();
+    }
+    
+    public static long getDensityMisses() {
+        return SakuraBlockDensityCache.getMisses();
+    }
+    
+    public static long getDensityInvalidations() {
+        return SakuraBlockDensityCache.getInvalidations();
+    }
+    
+    public static double getDensityHitRate() {
+        long hits = getDensityExactHits() + getDensityLenientHits();
+        long total = hits + getDensityMisses();
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+    
+    public static int getDensityCacheLevelCount() {
+        return SakuraBlockDensityCache.getLevelCacheCount();
+    }
+    
+    public static int getPandaWireEvaluatorCount() {
+        return RedstoneWireHelper.getEvaluatorCount();
+    }
+    
     public static void performPeriodicCleanup() {
         Bridge bridge = BridgeManager.getBridge();
         if (bridge != null) {
@@ -5,6 +5,8 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.status.ChunkStatus;
 import org.virgil.akiasync.config.ConfigManager;
+import org.virgil.akiasync.mixin.async.executor.ExecutorTopology;
+import org.virgil.akiasync.mixin.async.executor.WeightedLane;
 
 import java.util.*;
 import java.util.concurrent.*;
@@ -14,6 +16,9 @@ public class ChunkLoadPriorityScheduler {
     
     private final ConfigManager config;
     private final ExecutorService loadExecutor;
+    private final boolean sharedLane;
+    private final int loaderCount;
+    private final AtomicInteger activeLoaders = new AtomicInteger(0);
     private final PriorityBlockingQueue<ChunkLoadTask> taskQueue;
     private final Map<UUID, PlayerLoadStats> playerStats;
     private final ScheduledExecutorService scheduler;
@@ -28,13 +33,20 @@ public class ChunkLoadPriorityScheduler {
         this.taskQueue = new PriorityBlockingQueue<>(1000, Comparator.comparingInt(ChunkLoadTask::getPriority).reversed());
         this.playerStats = new ConcurrentHashMap<>();
         
-        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 4);
-        this.loadExecutor = Executors.newFixedThreadPool(threads, r -> {
-            Thread t = new Thread(r, "AkiAsync-ChunkLoader");
-            t.setPriority(Thread.NORM_PRIORITY - 1); 
-            t.setDaemon(true);
-            return t;
-        });
+        this.loaderCount = Math.max(2, Runtime.getRuntime().availableProcessors() / 4);
+        WeightedLane lane = ExecutorTopology.laneOrNull(ExecutorTopology.CHUNK_LOAD);
+        if (lane != null) {
+            this.loadExecutor = lane;
+            this.sharedLane = true;
+        } else {
+            this.loadExecutor = Executors.newFixedThreadPool(loaderCount, r -> {
+                Thread t = new Thread(r, "AkiAsync-ChunkLoader");
+                t.setPriority(Thread.NORM_PRIORITY - 1); 
+                t.setDaemon(true);
+                return t;
+            });
+            this.sharedLane = false;
+        }
         
         this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "AkiAsync-ChunkScheduler");
@@ -47,8 +59,10 @@ public class ChunkLoadPriorityScheduler {
         if (running) return;
         running = true;
         
-        for (int i = 0; i < Math.max(2, Runtime.getRuntime().availableProcessors() / 4); i++) {
-            loadExecutor.submit(this::processQueue);
+        if (!sharedLane) {
+            for (int i = 0; i < loaderCount; i++) {
+                loadExecutor.submit(this::processQueue);
+            }
         }
         
         scheduler.scheduleAtFixedRate(this::cleanup, 10, 10, TimeUnit.SECONDS);
@@ -56,17 +70,21 @@ public class ChunkLoadPriorityScheduler {
     
     public void shutdown() {
         running = false;
-        loadExecutor.shutdown();
+        if (!sharedLane) {
+            loadExecutor.shutdown();
+        }
         scheduler.shutdown();
         try {
-            if (!loadExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            if (!sharedLane && !loadExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
                 loadExecutor.shutdownNow();
             }
             if (!scheduler.awaitTermination(2, TimeUnit.SECONDS)) {
                 scheduler.shutdownNow();
             }
         } catch (InterruptedException e) {
-            loadExecutor.shutdownNow();
+            if (!sharedLane) {
+                loadExecutor.shutdownNow();
+            }
             scheduler.shutdownNow();
             Thread.currentThread().interrupt();
         }
@@ -90,9 +108,80 @@ public class ChunkLoadPriorityScheduler {
         if (taskQueue.offer(task)) {
             totalQueued.incrementAndGet();
             stats.recordQueued();
+            if (sharedLane) {
+                scheduleDrain();
+            }
+        }
+    }
+    
+    private void scheduleDrain() {
+        while (running && !taskQueue.isEmpty()) {
+            int current = activeLoaders.get();
+            if (current >= loaderCount) {
+                return;
+            }
+            if (activeLoaders.compareAndSet(current, current + 1)) {
+                try {
+                    loadExecutor.execute(this::drainQueue);
+                } catch (RejectedExecutionException e) {
+                    activeLoaders.decrementAndGet();
+                }
+                return;
+            }
         }
     }
     
+    private void drainQueue() {
+        int batchSize = Math.max(1, config.getAsyncLoadingBatchSize());
+        long batchDelay = config.getAsyncLoadingBatchDelayMs();
+        int batchCount = 0;
+        
+        try {
+            ChunkLoadTask task;
+            while (running && batchCount < batchSize && (task = taskQueue.poll()) != null) {
+                if (System.currentTimeMillis() - task.getQueueTime() > 5000) {
+                    totalSkipped.incrementAndGet();
+                    continue;
+                }
+                
+                if (!task.getPlayer().isRemoved()) {
+                    loadChunkManaged(task);
+                    batchCount++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeLoaders.decrementAndGet();
+        }
+        
+        if (running && !taskQueue.isEmpty()) {
+            if (batchCount >= batchSize && batchDelay > 0) {
+                scheduler.schedule(this::scheduleDrain, batchDelay, TimeUnit.MILLISECONDS);
+            } else {
+                scheduleDrain();
+            }
+        }
+    }
+    
+    private void loadChunkManaged(ChunkLoadTask task) throws InterruptedException {
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            private boolean done = false;
+            
+            @Override
+            public boolean block() {
+                loadChunk(task);
+                done = true;
+                return true;
+            }
+            
+            @Override
+            public boolean isReleasable() {
+                return done;
+            }
+        });
+    }
+    
     private void processQueue() {
         int batchCount = 0;
         int batchSize = config.getAsyncLoadingBatchSize();
@@ -300,6 +300,40 @@ public class FoliaExecutorAdapter implements ExecutorService {
         }
     }
 
+    public boolean resize(int threads) {
+        if (!(fallbackExecutor instanceof ThreadPoolExecutor pool) || threads <= 0) {
+            return false;
+        }
+        if (threads > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(threads);
+            pool.setCorePoolSize(threads);
+        } else {
+            pool.setCorePoolSize(threads);
+            pool.setMaximumPoolSize(threads);
+        }
+        return true;
+    }
+
+    public int getCorePoolSize() {
+        return fallbackExecutor instanceof ThreadPoolExecutor pool ? pool.getCorePoolSize() : 0;
+    }
+
+    public int getActiveCount() {
+        return fallbackExecutor instanceof ThreadPoolExecutor pool ? pool.getActiveCount() : 0;
+    }
+
+    public int getPoolSize() {
+        return fallbackExecutor instanceof ThreadPoolExecutor pool ? pool.getPoolSize() : 0;
+    }
+
+    public int getQueueSize() {
+        return fallbackExecutor instanceof ThreadPoolExecutor pool ? pool.getQueue().size() : 0;
+    }
+
+    public long getCompletedTaskCount() {
+        return fallbackExecutor instanceof ThreadPoolExecutor pool ? pool.getCompletedTaskCount() : 0L;
+    }
+
     public String getStatus() {
         if (isFolia) {
             return "Folia mode - Global scheduler: " + (globalScheduler != null ? "available" : "unavailable");
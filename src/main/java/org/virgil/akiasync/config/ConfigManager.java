@@ -74,6 +74,13 @@ public class ConfigManager {
     private int asyncPathfindingMaxQueueSize;
     private int asyncPathfindingTimeoutMs;
     private boolean asyncPathfindingSyncFallbackEnabled;
+    private boolean pathRegionGraphEnabled;
+    private int pathRegionGraphMinDistance;
+    private int pathTickBudget;
+    private int pathMaxDeferralTicks;
+    private boolean pathPersistentCacheEnabled;
+    private int pathPersistentCacheMaxEntries;
+    private int pathPersistentCacheMinHits;
     private boolean asyncPathfindingCacheEnabled;
     private int asyncPathfindingCacheMaxSize;
     private int asyncPathfindingCacheExpireSeconds;
@@ -82,7 +89,6 @@ public class ConfigManager {
     
     private boolean enhancedPathfindingEnabled;
     private int enhancedPathfindingMaxConcurrentRequests;
-    private int enhancedPathfindingMaxRequestsPerTick;
     private int enhancedPathfindingHighPriorityDistance;
     private int enhancedPathfindingMediumPriorityDistance;
     private boolean pathPrewarmEnabled;
@@ -221,6 +227,8 @@ public class ConfigManager {
     private int tntMaxBlocks;
     private long tntTimeoutMicros;
     private int tntBatchSize;
+    private boolean tntBatchResolveEnabled;
+    private boolean tntVectorExposureEnabled;
     private boolean tntVanillaCompatibilityEnabled;
     private boolean tntUseVanillaPower;
     private boolean tntUseVanillaFireLogic;
@@ -289,6 +297,20 @@ public class ConfigManager {
     private double experienceOrbInactiveRange;
     private int experienceOrbInactiveMergeInterval;
     private boolean enablePerformanceMetrics;
+    private boolean metricsExporterEnabled;
+    private String metricsExporterBindAddress;
+    private int metricsExporterPort;
+    private String metricsExporterPath;
+    private String executorTopologyMode;
+    private int executorTopologyCpuBudget;
+    private int executorTopologyLaneQueueLimit;
+    private java.util.Map<String, Integer> executorTopologyWeights = new java.util.HashMap<>();
+    private boolean tickDeadlineSchedulerEnabled;
+    private double loadBalancerTargetMspt;
+    private double loadBalancerKp;
+    private double loadBalancerKi;
+    private double loadBalancerKd;
+    private double loadBalancerMinSubmitRate;
     private int configVersion;
 
     private boolean structureLocationAsyncEnabled;
@@ -509,10 +531,16 @@ public class ConfigManager {
         asyncPathfindingMaxQueueSize = config.getInt("async-ai.async-pathfinding.max-queue-size", 500);
         asyncPathfindingTimeoutMs = config.getInt("async-ai.async-pathfinding.timeout-ms", 100);
         asyncPathfindingSyncFallbackEnabled = config.getBoolean("async-ai.async-pathfinding.sync-fallback-enabled", true);
+        pathRegionGraphEnabled = config.getBoolean("async-ai.async-pathfinding.region-graph.enabled", true);
+        pathRegionGraphMinDistance = config.getInt("async-ai.async-pathfinding.region-graph.min-distance", 32);
+        pathTickBudget = config.getInt("async-ai.async-pathfinding.tick-budget.max-paths-per-tick", 32);
+        pathMaxDeferralTicks = config.getInt("async-ai.async-pathfinding.tick-budget.max-deferral-ticks", 40);
+        pathPersistentCacheEnabled = config.getBoolean("async-ai.async-pathfinding.persistent-cache.enabled", false);
+        pathPersistentCacheMaxEntries = config.getInt("async-ai.async-pathfinding.persistent-cache.max-entries", 2048);
+        pathPersistentCacheMinHits = config.getInt("async-ai.async-pathfinding.persistent-cache.min-hits", 3);
         
         enhancedPathfindingEnabled = config.getBoolean("async-ai.async-pathfinding.enhanced.enabled", true);
         enhancedPathfindingMaxConcurrentRequests = config.getInt("async-ai.async-pathfinding.enhanced.max-concurrent-requests", 30);
-        enhancedPathfindingMaxRequestsPerTick = config.getInt("async-ai.async-pathfinding.enhanced.max-requests-per-tick", 15);
         enhancedPathfindingHighPriorityDistance = config.getInt("async-ai.async-pathfinding.enhanced.priority.high-distance", 16);
         enhancedPathfindingMediumPriorityDistance = config.getInt("async-ai.async-pathfinding.enhanced.priority.medium-distance", 48);
         pathPrewarmEnabled = config.getBoolean("async-ai.async-pathfinding.enhanced.prewarm.enabled", true);
@@ -628,6 +656,8 @@ public class ConfigManager {
         tntMaxBlocks = config.getInt("tnt-explosion-optimization.max-blocks", 4096);
         tntTimeoutMicros = config.getLong("tnt-explosion-optimization.timeout-us", 100L);
         tntBatchSize = config.getInt("tnt-explosion-optimization.batch-size", 64);
+        tntBatchResolveEnabled = config.getBoolean("tnt-explosion-optimization.batch-resolve.enabled", true);
+        tntVectorExposureEnabled = config.getBoolean("tnt-explosion-optimization.vector-exposure.enabled", false);
         tntVanillaCompatibilityEnabled = config.getBoolean("tnt-explosion-optimization.vanilla-compatibility.enabled", true);
         tntUseVanillaPower = config.getBoolean("tnt-explosion-optimization.vanilla-compatibility.use-vanilla-power", true);
         tntUseVanillaFireLogic = config.getBoolean("tnt-explosion-optimization.vanilla-compatibility.use-vanilla-fire-logic", true);
@@ -675,6 +705,20 @@ public class ConfigManager {
         experienceOrbInactiveRange = config.getDouble("experience-orb-optimizations.inactive-tick.inactive-range", 32.0);
         experienceOrbInactiveMergeInterval = config.getInt("experience-orb-optimizations.inactive-tick.merge-interval", 100);
         enablePerformanceMetrics = config.getBoolean("performance.enable-metrics", true);
+        metricsExporterEnabled = config.getBoolean("performance.metrics-exporter.enabled", false);
+        metricsExporterBindAddress = config.getString("performance.metrics-exporter.bind-address", "127.0.0.1");
+        metricsExporterPort = config.getInt("performance.metrics-exporter.port", 9464);
+        metricsExporterPath = config.getString("performance.metrics-exporter.path", "/metrics");
+        executorTopologyMode = config.getString("executor-topology.mode", "unified");
+        executorTopologyCpuBudget = config.getInt("executor-topology.cpu-budget", 0);
+        executorTopologyLaneQueueLimit = config.getInt("executor-topology.lane-queue-limit", 1024);
+        tickDeadlineSchedulerEnabled = config.getBoolean("executor-topology.tick-deadline-scheduler", true);
+        loadBalancerTargetMspt = config.getDouble("executor-topology.load-balancer.target-mspt", 40.0);
+        loadBalancerKp = config.getDouble("executor-topology.load-balancer.kp", 1.2);
+        loadBalancerKi = config.getDouble("executor-topology.load-balancer.ki", 0.6);
+        loadBalancerKd = config.getDouble("executor-topology.load-balancer.kd", 0.1);
+        loadBalancerMinSubmitRate = config.getDouble("executor-topology.load-balancer.min-submit-rate", 0.2);
+        executorTopologyWeights = loadExecutorTopologyWeights();
         configVersion = config.getInt("version", 6);
 
         structureLocationAsyncEnabled = config.getBoolean("structure-location-async.enabled", true);
@@ -959,10 +1003,16 @@ public class ConfigManager {
         asyncPathfindingMaxQueueSize = config.getInt("async-ai.async-pathfinding.max-queue-size", 500);
         asyncPathfindingTimeoutMs = config.getInt("async-ai.async-pathfinding.timeout-ms", 100);
         asyncPathfindingSyncFallbackEnabled = config.getBoolean("async-ai.async-pathfinding.sync-fallback-enabled", true);
+        pathRegionGraphEnabled = config.getBoolean("async-ai.async-pathfinding.region-graph.enabled", true);
+        pathRegionGraphMinDistance = config.getInt("async-ai.async-pathfinding.region-graph.min-distance", 32);
+        pathTickBudget = config.getInt("async-ai.async-pathfinding.tick-budget.max-paths-per-tick", 32);
+        pathMaxDeferralTicks = config.getInt("async-ai.async-pathfinding.tick-budget.max-deferral-ticks", 40);
+        pathPersistentCacheEnabled = config.getBoolean("async-ai.async-pathfinding.persistent-cache.enabled", false);
+        pathPersistentCacheMaxEntries = config.getInt("async-ai.async-pathfinding.persistent-cache.max-entries", 2048);
+        pathPersistentCacheMinHits = config.getInt("async-ai.async-pathfinding.persistent-cache.min-hits", 3);
         
         enhancedPathfindingEnabled = config.getBoolean("async-ai.async-pathfinding.enhanced.enabled", true);
         enhancedPathfindingMaxConcurrentRequests = config.getInt("async-ai.async-pathfinding.enhanced.max-concurrent-requests", 30);
-        enhancedPathfindingMaxRequestsPerTick = config.getInt("async-ai.async-pathfinding.enhanced.max-requests-per-tick", 15);
         enhancedPathfindingHighPriorityDistance = config.getInt("async-ai.async-pathfinding.enhanced.priority.high-distance", 16);
         enhancedPathfindingMediumPriorityDistance = config.getInt("async-ai.async-pathfinding.enhanced.priority.medium-distance", 48);
         pathPrewarmEnabled = config.getBoolean("async-ai.async-pathfinding.enhanced.prewarm.enabled", true);
@@ -1035,6 +1085,8 @@ public class ConfigManager {
         tntMaxBlocks = config.getInt("tnt-explosion-optimization.max-blocks", 4096);
         tntTimeoutMicros = config.getLong("tnt-explosion-optimization.timeout-us", 100L);
         tntBatchSize = config.getInt("tnt-explosion-optimization.batch-size", 64);
+        tntBatchResolveEnabled = config.getBoolean("tnt-explosion-optimization.batch-resolve.enabled", true);
+        tntVectorExposureEnabled = config.getBoolean("tnt-explosion-optimization.vector-exposure.enabled", false);
         tntVanillaCompatibilityEnabled = config.getBoolean("tnt-explosion-optimization.vanilla-compatibility.enabled", true);
         tntUseVanillaPower = config.getBoolean("tnt-explosion-optimization.vanilla-compatibility.use-vanilla-power", true);
         tntUseVanillaFireLogic = config.getBoolean("tnt-explosion-optimization.vanilla-compatibility.use-vanilla-fire-logic", true);
@@ -1103,6 +1155,20 @@ public class ConfigManager {
 
         enableDebugLogging = config.getBoolean("performance.debug-logging", false);
         enablePerformanceMetrics = config.getBoolean("performance.enable-metrics", true);
+        metricsExporterEnabled = config.getBoolean("performance.metrics-exporter.enabled", false);
+        metricsExporterBindAddress = config.getString("performance.metrics-exporter.bind-address", "127.0.0.1");
+        metricsExporterPort = config.getInt("performance.metrics-exporter.port", 9464);
+        metricsExporterPath = config.getString("performance.metrics-exporter.path", "/metrics");
+        executorTopologyMode = config.getString("executor-topology.mode", "unified");
+        executorTopologyCpuBudget = config.getInt("executor-topology.cpu-budget", 0);
+        executorTopologyLaneQueueLimit = config.getInt("executor-topology.lane-queue-limit", 1024);
+        tickDeadlineSchedulerEnabled = config.getBoolean("executor-topology.tick-deadline-scheduler", true);
+        loadBalancerTargetMspt = config.getDouble("executor-topology.load-balancer.target-mspt", 40.0);
+        loadBalancerKp = config.getDouble("executor-topology.load-balancer.kp", 1.2);
+        loadBalancerKi = config.getDouble("executor-topology.load-balancer.ki", 0.6);
+        loadBalancerKd = config.getDouble("executor-topology.load-balancer.kd", 0.1);
+        loadBalancerMinSubmitRate = config.getDouble("executor-topology.load-balancer.min-submit-rate", 0.2);
+        executorTopologyWeights = loadExecutorTopologyWeights();
         configVersion = config.getInt("version", 6);
 
         virtualEntityCompatibilityEnabled = config.getBoolean("virtual-entity-compatibility.enabled", true);
@@ -1148,6 +1214,21 @@ public class ConfigManager {
         if (brainThrottleInterval < 0) {
             brainThrottleInterval = 0;
         }
+        if (pathRegionGraphMinDistance < 16) {
+            pathRegionGraphMinDistance = 16;
+        }
+        if (pathTickBudget < 1) {
+            pathTickBudget = 1;
+        }
+        if (pathMaxDeferralTicks < 1) {
+            pathMaxDeferralTicks = 1;
+        }
+        if (pathPersistentCacheMaxEntries < 16) {
+            pathPersistentCacheMaxEntries = 16;
+        }
+        if (pathPersistentCacheMinHits < 1) {
+            pathPersistentCacheMinHits = 1;
+        }
         if (asyncAITimeoutMicros < 100) {
             plugin.getLogger().warning("Async AI timeout too low, setting to 100");
             asyncAITimeoutMicros = 100;
@@ -1182,6 +1263,20 @@ public class ConfigManager {
             plugin.getLogger().warning("TNT threads cannot be more than 32, setting to 32");
             tntThreads = 32;
         }
+        if (executorTopologyCpuBudget < 0) executorTopologyCpuBudget = 0;
+        if (executorTopologyCpuBudget > 256) executorTopologyCpuBudget = 256;
+        if (executorTopologyLaneQueueLimit < 0) executorTopologyLaneQueueLimit = 0;
+        if (loadBalancerTargetMspt < 5.0) loadBalancerTargetMspt = 5.0;
+        if (loadBalancerTargetMspt > 50.0) loadBalancerTargetMspt = 50.0;
+        if (loadBalancerKp < 0.0) loadBalancerKp = 0.0;
+        if (loadBalancerKi < 0.0) loadBalancerKi = 0.0;
+        if (loadBalancerKd < 0.0) loadBalancerKd = 0.0;
+        if (loadBalancerMinSubmitRate < 0.0) loadBalancerMinSubmitRate = 0.0;
+        if (loadBalancerMinSubmitRate > 1.0) loadBalancerMinSubmitRate = 1.0;
+        if (metricsExporterPort < 1 || metricsExporterPort > 65535) {
+            plugin.getLogger().warning("Metrics exporter port out of range, setting to 9464");
+            metricsExporterPort = 9464;
+        }
         if (tntMaxBlocks < 256) tntMaxBlocks = 256;
         if (tntMaxBlocks > 16384) tntMaxBlocks = 16384;
         if (tntTimeoutMicros < 10) tntTimeoutMicros = 10;
@@ -1378,6 +1473,62 @@ public class ConfigManager {
         return enablePerformanceMetrics;
     }
 
+    public boolean isMetricsExporterEnabled() {
+        return metricsExporterEnabled;
+    }
+
+    public String getMetricsExporterBindAddress() {
+        return metricsExporterBindAddress;
+    }
+
+    public int getMetricsExporterPort() {
+        return metricsExporterPort;
+    }
+
+    public String getMetricsExporterPath() {
+        return metricsExporterPath;
+    }
+
+    public boolean isTickDeadlineSchedulerEnabled() {
+        return tickDeadlineSchedulerEnabled;
+    }
+
+    public double getLoadBalancerTargetMspt() {
+        return loadBalancerTargetMspt;
+    }
+
+    public double getLoadBalancerKp() {
+        return loadBalancerKp;
+    }
+
+    public double getLoadBalancerKi() {
+        return loadBalancerKi;
+    }
+
+    public double getLoadBalancerKd() {
+        return loadBalancerKd;
+    }
+
+    public double getLoadBalancerMinSubmitRate() {
+        return loadBalancerMinSubmitRate;
+    }
+
+    public boolean isUnifiedExecutorTopology() {
+        return !"legacy".equalsIgnoreCase(executorTopologyMode);
+    }
+
+    public int getExecutorTopologyCpuBudget() {
+        return executorTopologyCpuBudget;
+    }
+
+    public int getExecutorTopologyLaneQueueLimit() {
+        return executorTopologyLaneQueueLimit;
+    }
+
+    public int getExecutorTopologyWeight(String lane, int defaultWeight) {
+        return executorTopologyWeights.getOrDefault(lane, defaultWeight);
+    }
+
     public boolean isMobSpawningEnabled() {
         return mobSpawningEnabled;
     }
@@ -1451,10 +1602,16 @@ public class ConfigManager {
     public int getAsyncPathfindingMaxQueueSize() { return asyncPathfindingMaxQueueSize; }
     public int getAsyncPathfindingTimeoutMs() { return asyncPathfindingTimeoutMs; }
     public boolean isAsyncPathfindingSyncFallbackEnabled() { return asyncPathfindingSyncFallbackEnabled; }
+    public boolean isPathRegionGraphEnabled() { return pathRegionGraphEnabled; }
+    public int getPathRegionGraphMinDistance() { return pathRegionGraphMinDistance; }
+    public int getPathTickBudget() { return pathTickBudget; }
+    public int getPathMaxDeferralTicks() { return pathMaxDeferralTicks; }
+    public boolean isPathPersistentCacheEnabled() { return pathPersistentCacheEnabled; }
+    public int getPathPersistentCacheMaxEntries() { return pathPersistentCacheMaxEntries; }
+    public int getPathPersistentCacheMinHits() { return pathPersistentCacheMinHits; }
     
     public boolean isEnhancedPathfindingEnabled() { return enhancedPathfindingEnabled; }
     public int getEnhancedPathfindingMaxConcurrentRequests() { return enhancedPathfindingMaxConcurrentRequests; }
-    public int getEnhancedPathfindingMaxRequestsPerTick() { return enhancedPathfindingMaxRequestsPerTick; }
     public int getEnhancedPathfindingHighPriorityDistance() { return enhancedPathfindingHighPriorityDistance; }
     public int getEnhancedPathfindingMediumPriorityDistance() { return enhancedPathfindingMediumPriorityDistance; }
     public boolean isPathPrewarmEnabled() { return pathPrewarmEnabled; }
@@ -1560,6 +1717,8 @@ public class ConfigManager {
     public int getTNTMaxBlocks() { return tntMaxBlocks; }
     public long getTNTTimeoutMicros() { return tntTimeoutMicros; }
     public int getTNTBatchSize() { return tntBatchSize; }
+    public boolean isTNTBatchResolveEnabled() { return tntBatchResolveEnabled; }
+    public boolean isTNTVectorExposureEnabled() { return tntVectorExposureEnabled; }
     public boolean isTNTDebugEnabled() { return tntDebugEnabled || enableDebugLogging; }
     public boolean isTNTVanillaCompatibilityEnabled() { return tntVanillaCompatibilityEnabled; }
     public boolean isTNTUseVanillaPower() { return tntUseVanillaPower; }
@@ -1741,6 +1900,17 @@ public class ConfigManager {
     
     public java.util.List<String> getVirtualEntityDetectionOrder() { return virtualEntityDetectionOrder; }
 
+    private java.util.Map<String, Integer> loadExecutorTopologyWeights() {
+        java.util.Map<String, Integer> weights = new java.util.HashMap<>();
+        org.bukkit.configuration.ConfigurationSection section = config.getConfigurationSection("executor-topology.weights");
+        if (section != null) {
+            for (String lane : section.getKeys(false)) {
+                weights.put(lane, Math.max(1, section.getInt(lane, 1)));
+            }
+        }
+        return weights;
+    }
+
     private void loadPathfindingAndCollisionConfigs() {
         asyncPathfindingCacheEnabled = config.getBoolean("async-ai.async-pathfinding.cache.enabled", true);
         asyncPathfindingCacheMaxSize = config.getInt("async-ai.async-pathfinding.cache.max-size", 1000);
@@ -1,114 +1,235 @@
 package org.virgil.akiasync.executor;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class AdaptiveLoadBalancer {
-    
-    private static final double MSPT_WARNING = 40.0;
-    private static final double MSPT_CRITICAL = 45.0;
-    private static final double MSPT_TARGET = 30.0;
-    
+
+    private static final double DEFAULT_TARGET_MSPT = 40.0;
+    private static final double DEFAULT_KP = 1.2;
+    private static final double DEFAULT_KI = 0.6;
+    private static final double DEFAULT_KD = 0.1;
+    private static final double DEFAULT_MIN_SUBMIT_RATE = 0.2;
+
+    private static final long MIN_SAMPLE_INTERVAL_NANOS = 40_000_000L;
+    private static final double MAX_SAMPLE_DT_SECONDS = 1.0;
+    private static final double MSPT_SMOOTHING = 0.3;
+    private static final double DERIVATIVE_SMOOTHING = 0.5;
+    private static final double MIN_CONCURRENCY_SCALE = 0.5;
+    private static final double MAX_CONCURRENCY_SCALE = 1.5;
+
     public enum LoadLevel {
         NORMAL,
         MODERATE,
         HIGH,
         CRITICAL
     }
-    
+
+    private static final Object controlLock = new Object();
+
+    private static volatile double targetMspt = DEFAULT_TARGET_MSPT;
+    private static volatile double kp = DEFAULT_KP;
+    private static volatile double ki = DEFAULT_KI;
+    private static volatile double kd = DEFAULT_KD;
+    private static volatile double minSubmitRate = DEFAULT_MIN_SUBMIT_RATE;
+
     private static volatile LoadLevel currentLoad = LoadLevel.NORMAL;
     private static final AtomicLong lastMsptUpdate = new AtomicLong(0);
+    private static final AtomicLong controlUpdates = new AtomicLong(0);
     private static final AtomicInteger consecutiveHighLoad = new AtomicInteger(0);
-    
+
+    private static volatile double smoothedMspt = 0.0;
+    private static volatile double lastError = 0.0;
+    private static volatile double integral = 0.0;
+    private static volatile double derivative = 0.0;
+    private static volatile double output = 0.0;
     private static volatile double taskSubmitRate = 1.0;
-    
+    private static volatile double concurrencyScale = 1.0;
+
+    public static void configure(double target, double proportional, double integralGain,
+                                 double derivativeGain, double minRate) {
+        synchronized (controlLock) {
+            targetMspt = Math.max(1.0, target);
+            kp = Math.max(0.0, proportional);
+            ki = Math.max(0.0, integralGain);
+            kd = Math.max(0.0, derivativeGain);
+            minSubmitRate = Math.max(0.0, Math.min(1.0, minRate));
+            integral = clampIntegral(integral);
+        }
+    }
+
     public static void updateMspt(double mspt) {
-        lastMsptUpdate.set(System.currentTimeMillis());
-        
-        LoadLevel oldLoad = currentLoad;
-        
-        if (mspt >= MSPT_CRITICAL) {
-            currentLoad = LoadLevel.CRITICAL;
-            consecutiveHighLoad.incrementAndGet();
-        } else if (mspt >= MSPT_WARNING) {
-            currentLoad = LoadLevel.HIGH;
-            consecutiveHighLoad.incrementAndGet();
-        } else if (mspt >= MSPT_TARGET) {
-            currentLoad = LoadLevel.MODERATE;
-            consecutiveHighLoad.set(0);
-        } else {
-            currentLoad = LoadLevel.NORMAL;
-            consecutiveHighLoad.set(0);
+        if (!(mspt >= 0.0) || Double.isInfinite(mspt)) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long last = lastMsptUpdate.get();
+        if (last != 0 && now - last < MIN_SAMPLE_INTERVAL_NANOS) {
+            return;
+        }
+        if (!lastMsptUpdate.compareAndSet(last, now)) {
+            return;
         }
-        
-        adjustTaskSubmitRate(mspt);
-        
-        if (oldLoad != currentLoad) {
+
+        LoadLevel oldLoad;
+        LoadLevel newLoad;
+        synchronized (controlLock) {
+            oldLoad = currentLoad;
+            double dt = last == 0 ? MIN_SAMPLE_INTERVAL_NANOS / 1e9
+                : Math.min(MAX_SAMPLE_DT_SECONDS, (now - last) / 1e9);
+
+            double measured = smoothedMspt == 0.0 ? mspt
+                : smoothedMspt + MSPT_SMOOTHING * (mspt - smoothedMspt);
+            smoothedMspt = measured;
+
+            double error = (measured - targetMspt) / targetMspt;
+            double rawDerivative = controlUpdates.get() == 0 ? 0.0 : (error - lastError) / dt;
+            derivative = derivative + DERIVATIVE_SMOOTHING * (rawDerivative - derivative);
+            lastError = error;
+
+            double candidateIntegral = clampIntegral(integral + error * dt);
+            double unclamped = kp * error + ki * candidateIntegral + kd * derivative;
+            double maxOutput = 1.0 - minSubmitRate;
+            boolean saturatedHigh = unclamped > maxOutput && error > 0;
+            boolean saturatedLow = unclamped < 0.0 && error < 0;
+            if (!saturatedHigh && !saturatedLow) {
+                integral = candidateIntegral;
+            }
+
+            output = Math.max(0.0, Math.min(maxOutput, kp * error + ki * integral + kd * derivative));
+            taskSubmitRate = 1.0 - output;
+            concurrencyScale = Math.max(MIN_CONCURRENCY_SCALE,
+                Math.min(MAX_CONCURRENCY_SCALE, 1.0 - (kp * error + ki * integral)));
+
+            newLoad = levelFor(taskSubmitRate);
+            currentLoad = newLoad;
+            if (measured > targetMspt) {
+                consecutiveHighLoad.incrementAndGet();
+            } else {
+                consecutiveHighLoad.set(0);
+            }
+            controlUpdates.incrementAndGet();
+        }
+
+        if (oldLoad != newLoad) {
             org.virgil.akiasync.mixin.bridge.Bridge bridge =
                 org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
             if (bridge != null) {
                 bridge.debugLog(String.format(
-                    "[AkiAsync-LoadBalancer] Load level changed: %s -> %s (MSPT: %.2f, Rate: %.0f%%)",
-                    oldLoad, currentLoad, mspt, taskSubmitRate * 100
+                    "[AkiAsync-LoadBalancer] Load level changed: %s -> %s (MSPT: %.2f, Target: %.1f, Rate: %.0f%%)",
+                    oldLoad, newLoad, smoothedMspt, targetMspt, taskSubmitRate * 100
                 ));
             }
         }
     }
-    
-    private static void adjustTaskSubmitRate(double mspt) {
-        switch (currentLoad) {
-            case CRITICAL:
 
-                taskSubmitRate = 0.3;
-                break;
-            case HIGH:
-
-                taskSubmitRate = 0.6;
-                break;
-            case MODERATE:
-
-                taskSubmitRate = 0.85;
-                break;
-            case NORMAL:
+    private static double clampIntegral(double value) {
+        if (ki <= 0.0) {
+            return 0.0;
+        }
+        double limit = 1.0 / ki;
+        return Math.max(-limit, Math.min(limit, value));
+    }
 
-                taskSubmitRate = 1.0;
-                break;
+    private static LoadLevel levelFor(double rate) {
+        if (rate >= 0.95) {
+            return LoadLevel.NORMAL;
+        } else if (rate >= 0.75) {
+            return LoadLevel.MODERATE;
+        } else if (rate >= 0.5) {
+            return LoadLevel.HIGH;
         }
+        return LoadLevel.CRITICAL;
     }
-    
+
     public static LoadLevel getCurrentLoad() {
         return currentLoad;
     }
-    
+
     public static double getTaskSubmitRate() {
         return taskSubmitRate;
     }
-    
+
+    public static double getConcurrencyScale() {
+        return concurrencyScale;
+    }
+
+    public static int scaleConcurrency(int base) {
+        return Math.max(1, (int) Math.round(base * concurrencyScale));
+    }
+
+    public static double getTargetMspt() {
+        return targetMspt;
+    }
+
+    public static double getSmoothedMspt() {
+        return smoothedMspt;
+    }
+
+    public static double getError() {
+        return lastError;
+    }
+
+    public static double getIntegral() {
+        return integral;
+    }
+
+    public static double getDerivative() {
+        return derivative;
+    }
+
+    public static double getOutput() {
+        return output;
+    }
+
+    public static long getControlUpdates() {
+        return controlUpdates.get();
+    }
+
     public static boolean shouldSubmitTask() {
-        if (currentLoad == LoadLevel.NORMAL) {
+        double rate = taskSubmitRate;
+        if (rate >= 1.0) {
             return true;
         }
-        
-        return Math.random() < taskSubmitRate;
+
+        return ThreadLocalRandom.current().nextDouble() < rate;
     }
-    
+
     public static boolean shouldSkipLowPriority() {
-        return currentLoad == LoadLevel.CRITICAL || 
+        return currentLoad == LoadLevel.CRITICAL ||
                (currentLoad == LoadLevel.HIGH && consecutiveHighLoad.get() > 3);
     }
-    
+
     public static String getStatistics() {
         return String.format(
-            "LoadBalancer: Level=%s | Rate=%.0f%% | ConsecutiveHigh=%d",
+            "LoadBalancer: Level=%s | Rate=%.0f%% | Concurrency=%.2fx | MSPT=%.2f/%.1f | P=%.3f I=%.3f D=%.3f | ConsecutiveHigh=%d",
             currentLoad,
             taskSubmitRate * 100,
+            concurrencyScale,
+            smoothedMspt,
+            targetMspt,
+            lastError,
+            integral,
+            derivative,
             consecutiveHighLoad.get()
         );
     }
-    
+
     public static void reset() {
-        currentLoad = LoadLevel.NORMAL;
-        taskSubmitRate = 1.0;
-        consecutiveHighLoad.set(0);
+        synchronized (controlLock) {
+            currentLoad = LoadLevel.NORMAL;
+            taskSubmitRate = 1.0;
+            concurrencyScale = 1.0;
+            smoothedMspt = 0.0;
+            lastError = 0.0;
+            integral = 0.0;
+            derivative = 0.0;
+            output = 0.0;
+            consecutiveHighLoad.set(0);
+            controlUpdates.set(0);
+            lastMsptUpdate.set(0);
+        }
     }
 }
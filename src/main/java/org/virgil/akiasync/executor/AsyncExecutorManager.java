@@ -1,5 +1,7 @@
 package org.virgil.akiasync.executor;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -11,48 +13,98 @@ import java.util.concurrent.TimeUnit;
 
 import org.virgil.akiasync.AkiAsyncPlugin;
 import org.virgil.akiasync.compat.FoliaExecutorAdapter;
+import org.virgil.akiasync.compat.FoliaSchedulerAdapter;
+import org.virgil.akiasync.mixin.async.executor.ExecutorTopology;
+import org.virgil.akiasync.mixin.async.executor.TickDeadlineScheduler;
+import org.virgil.akiasync.mixin.async.executor.WeightedLane;
 import org.virgil.akiasync.util.resource.ExecutorLifecycleManager;
 import org.virgil.akiasync.util.resource.ResourceTracker;
 public class AsyncExecutorManager {
     private final AkiAsyncPlugin plugin;
-    private final ForkJoinPool executorService;  
-    private final ForkJoinPool lightingExecutor;  
+    private final ExecutorTopology topology;
+    private final ExecutorService executorService;
+    private final ExecutorService lightingExecutor;
     private final ExecutorService tntExecutor;
     private final ExecutorService chunkTickExecutor;
     private final ExecutorService villagerBreedExecutor;
     private final ExecutorService brainExecutor;
     private final ExecutorService collisionExecutor;
     private final ScheduledExecutorService metricsExecutor;
+    private final TickDeadlineScheduler deadlineScheduler;
     public AsyncExecutorManager(AkiAsyncPlugin plugin) {
         this.plugin = plugin;
         int threadPoolSize = plugin.getConfigManager().getThreadPoolSize();
         int lightingThreads = calculateLightingThreads(plugin);
         int tntThreads = plugin.getConfigManager().getTNTThreads();
+        configureLoadBalancer();
 
-        this.executorService = (ForkJoinPool) ResourceTracker.track(
-            ExecutorLifecycleManager.createForkJoinPool("AkiAsync-Worker", threadPoolSize, true),
-            "AkiAsync-Worker-ForkJoinPool");
-        
-        this.lightingExecutor = (ForkJoinPool) ResourceTracker.track(
-            ExecutorLifecycleManager.createForkJoinPool("AkiAsync-Lighting", lightingThreads, true),
-            "AkiAsync-Lighting-ForkJoinPool");
+        if (plugin.getConfigManager().isUnifiedExecutorTopology()) {
+            int budget = plugin.getConfigManager().getExecutorTopologyCpuBudget();
+            this.topology = new ExecutorTopology(budget > 0 ? budget : ExecutorTopology.defaultCpuBudget());
+            ExecutorTopology.install(topology);
+
+            boolean folia = FoliaSchedulerAdapter.isFolia();
+            this.executorService = createLane(ExecutorTopology.GENERAL, 4);
+            this.lightingExecutor = createLane(ExecutorTopology.LIGHTING, 3);
+            this.tntExecutor = folia
+                ? ResourceTracker.track(new FoliaExecutorAdapter(plugin, tntThreads, "AkiAsync-TNT"),
+                    "AkiAsync-TNT-Executor")
+                : createLane(ExecutorTopology.TNT, 2);
+            this.chunkTickExecutor = folia
+                ? ResourceTracker.track(new FoliaExecutorAdapter(plugin, 4, "AkiAsync-ChunkTick"),
+                    "AkiAsync-ChunkTick-Executor")
+                : createLane(ExecutorTopology.CHUNK_TICK, 2);
+            this.villagerBreedExecutor = folia
+                ? ResourceTracker.track(new FoliaExecutorAdapter(plugin, 4, "AkiAsync-VillagerBreed"),
+                    "AkiAsync-VillagerBreed-Executor")
+                : createLane(ExecutorTopology.VILLAGER_BREED, 1);
+            this.brainExecutor = folia
+                ? ResourceTracker.track(new FoliaExecutorAdapter(plugin, threadPoolSize / 2, "AkiAsync-Brain"),
+                    "AkiAsync-Brain-Executor")
+                : createLane(ExecutorTopology.BRAIN, 2);
+            this.collisionExecutor = folia
+                ? ResourceTracker.track(new FoliaExecutorAdapter(plugin, Math.max(2, threadPoolSize / 4), "AkiAsync-Collision"),
+                    "AkiAsync-Collision-Executor")
+                : createLane(ExecutorTopology.COLLISION, 1);
+            createLane(ExecutorTopology.PATHFINDING, 2);
+            createLane(ExecutorTopology.CHUNK_LOAD, 1);
+        } else {
+            this.topology = null;
+
+            this.executorService = ResourceTracker.track(
+                ExecutorLifecycleManager.createForkJoinPool("AkiAsync-Worker", threadPoolSize, true),
+                "AkiAsync-Worker-ForkJoinPool");
 
-        this.tntExecutor = ResourceTracker.track(
-            new FoliaExecutorAdapter(plugin, tntThreads, "AkiAsync-TNT"),
-            "AkiAsync-TNT-Executor");
-        this.chunkTickExecutor = ResourceTracker.track(
-            new FoliaExecutorAdapter(plugin, 4, "AkiAsync-ChunkTick"),
-            "AkiAsync-ChunkTick-Executor");
-        this.villagerBreedExecutor = ResourceTracker.track(
-            new FoliaExecutorAdapter(plugin, 4, "AkiAsync-VillagerBreed"),
-            "AkiAsync-VillagerBreed-Executor");
-        this.brainExecutor = ResourceTracker.track(
-            new FoliaExecutorAdapter(plugin, threadPoolSize / 2, "AkiAsync-Brain"),
-            "AkiAsync-Brain-Executor");
+            this.lightingExecutor = ResourceTracker.track(
+                ExecutorLifecycleManager.createForkJoinPool("AkiAsync-Lighting", lightingThreads, true),
+                "AkiAsync-Lighting-ForkJoinPool");
 
-        this.collisionExecutor = ResourceTracker.track(
-            new FoliaExecutorAdapter(plugin, Math.max(2, threadPoolSize / 4), "AkiAsync-Collision"),
-            "AkiAsync-Collision-Executor");
+            this.tntExecutor = ResourceTracker.track(
+                new FoliaExecutorAdapter(plugin, tntThreads, "AkiAsync-TNT"),
+                "AkiAsync-TNT-Executor");
+            this.chunkTickExecutor = ResourceTracker.track(
+                new FoliaExecutorAdapter(plugin, 4, "AkiAsync-ChunkTick"),
+                "AkiAsync-ChunkTick-Executor");
+            this.villagerBreedExecutor = ResourceTracker.track(
+                new FoliaExecutorAdapter(plugin, 4, "AkiAsync-VillagerBreed"),
+                "AkiAsync-VillagerBreed-Executor");
+            this.brainExecutor = ResourceTracker.track(
+                new FoliaExecutorAdapter(plugin, threadPoolSize / 2, "AkiAsync-Brain"),
+                "AkiAsync-Brain-Executor");
+
+            this.collisionExecutor = ResourceTracker.track(
+                new FoliaExecutorAdapter(plugin, Math.max(2, threadPoolSize / 4), "AkiAsync-Collision"),
+                "AkiAsync-Collision-Executor");
+        }
+
+        if (plugin.getConfigManager().isTickDeadlineSchedulerEnabled()) {
+            this.deadlineScheduler = topology != null
+                ? new TickDeadlineScheduler(createLane(ExecutorTopology.DEADLINE, 4), topology.getCpuBudget())
+                : new TickDeadlineScheduler(executorService, threadPoolSize);
+            TickDeadlineScheduler.install(deadlineScheduler);
+        } else {
+            this.deadlineScheduler = null;
+        }
 
         this.metricsExecutor = ResourceTracker.track(
             Executors.newSingleThreadScheduledExecutor(r -> {
@@ -62,15 +114,36 @@ public class AsyncExecutorManager {
             }),
             "AkiAsync-Metrics-Executor");
         
-        plugin.getLogger().info("General executor initialized: ForkJoinPool with parallelism=" + threadPoolSize + " (work-stealing enabled)");
-        plugin.getLogger().info("Lighting executor initialized: ForkJoinPool with parallelism=" + lightingThreads + " (work-stealing enabled)");
-        plugin.getLogger().info("TNT executor initialized: " + tntThreads + " threads (Folia-compatible)");
-        plugin.getLogger().info("ChunkTick executor initialized: 4 threads (Folia-compatible)");
-        plugin.getLogger().info("VillagerBreed executor initialized: 4 threads (Folia-compatible)");
-        plugin.getLogger().info("Brain executor initialized: " + (threadPoolSize / 2) + " threads (Folia-compatible)");
-        plugin.getLogger().info("Collision executor initialized: " + Math.max(2, threadPoolSize / 4) + " threads (Folia-compatible)");
+        if (topology != null) {
+            plugin.getLogger().info("Unified executor topology initialized: shared ForkJoinPool with CPU budget=" + topology.getCpuBudget()
+                + " (" + topology.getLanes().size() + " weighted lanes, idle lanes lend capacity)");
+        } else {
+            plugin.getLogger().info("General executor initialized: ForkJoinPool with parallelism=" + threadPoolSize + " (work-stealing enabled)");
+            plugin.getLogger().info("Lighting executor initialized: ForkJoinPool with parallelism=" + lightingThreads + " (work-stealing enabled)");
+            plugin.getLogger().info("TNT executor initialized: " + tntThreads + " threads (Folia-compatible)");
+            plugin.getLogger().info("ChunkTick executor initialized: 4 threads (Folia-compatible)");
+            plugin.getLogger().info("VillagerBreed executor initialized: 4 threads (Folia-compatible)");
+            plugin.getLogger().info("Brain executor initialized: " + (threadPoolSize / 2) + " threads (Folia-compatible)");
+            plugin.getLogger().info("Collision executor initialized: " + Math.max(2, threadPoolSize / 4) + " threads (Folia-compatible)");
+        }
+        if (deadlineScheduler != null) {
+            plugin.getLogger().info("Tick deadline scheduler initialized: earliest-deadline-first, " + deadlineScheduler.getMaxDrainers() + " drainers");
+        }
         plugin.getLogger().info("All executors tracked by ResourceTracker for leak detection");
     }
+    private WeightedLane createLane(String name, int defaultWeight) {
+        return topology.lane(
+            name,
+            plugin.getConfigManager().getExecutorTopologyWeight(name, defaultWeight),
+            plugin.getConfigManager().getExecutorTopologyLaneQueueLimit()
+        );
+    }
+    public ExecutorTopology getTopology() {
+        return topology;
+    }
+    public TickDeadlineScheduler getDeadlineScheduler() {
+        return deadlineScheduler;
+    }
     public Future<?> submit(Runnable task) {
         return executorService.submit(task);
     }
@@ -83,6 +156,17 @@ public class AsyncExecutorManager {
     public void shutdown() {
         plugin.getLogger().info("Shutting down async executors...");
         
+        if (deadlineScheduler != null) {
+            deadlineScheduler.shutdown();
+        }
+        
+        if (topology != null) {
+            boolean topologyShutdown = topology.shutdown(10, TimeUnit.SECONDS);
+            if (!topologyShutdown) {
+                plugin.getLogger().warning("Shared executor topology did not terminate gracefully");
+            }
+        }
+        
         boolean generalShutdown = ExecutorLifecycleManager.shutdownGracefully(executorService, 10, TimeUnit.SECONDS);
         if (!generalShutdown) {
             plugin.getLogger().warning("General executor did not terminate gracefully");
@@ -151,17 +235,34 @@ public class AsyncExecutorManager {
     public ExecutorService getCollisionExecutor() {
         return collisionExecutor;
     }
+    public Map<String, ExecutorService> getNamedExecutors() {
+        Map<String, ExecutorService> executors = new LinkedHashMap<>();
+        executors.put("general", executorService);
+        executors.put("lighting", lightingExecutor);
+        executors.put("tnt", tntExecutor);
+        executors.put("chunk_tick", chunkTickExecutor);
+        executors.put("villager_breed", villagerBreedExecutor);
+        executors.put("brain", brainExecutor);
+        executors.put("collision", collisionExecutor);
+        return executors;
+    }
     public String getStatistics() {
-        
-        return String.format(
-            "ForkJoinPool: Size=%d | Active=%d | Running=%d | Queued=%d | Steal=%d | Parallelism=%d",
-            executorService.getPoolSize(),
-            executorService.getActiveThreadCount(),
-            executorService.getRunningThreadCount(),
-            executorService.getQueuedSubmissionCount(),
-            executorService.getStealCount(),
-            executorService.getParallelism()
-        );
+        String statistics;
+        if (topology != null) {
+            statistics = topology.getStatistics();
+        } else {
+            ForkJoinPool pool = (ForkJoinPool) executorService;
+            statistics = String.format(
+                "ForkJoinPool: Size=%d | Active=%d | Running=%d | Queued=%d | Steal=%d | Parallelism=%d",
+                pool.getPoolSize(),
+                pool.getActiveThreadCount(),
+                pool.getRunningThreadCount(),
+                pool.getQueuedSubmissionCount(),
+                pool.getStealCount(),
+                pool.getParallelism()
+            );
+        }
+        return deadlineScheduler != null ? statistics + "\n" + deadlineScheduler.getStatistics() : statistics;
     }
     public boolean isShutdown() {
         return executorService.isShutdown();
@@ -171,11 +272,75 @@ public class AsyncExecutorManager {
         
         int threadPoolSize = plugin.getConfigManager().getThreadPoolSize();
         int lightingThreads = calculateLightingThreads(plugin);
+        int tntThreads = plugin.getConfigManager().getTNTThreads();
+        
+        if (topology != null) {
+            int budget = plugin.getConfigManager().getExecutorTopologyCpuBudget();
+            int newBudget = budget > 0 ? budget : ExecutorTopology.defaultCpuBudget();
+            int previous = topology.resize(newBudget);
+            for (WeightedLane lane : topology.getLanes()) {
+                topology.reconfigureLane(
+                    lane.getName(),
+                    plugin.getConfigManager().getExecutorTopologyWeight(lane.getName(), lane.getWeight()),
+                    plugin.getConfigManager().getExecutorTopologyLaneQueueLimit()
+                );
+            }
+            plugin.getLogger().info("  - Shared executor CPU budget: " + previous + " -> " + newBudget);
+            if (deadlineScheduler != null) {
+                deadlineScheduler.setMaxDrainers(newBudget);
+            }
+        } else {
+            resizeForkJoinPool("General", executorService, threadPoolSize);
+            resizeForkJoinPool("Lighting", lightingExecutor, lightingThreads);
+            if (deadlineScheduler != null) {
+                deadlineScheduler.setMaxDrainers(threadPoolSize);
+            }
+        }
+        
+        resizeAdapter("TNT", tntExecutor, tntThreads);
+        resizeAdapter("Brain", brainExecutor, Math.max(1, threadPoolSize / 2));
+        resizeAdapter("Collision", collisionExecutor, Math.max(2, threadPoolSize / 4));
+        
+        configureLoadBalancer();
+        
+        org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        if (bridge != null && bridge.isAsyncPathfindingEnabled()) {
+            int pathThreads = bridge.getAsyncPathfindingMaxThreads();
+            if (org.virgil.akiasync.mixin.pathfinding.AsyncPathProcessor.resize(pathThreads)) {
+                plugin.getLogger().info("  - Pathfinding executor threads: " + pathThreads);
+            }
+        }
         
-        plugin.getLogger().warning("[AkiAsync] Smooth restart requires plugin reload to take effect");
-        plugin.getLogger().warning("  - Desired general executor threads: " + threadPoolSize);
-        plugin.getLogger().warning("  - Desired lighting executor threads: " + lightingThreads);
-        plugin.getLogger().warning("  - Please use /reload or restart the server to apply new thread pool sizes");
+        plugin.getLogger().info("[AkiAsync] Async executors resized without restart");
+    }
+    
+    private void configureLoadBalancer() {
+        AdaptiveLoadBalancer.configure(
+            plugin.getConfigManager().getLoadBalancerTargetMspt(),
+            plugin.getConfigManager().getLoadBalancerKp(),
+            plugin.getConfigManager().getLoadBalancerKi(),
+            plugin.getConfigManager().getLoadBalancerKd(),
+            plugin.getConfigManager().getLoadBalancerMinSubmitRate()
+        );
+    }
+    
+    private void resizeForkJoinPool(String name, ExecutorService executor, int parallelism) {
+        if (!(executor instanceof ForkJoinPool pool) || parallelism <= 0) {
+            return;
+        }
+        int previous = pool.setParallelism(parallelism);
+        if (previous != parallelism) {
+            plugin.getLogger().info("  - " + name + " executor parallelism: " + previous + " -> " + parallelism);
+        }
+    }
+    
+    private void resizeAdapter(String name, ExecutorService executor, int threads) {
+        if (executor instanceof FoliaExecutorAdapter adapter) {
+            int previous = adapter.getCorePoolSize();
+            if (previous != threads && adapter.resize(threads)) {
+                plugin.getLogger().info("  - " + name + " executor threads: " + previous + " -> " + threads);
+            }
+        }
     }
     
     private static int calculateLightingThreads(AkiAsyncPlugin plugin) {
@@ -1,6 +1,7 @@
 package org.virgil.akiasync.executor;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -17,57 +18,44 @@ public class TaskSmoothingScheduler {
         public int getLevel() { return level; }
     }
     
-    private static class SmoothTask implements Comparable<SmoothTask> {
+    private final class SmoothTask implements Runnable {
         final Runnable task;
         final Priority priority;
-        final long submitTime;
         final String category;
         
         SmoothTask(Runnable task, Priority priority, String category) {
             this.task = task;
             this.priority = priority;
-            this.submitTime = System.nanoTime();
             this.category = category;
         }
         
         @Override
-        public int compareTo(SmoothTask other) {
+        public void run() {
+            try {
+                task.run();
+                totalExecuted.incrementAndGet();
+            } catch (Throwable t) {
 
-            int priorityCompare = Integer.compare(this.priority.level, other.priority.level);
-            if (priorityCompare != 0) return priorityCompare;
-
-            return Long.compare(this.submitTime, other.submitTime);
-        }
-        
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) return true;
-            if (obj == null || getClass() != obj.getClass()) return false;
-            SmoothTask other = (SmoothTask) obj;
-            return submitTime == other.submitTime && 
-                   priority == other.priority &&
-                   task == other.task;
-        }
-        
-        @Override
-        public int hashCode() {
-            int result = priority.hashCode();
-            result = 31 * result + Long.hashCode(submitTime);
-            result = 31 * result + (task != null ? System.identityHashCode(task) : 0);
-            return result;
+            }
         }
     }
     
+    private static final Priority[] PRIORITIES = Priority.values();
+    
     private final int maxQueueSize;
     private final int maxTasksPerTick;
     private final int smoothingWindowTicks;
     private final ExecutorService executor;
     
-    private final PriorityBlockingQueue<SmoothTask> taskQueue;
+    private final TaskRing<SmoothTask>[] queues;
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean(false);
+    private final Runnable dispatcher = this::dispatchLoop;
     
     private final AtomicLong totalSubmitted = new AtomicLong(0);
     private final AtomicLong totalExecuted = new AtomicLong(0);
     private final AtomicLong totalDropped = new AtomicLong(0);
+    private final AtomicLong totalEvicted = new AtomicLong(0);
+    private final AtomicLong dispatchWakeups = new AtomicLong(0);
     private final AtomicInteger currentQueueSize = new AtomicInteger(0);
     
     private final AtomicInteger tasksThisTick = new AtomicInteger(0);
@@ -77,18 +65,41 @@ public class TaskSmoothingScheduler {
     
     private final ConcurrentHashMap<String, AtomicLong> categoryStats = new ConcurrentHashMap<>();
     
+    @SuppressWarnings("unchecked")
     public TaskSmoothingScheduler(ExecutorService executor, int maxQueueSize, 
                                   int maxTasksPerTick, int smoothingWindowTicks) {
         this.executor = executor;
         this.maxQueueSize = maxQueueSize;
         this.maxTasksPerTick = maxTasksPerTick;
         this.smoothingWindowTicks = smoothingWindowTicks;
-        this.taskQueue = new PriorityBlockingQueue<>(maxQueueSize);
-        
-        startSchedulerThread();
+        this.queues = new TaskRing[PRIORITIES.length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new TaskRing<>(maxQueueSize);
+        }
     }
     
     public boolean submit(Runnable task, Priority priority, String category) {
+        if (!enqueue(task, priority, category)) {
+            return false;
+        }
+        signalDispatcher();
+        return true;
+    }
+    
+    public int submitBatch(java.util.List<Runnable> tasks, Priority priority, String category) {
+        int accepted = 0;
+        for (Runnable task : tasks) {
+            if (enqueue(task, priority, category)) {
+                accepted++;
+            }
+        }
+        if (accepted > 0) {
+            signalDispatcher();
+        }
+        return accepted;
+    }
+    
+    private boolean enqueue(Runnable task, Priority priority, String category) {
         if (task == null) return false;
         
         totalSubmitted.incrementAndGet();
@@ -103,13 +114,14 @@ public class TaskSmoothingScheduler {
             return false;
         }
         
-        if (currentQueueSize.get() >= maxQueueSize) {
-            if (priority == Priority.CRITICAL) {
+        if (!reserveSlot()) {
+            if (priority == Priority.CRITICAL && evictOldestLowPriorityTask()) {
 
-                SmoothTask removed = removeLowestPriorityTask();
-                if (removed != null) {
-                    totalDropped.incrementAndGet();
-                }
+                totalDropped.incrementAndGet();
+                totalEvicted.incrementAndGet();
+            } else if (priority == Priority.CRITICAL) {
+
+                currentQueueSize.incrementAndGet();
             } else {
 
                 totalDropped.incrementAndGet();
@@ -117,17 +129,30 @@ public class TaskSmoothingScheduler {
             }
         }
         
-        SmoothTask smoothTask = new SmoothTask(task, priority, category);
-        boolean added = taskQueue.offer(smoothTask);
-        
-        if (added) {
-            currentQueueSize.incrementAndGet();
-            categoryStats.computeIfAbsent(category, k -> new AtomicLong(0)).incrementAndGet();
-        } else {
+        if (!queues[priority.level].offer(new SmoothTask(task, priority, category))) {
+            currentQueueSize.decrementAndGet();
             totalDropped.incrementAndGet();
+            return false;
         }
         
-        return added;
+        AtomicLong counter = categoryStats.get(category);
+        if (counter == null) {
+            counter = categoryStats.computeIfAbsent(category, k -> new AtomicLong(0));
+        }
+        counter.incrementAndGet();
+        return true;
+    }
+    
+    private boolean reserveSlot() {
+        while (true) {
+            int size = currentQueueSize.get();
+            if (size >= maxQueueSize) {
+                return false;
+            }
+            if (currentQueueSize.compareAndSet(size, size + 1)) {
+                return true;
+            }
+        }
     }
     
     public boolean submit(Runnable task, String category) {
@@ -143,46 +168,55 @@ public class TaskSmoothingScheduler {
     
     public void onTick() {
         tasksThisTick.set(0);
+        if (currentQueueSize.get() > 0) {
+            signalDispatcher();
+        }
     }
     
-    private void startSchedulerThread() {
-        Thread schedulerThread = new Thread(() -> {
-            while (!Thread.currentThread().isInterrupted()) {
-                try {
-
-                    if (canSubmitMoreTasks()) {
-                        SmoothTask task = taskQueue.poll(10, TimeUnit.MILLISECONDS);
-                        
-                        if (task != null) {
-                            currentQueueSize.decrementAndGet();
-                            
-                            executor.execute(() -> {
-                                try {
-                                    task.task.run();
-                                    totalExecuted.incrementAndGet();
-                                } catch (Throwable t) {
-
-                                }
-                            });
-                            
-                            tasksThisTick.incrementAndGet();
-                        }
-                    } else {
-
-                        Thread.sleep(1);
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                } catch (Throwable t) {
-
-                }
+    private void signalDispatcher() {
+        if (dispatchScheduled.get() || !dispatchScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(dispatcher);
+        } catch (RejectedExecutionException e) {
+            dispatchScheduled.set(false);
+        }
+    }
+    
+    private void dispatchLoop() {
+        dispatchWakeups.incrementAndGet();
+        do {
+            dispatchBatch();
+            dispatchScheduled.set(false);
+        } while (canSubmitMoreTasks() && dispatchScheduled.compareAndSet(false, true));
+    }
+    
+    private void dispatchBatch() {
+        int limit = getAdaptiveMaxTasksPerTick();
+        while (tasksThisTick.get() < limit) {
+            SmoothTask task = pollHighestPriority();
+            if (task == null) {
+                return;
             }
-        }, "AkiAsync-TaskSmoothing");
-        
-        schedulerThread.setDaemon(true);
-        schedulerThread.setPriority(Thread.NORM_PRIORITY - 1);
-        schedulerThread.start();
+            currentQueueSize.decrementAndGet();
+            tasksThisTick.incrementAndGet();
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                totalDropped.incrementAndGet();
+            }
+        }
+    }
+    
+    private SmoothTask pollHighestPriority() {
+        for (TaskRing<SmoothTask> queue : queues) {
+            SmoothTask task = queue.poll();
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
     }
     
     private boolean canSubmitMoreTasks() {
@@ -191,52 +225,38 @@ public class TaskSmoothingScheduler {
             return false;
         }
         
-        if (taskQueue.isEmpty()) {
-            return false;
+        for (TaskRing<SmoothTask> queue : queues) {
+            if (!queue.isEmpty()) {
+                return true;
+            }
         }
-        
-        return true;
+        return false;
     }
     
     private int getAdaptiveMaxTasksPerTick() {
 
-        if (currentTPS >= 19.5) {
-
-            return (int) (maxTasksPerTick * 1.5);
-        } else if (currentTPS >= 18.0) {
-
-            return maxTasksPerTick;
-        } else if (currentTPS >= 15.0) {
-
-            return (int) (maxTasksPerTick * 0.7);
-        } else {
-
-            return (int) (maxTasksPerTick * 0.5);
-        }
+        return AdaptiveLoadBalancer.scaleConcurrency(maxTasksPerTick);
     }
     
-    private SmoothTask removeLowestPriorityTask() {
+    private boolean evictOldestLowPriorityTask() {
 
-        SmoothTask lowest = null;
-        for (SmoothTask task : taskQueue) {
-            if (task.priority == Priority.LOW) {
-                if (taskQueue.remove(task)) {
-                    currentQueueSize.decrementAndGet();
-                    return task;
-                }
-            }
-        }
-        return null;
+        return queues[Priority.LOW.level].poll() != null;
     }
     
     public String getStatistics() {
         return String.format(
-            "TaskSmoothing: Queue=%d/%d | Submitted=%d | Executed=%d | Dropped=%d | Rate=%d/%d/tick | TPS=%.1f | MSPT=%.1f",
+            "TaskSmoothing: Queue=%d/%d (C=%d H=%d N=%d L=%d) | Submitted=%d | Executed=%d | Dropped=%d | Evicted=%d | Wakeups=%d | Rate=%d/%d/tick | TPS=%.1f | MSPT=%.1f",
             currentQueueSize.get(),
             maxQueueSize,
+            queues[Priority.CRITICAL.level].size(),
+            queues[Priority.HIGH.level].size(),
+            queues[Priority.NORMAL.level].size(),
+            queues[Priority.LOW.level].size(),
             totalSubmitted.get(),
             totalExecuted.get(),
             totalDropped.get(),
+            totalEvicted.get(),
+            dispatchWakeups.get(),
             tasksThisTick.get(),
             getAdaptiveMaxTasksPerTick(),
             currentTPS,
@@ -256,9 +276,39 @@ public class TaskSmoothingScheduler {
         totalSubmitted.set(0);
         totalExecuted.set(0);
         totalDropped.set(0);
+        totalEvicted.set(0);
+        dispatchWakeups.set(0);
         categoryStats.clear();
     }
     
+    public long getTotalSubmitted() {
+        return totalSubmitted.get();
+    }
+    
+    public long getTotalExecuted() {
+        return totalExecuted.get();
+    }
+    
+    public long getTotalDropped() {
+        return totalDropped.get();
+    }
+    
+    public long getTotalEvicted() {
+        return totalEvicted.get();
+    }
+    
+    public long getDispatchWakeups() {
+        return dispatchWakeups.get();
+    }
+    
+    public int getQueueSize(Priority priority) {
+        return queues[priority.level].size();
+    }
+    
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+    
     public int getQueueSize() {
         return currentQueueSize.get();
     }
@@ -268,7 +318,10 @@ public class TaskSmoothingScheduler {
     }
     
     public void clearQueue() {
-        taskQueue.clear();
-        currentQueueSize.set(0);
+        for (TaskRing<SmoothTask> queue : queues) {
+            while (queue.poll() != null) {
+                currentQueueSize.decrementAndGet();
+            }
+        }
     }
 }
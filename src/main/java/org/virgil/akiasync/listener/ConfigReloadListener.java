@@ -51,7 +51,7 @@ public class ConfigReloadListener implements Listener {
             }
             
             restartChain = restartChain.thenRunAsync(() -> {
-                plugin.getLogger().info("[AkiAsync]   -> Restarting main executor manager...");
+                plugin.getLogger().info("[AkiAsync]   -> Resizing main executor pools...");
                 plugin.getExecutorManager().restartSmooth();
             }, CompletableFuture.delayedExecutor(0, TimeUnit.MILLISECONDS));
             restartChain = restartChain.thenRunAsync(() -> {}, 
@@ -105,6 +105,7 @@ public class ConfigReloadListener implements Listener {
                     plugin.stopMetricsScheduler();
                     plugin.getLogger().info("[AkiAsync]   -> Metrics scheduler stopped");
                 }
+                plugin.restartMetricsExporter();
             });
             
             try {
@@ -0,0 +1,63 @@
+package org.virgil.akiasync.listener;
+
+import net.minecraft.server.level.ServerLevel;
+import org.bukkit.World;
+import org.bukkit.craftbukkit.CraftWorld;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldSaveEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.mixin.pathfinding.PersistentPathStore;
+
+public class PathCacheWarmStartListener implements Listener {
+    
+    private final AkiAsyncPlugin plugin;
+    
+    public PathCacheWarmStartListener(AkiAsyncPlugin plugin) {
+        this.plugin = plugin;
+        for (World world : plugin.getServer().getWorlds()) {
+            PersistentPathStore.onLevelLoaded(((CraftWorld) world).getHandle());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        try {
+            PersistentPathStore.onLevelLoaded(((CraftWorld) event.getWorld()).getHandle());
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PathStore] Failed to open path cache: " + e.getMessage());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        try {
+            ServerLevel level = ((CraftWorld) event.getWorld()).getHandle();
+            PersistentPathStore.onChunkLoaded(level, event.getChunk().getX(), event.getChunk().getZ());
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PathStore] Failed to restore cached paths: " + e.getMessage());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldSave(WorldSaveEvent event) {
+        try {
+            PersistentPathStore.onLevelSaved(((CraftWorld) event.getWorld()).getHandle());
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PathStore] Failed to save path cache: " + e.getMessage());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        try {
+            PersistentPathStore.onLevelUnloaded(((CraftWorld) event.getWorld()).getHandle());
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PathStore] Failed to save path cache: " + e.getMessage());
+        }
+    }
+}
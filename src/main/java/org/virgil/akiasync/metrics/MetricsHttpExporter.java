@@ -0,0 +1,463 @@
+package org.virgil.akiasync.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToLongFunction;
+
+import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.cache.SakuraCacheStatistics;
+import org.virgil.akiasync.compat.FoliaExecutorAdapter;
+import org.virgil.akiasync.executor.AdaptiveLoadBalancer;
+import org.virgil.akiasync.executor.AsyncExecutorManager;
+import org.virgil.akiasync.executor.TaskSmoothingScheduler;
+import org.virgil.akiasync.mixin.async.executor.ExecutorTopology;
+import org.virgil.akiasync.mixin.async.executor.TickDeadlineScheduler;
+import org.virgil.akiasync.mixin.async.executor.WeightedLane;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
+import org.virgil.akiasync.mixin.pathfinding.AsyncPathProcessor;
+import org.virgil.akiasync.mixin.pathfinding.EnhancedPathfindingSystem;
+import org.virgil.akiasync.mixin.pathfinding.MultiLayerPathCache;
+import org.virgil.akiasync.mixin.pathfinding.PathTickBudget;
+import org.virgil.akiasync.mixin.pathfinding.PersistentPathStore;
+import org.virgil.akiasync.mixin.pathfinding.SharedPathCache;
+import org.virgil.akiasync.network.EntityDataThrottler;
+import org.virgil.akiasync.network.EntityPacketThrottler;
+import org.virgil.akiasync.throttling.EntityThrottlingManager;
+
+public class MetricsHttpExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final AkiAsyncPlugin plugin;
+    private final String bindAddress;
+    private final int port;
+    private final String path;
+
+    private HttpServer server;
+    private ExecutorService requestExecutor;
+
+    public MetricsHttpExporter(AkiAsyncPlugin plugin, String bindAddress, int port, String path) {
+        this.plugin = plugin;
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.path = path.startsWith("/") ? path : "/" + path;
+    }
+
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        requestExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("AkiAsync-MetricsExporter-", 0).factory());
+        httpServer.setExecutor(requestExecutor);
+        httpServer.createContext(path, this::handle);
+        httpServer.start();
+        server = httpServer;
+        plugin.getLogger().info("[AkiAsync] Metrics exporter listening on http://" + bindAddress + ":" + port + path);
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        server = null;
+        requestExecutor.shutdownNow();
+        requestExecutor = null;
+        plugin.getLogger().info("[AkiAsync] Metrics exporter stopped");
+    }
+
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (!path.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] body;
+            try {
+                body = render().getBytes(StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                plugin.getLogger().warning("[AkiAsync] Failed to render metrics: " + e.getMessage());
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    String render() {
+        StringBuilder sb = new StringBuilder(8192);
+        sb.append(AsyncMetrics.getPrometheusMetrics());
+        appendExecutors(sb);
+        appendTopology(sb);
+        appendDeadlineScheduler(sb);
+        appendSmoothingSchedulers(sb);
+        appendLoadBalancer(sb);
+        appendCaches(sb);
+        appendPathBudget(sb);
+        appendPathStore(sb);
+        appendThrottlers(sb);
+        return sb.toString();
+    }
+
+    private void appendExecutors(StringBuilder sb) {
+        AsyncExecutorManager executorManager = plugin.getExecutorManager();
+        if (executorManager == null) {
+            return;
+        }
+        Map<String, ExecutorService> executors = executorManager.getNamedExecutors();
+        ExecutorTopology topology = executorManager.getTopology();
+        if (topology != null) {
+            executors.put("shared", topology.getPool());
+        }
+
+        header(sb, "akiasync_executor_pool_size", "gauge", "Current number of worker threads");
+        for (Map.Entry<String, ExecutorService> entry : executors.entrySet()) {
+            if (entry.getValue() instanceof ForkJoinPool pool) {
+                sample(sb, "akiasync_executor_pool_size", "executor", entry.getKey(), pool.getPoolSize());
+            } else if (entry.getValue() instanceof FoliaExecutorAdapter adapter) {
+                sample(sb, "akiasync_executor_pool_size", "executor", entry.getKey(), adapter.getPoolSize());
+            }
+        }
+
+        header(sb, "akiasync_executor_active_threads", "gauge", "Worker threads currently executing tasks");
+        for (Map.Entry<String, ExecutorService> entry : executors.entrySet()) {
+            if (entry.getValue() instanceof ForkJoinPool pool) {
+                sample(sb, "akiasync_executor_active_threads", "executor", entry.getKey(), pool.getActiveThreadCount());
+            } else if (entry.getValue() instanceof WeightedLane lane) {
+                sample(sb, "akiasync_executor_active_threads", "executor", entry.getKey(), lane.getActiveCount());
+            } else if (entry.getValue() instanceof FoliaExecutorAdapter adapter) {
+                sample(sb, "akiasync_executor_active_threads", "executor", entry.getKey(), adapter.getActiveCount());
+            }
+        }
+
+        header(sb, "akiasync_executor_queued_tasks", "gauge", "Tasks waiting in the executor queues");
+        for (Map.Entry<String, ExecutorService> entry : executors.entrySet()) {
+            if (entry.getValue() instanceof ForkJoinPool pool) {
+                sample(sb, "akiasync_executor_queued_tasks", "executor", entry.getKey(),
+                    pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount());
+            } else if (entry.getValue() instanceof WeightedLane lane) {
+                sample(sb, "akiasync_executor_queued_tasks", "executor", entry.getKey(), lane.getQueuedCount());
+            } else if (entry.getValue() instanceof FoliaExecutorAdapter adapter) {
+                sample(sb, "akiasync_executor_queued_tasks", "executor", entry.getKey(), adapter.getQueueSize());
+            }
+        }
+
+        header(sb, "akiasync_executor_completed_tasks_total", "counter", "Tasks completed by thread-pool backed executors");
+        for (Map.Entry<String, ExecutorService> entry : executors.entrySet()) {
+            if (entry.getValue() instanceof WeightedLane lane) {
+                sample(sb, "akiasync_executor_completed_tasks_total", "executor", entry.getKey(), lane.getCompletedCount());
+            } else if (entry.getValue() instanceof FoliaExecutorAdapter adapter) {
+                sample(sb, "akiasync_executor_completed_tasks_total", "executor", entry.getKey(),
+                    adapter.getCompletedTaskCount());
+            }
+        }
+
+        appendForkJoin(sb, executors, "akiasync_forkjoin_steal_total", "counter",
+            "Tasks stolen between ForkJoinPool workers", ForkJoinPool::getStealCount);
+        appendForkJoin(sb, executors, "akiasync_forkjoin_queued_submissions", "gauge",
+            "External submissions not yet picked up by a worker", ForkJoinPool::getQueuedSubmissionCount);
+        appendForkJoin(sb, executors, "akiasync_forkjoin_running_threads", "gauge",
+            "ForkJoinPool workers not blocked in joins or managed blocks", ForkJoinPool::getRunningThreadCount);
+        appendForkJoin(sb, executors, "akiasync_forkjoin_parallelism", "gauge",
+            "Target parallelism of the ForkJoinPool", ForkJoinPool::getParallelism);
+    }
+
+    private void appendTopology(StringBuilder sb) {
+        ExecutorTopology topology = ExecutorTopology.get();
+        if (topology == null) {
+            return;
+        }
+        List<WeightedLane> lanes = topology.getLanes();
+
+        header(sb, "akiasync_topology_cpu_budget", "gauge", "Worker threads available to all async subsystems");
+        sb.append("akiasync_topology_cpu_budget ").append(topology.getCpuBudget()).append('\n');
+
+        header(sb, "akiasync_topology_active_drainers", "gauge", "Lane drainers currently holding a shared worker");
+        sb.append("akiasync_topology_active_drainers ").append(topology.getActiveDrainers()).append('\n');
+
+        appendLane(sb, lanes, "akiasync_lane_share", "gauge",
+            "Workers guaranteed to the lane while the shared pool is saturated", WeightedLane::getShare);
+        appendLane(sb, lanes, "akiasync_lane_drainers", "gauge",
+            "Shared workers currently draining the lane", WeightedLane::getDrainerCount);
+        appendLane(sb, lanes, "akiasync_lane_submitted_total", "counter",
+            "Tasks submitted to the lane", WeightedLane::getSubmittedCount);
+        appendLane(sb, lanes, "akiasync_lane_rejected_total", "counter",
+            "Tasks rejected because the lane queue was full", WeightedLane::getRejectedCount);
+    }
+
+    private static void appendLane(StringBuilder sb, List<WeightedLane> lanes,
+                                   String metric, String type, String help,
+                                   ToLongFunction<WeightedLane> value) {
+        header(sb, metric, type, help);
+        for (WeightedLane lane : lanes) {
+            sample(sb, metric, "lane", lane.getName(), value.applyAsLong(lane));
+        }
+    }
+
+    private static void appendForkJoin(StringBuilder sb, Map<String, ExecutorService> executors,
+                                       String metric, String type, String help,
+                                       ToLongFunction<ForkJoinPool> value) {
+        header(sb, metric, type, help);
+        for (Map.Entry<String, ExecutorService> entry : executors.entrySet()) {
+            if (entry.getValue() instanceof ForkJoinPool pool) {
+                sample(sb, metric, "executor", entry.getKey(), value.applyAsLong(pool));
+            }
+        }
+    }
+
+    private void appendDeadlineScheduler(StringBuilder sb) {
+        TickDeadlineScheduler scheduler = TickDeadlineScheduler.get();
+        if (scheduler == null) {
+            return;
+        }
+        TickDeadlineScheduler.TickPhase[] phases = TickDeadlineScheduler.TickPhase.values();
+
+        header(sb, "akiasync_deadline_queued_tasks", "gauge", "Tasks waiting in the tick deadline scheduler");
+        for (TickDeadlineScheduler.TickPhase phase : phases) {
+            sample(sb, "akiasync_deadline_queued_tasks", "phase", phaseLabel(phase), scheduler.getQueuedCount(phase));
+        }
+        header(sb, "akiasync_deadline_completed_total", "counter", "Tasks completed by the tick deadline scheduler");
+        for (TickDeadlineScheduler.TickPhase phase : phases) {
+            sample(sb, "akiasync_deadline_completed_total", "phase", phaseLabel(phase), scheduler.getCompletedCount(phase));
+        }
+        header(sb, "akiasync_deadline_missed_total", "counter", "Tasks that finished after their tick phase deadline");
+        for (TickDeadlineScheduler.TickPhase phase : phases) {
+            sample(sb, "akiasync_deadline_missed_total", "phase", phaseLabel(phase), scheduler.getMissedCount(phase));
+        }
+        header(sb, "akiasync_deadline_min_slack_ms", "gauge", "Smallest remaining slack before the deadline during the previous tick");
+        for (TickDeadlineScheduler.TickPhase phase : phases) {
+            sb.append(String.format(Locale.ROOT, "akiasync_deadline_min_slack_ms{phase=\"%s\"} %.3f%n",
+                phaseLabel(phase), scheduler.getLastTickMinSlackMillis(phase)));
+        }
+    }
+
+    private static String phaseLabel(TickDeadlineScheduler.TickPhase phase) {
+        return phase.name().toLowerCase(Locale.ROOT);
+    }
+
+    private void appendSmoothingSchedulers(StringBuilder sb) {
+        if (plugin.getBridge() == null) {
+            return;
+        }
+        Map<String, TaskSmoothingScheduler> schedulers = new LinkedHashMap<>();
+        putScheduler(schedulers, "block_tick", plugin.getBridge().getBlockTickSmoothingScheduler());
+        putScheduler(schedulers, "entity_tick", plugin.getBridge().getEntityTickSmoothingScheduler());
+        putScheduler(schedulers, "block_entity", plugin.getBridge().getBlockEntitySmoothingScheduler());
+        if (schedulers.isEmpty()) {
+            return;
+        }
+
+        appendSmoothing(sb, schedulers, "akiasync_smoothing_queue_size", "gauge",
+            "Tasks waiting in the smoothing queue", TaskSmoothingScheduler::getQueueSize);
+        appendSmoothing(sb, schedulers, "akiasync_smoothing_queue_capacity", "gauge",
+            "Maximum smoothing queue size", TaskSmoothingScheduler::getMaxQueueSize);
+        appendSmoothing(sb, schedulers, "akiasync_smoothing_submitted_total", "counter",
+            "Tasks accepted by the smoothing scheduler", TaskSmoothingScheduler::getTotalSubmitted);
+        appendSmoothing(sb, schedulers, "akiasync_smoothing_executed_total", "counter",
+            "Tasks dispatched by the smoothing scheduler", TaskSmoothingScheduler::getTotalExecuted);
+        appendSmoothing(sb, schedulers, "akiasync_smoothing_dropped_total", "counter",
+            "Tasks dropped because the smoothing queue was full", TaskSmoothingScheduler::getTotalDropped);
+        appendSmoothing(sb, schedulers, "akiasync_smoothing_evicted_total", "counter",
+            "Queued LOW priority tasks evicted to admit CRITICAL tasks", TaskSmoothingScheduler::getTotalEvicted);
+        appendSmoothing(sb, schedulers, "akiasync_smoothing_dispatch_wakeups_total", "counter",
+            "Dispatcher wake-ups; each wake-up drains a batch of queued tasks", TaskSmoothingScheduler::getDispatchWakeups);
+    }
+
+    private static void putScheduler(Map<String, TaskSmoothingScheduler> schedulers, String name, Object scheduler) {
+        if (scheduler instanceof TaskSmoothingScheduler smoothing) {
+            schedulers.put(name, smoothing);
+        }
+    }
+
+    private static void appendSmoothing(StringBuilder sb, Map<String, TaskSmoothingScheduler> schedulers,
+                                        String metric, String type, String help,
+                                        ToLongFunction<TaskSmoothingScheduler> value) {
+        header(sb, metric, type, help);
+        for (Map.Entry<String, TaskSmoothingScheduler> entry : schedulers.entrySet()) {
+            sample(sb, metric, "scheduler", entry.getKey(), value.applyAsLong(entry.getValue()));
+        }
+    }
+
+    private void appendLoadBalancer(StringBuilder sb) {
+        header(sb, "akiasync_load_balancer_submit_rate", "gauge", "Fraction of non-critical tasks admitted by the load balancer");
+        sb.append(String.format(Locale.ROOT, "akiasync_load_balancer_submit_rate %.4f%n",
+            AdaptiveLoadBalancer.getTaskSubmitRate()));
+
+        header(sb, "akiasync_load_balancer_concurrency_scale", "gauge", "Multiplier applied to per-tick smoothing concurrency");
+        sb.append(String.format(Locale.ROOT, "akiasync_load_balancer_concurrency_scale %.4f%n",
+            AdaptiveLoadBalancer.getConcurrencyScale()));
+
+        header(sb, "akiasync_load_balancer_mspt", "gauge", "Smoothed MSPT seen by the load balancer and its target");
+        sb.append(String.format(Locale.ROOT, "akiasync_load_balancer_mspt{kind=\"measured\"} %.3f%n",
+            AdaptiveLoadBalancer.getSmoothedMspt()));
+        sb.append(String.format(Locale.ROOT, "akiasync_load_balancer_mspt{kind=\"target\"} %.3f%n",
+            AdaptiveLoadBalancer.getTargetMspt()));
+
+        header(sb, "akiasync_load_balancer_term", "gauge", "PID controller terms (normalized error, integral, derivative)");
+        sb.append(String.format(Locale.ROOT, "akiasync_load_balancer_term{term=\"error\"} %.5f%n",
+            AdaptiveLoadBalancer.getError()));
+        sb.append(String.format(Locale.ROOT, "akiasync_load_balancer_term{term=\"integral\"} %.5f%n",
+            AdaptiveLoadBalancer.getIntegral()));
+        sb.append(String.format(Locale.ROOT, "akiasync_load_balancer_term{term=\"derivative\"} %.5f%n",
+            AdaptiveLoadBalancer.getDerivative()));
+    }
+
+    private void appendCaches(StringBuilder sb) {
+        header(sb, "akiasync_density_cache_requests_total", "counter", "Sakura block density cache lookups by result");
+        sb.append("akiasync_density_cache_requests_total{result=\"exact_hit\"} ")
+            .append(SakuraCacheStatistics.getDensityExactHits()).append('\n');
+        sb.append("akiasync_density_cache_requests_total{result=\"lenient_hit\"} ")
+            .append(SakuraCacheStatistics.getDensityLenientHits()).append('\n');
+        sb.append("akiasync_density_cache_requests_total{result=\"miss\"} ")
+            .append(SakuraCacheStatistics.getDensityMisses()).append('\n');
+
+        header(sb, "akiasync_density_cache_invalidations_total", "counter", "Density entries dropped because a block changed in a covered section");
+        sb.append("akiasync_density_cache_invalidations_total ")
+            .append(SakuraCacheStatistics.getDensityInvalidations()).append('\n');
+
+        header(sb, "akiasync_density_cache_hit_ratio", "gauge", "Sakura block density cache hit ratio since startup");
+        sb.append(String.format(Locale.ROOT, "akiasync_density_cache_hit_ratio %.4f%n",
+            SakuraCacheStatistics.getDensityHitRate()));
+
+        header(sb, "akiasync_density_cache_levels", "gauge", "Worlds holding a block density cache");
+        sb.append("akiasync_density_cache_levels ")
+            .append(SakuraCacheStatistics.getDensityCacheLevelCount()).append('\n');
+
+        header(sb, "akiasync_pandawire_evaluators", "gauge", "Cached PandaWire redstone evaluators");
+        sb.append("akiasync_pandawire_evaluators ")
+            .append(SakuraCacheStatistics.getPandaWireEvaluatorCount()).append('\n');
+
+        MultiLayerPathCache pathCache = EnhancedPathfindingSystem.getPathCache();
+        header(sb, "akiasync_path_cache_hits_total", "counter", "Path cache hits by W-TinyLFU segment");
+        for (MultiLayerPathCache.Segment segment : MultiLayerPathCache.Segment.values()) {
+            sample(sb, "akiasync_path_cache_hits_total", "segment", segment.name().toLowerCase(Locale.ROOT),
+                pathCache.getHits(segment));
+        }
+        sample(sb, "akiasync_path_cache_hits_total", "segment", "similar", pathCache.getSimilarHits());
+
+        header(sb, "akiasync_path_cache_misses_total", "counter", "Path cache lookups without a usable path");
+        sb.append("akiasync_path_cache_misses_total ").append(pathCache.getMisses()).append('\n');
+
+        header(sb, "akiasync_path_cache_invalidations_total", "counter", "Cached paths dropped because a block on them changed");
+        sample(sb, "akiasync_path_cache_invalidations_total", "cache", "multi_layer", pathCache.getInvalidations());
+        sample(sb, "akiasync_path_cache_invalidations_total", "cache", "shared", SharedPathCache.getInvalidationCount());
+
+        header(sb, "akiasync_path_cache_evictions_total", "counter", "Path cache evictions by W-TinyLFU segment");
+        for (MultiLayerPathCache.Segment segment : MultiLayerPathCache.Segment.values()) {
+            sample(sb, "akiasync_path_cache_evictions_total", "segment", segment.name().toLowerCase(Locale.ROOT),
+                pathCache.getEvictions(segment));
+        }
+
+        header(sb, "akiasync_path_cache_weight", "gauge", "Path cache weighted size in path nodes");
+        sb.append("akiasync_path_cache_weight ").append(pathCache.getWeightedSize()).append('\n');
+    }
+
+    private void appendPathBudget(StringBuilder sb) {
+        PathTickBudget budget = AsyncPathProcessor.getTickBudget();
+        header(sb, "akiasync_path_budget_pending", "gauge", "Path requests waiting for a tick budget slot by priority tier");
+        for (PathTickBudget.Tier tier : PathTickBudget.Tier.values()) {
+            sample(sb, "akiasync_path_budget_pending", "tier", tier.name().toLowerCase(Locale.ROOT),
+                budget.getPendingCount(tier));
+        }
+
+        header(sb, "akiasync_path_budget_dispatched_total", "counter", "Path requests dispatched to the pathfinding executor");
+        sb.append("akiasync_path_budget_dispatched_total ").append(budget.getDispatchedCount()).append('\n');
+
+        header(sb, "akiasync_path_budget_deferred_total", "counter", "Path requests dispatched after waiting past their enqueue tick");
+        sb.append("akiasync_path_budget_deferred_total ").append(budget.getDeferredCount()).append('\n');
+
+        header(sb, "akiasync_path_budget_dropped_total", "counter", "Path requests dropped without computing by reason");
+        sample(sb, "akiasync_path_budget_dropped_total", "reason", "overflow", budget.getDroppedOverflowCount());
+        sample(sb, "akiasync_path_budget_dropped_total", "reason", "expired", budget.getDroppedExpiredCount());
+
+        header(sb, "akiasync_path_budget_saturated_total", "counter", "Flushes stopped early because the pathfinding executor was full");
+        sb.append("akiasync_path_budget_saturated_total ").append(budget.getSaturationCount()).append('\n');
+    }
+
+    private void appendPathStore(StringBuilder sb) {
+        if (!PersistentPathStore.isEnabled()) {
+            return;
+        }
+        header(sb, "akiasync_path_store_entries_total", "counter", "Persistent path cache entries by outcome");
+        sample(sb, "akiasync_path_store_entries_total", "result", "restored", PersistentPathStore.getRestoredCount());
+        sample(sb, "akiasync_path_store_entries_total", "result", "rejected", PersistentPathStore.getRejectedCount());
+        sample(sb, "akiasync_path_store_entries_total", "result", "saved", PersistentPathStore.getSavedCount());
+    }
+
+    private void appendThrottlers(StringBuilder sb) {
+        header(sb, "akiasync_entity_packet_checks_total", "counter", "Entity packets inspected by the packet throttler");
+        sb.append("akiasync_entity_packet_checks_total{result=\"allowed\"} ")
+            .append(EntityPacketThrottler.getAllowedPackets()).append('\n');
+        sb.append("akiasync_entity_packet_checks_total{result=\"throttled\"} ")
+            .append(EntityPacketThrottler.getThrottledPackets()).append('\n');
+
+        header(sb, "akiasync_entity_data_checks_total", "counter", "Entity data updates inspected by the data throttler");
+        sb.append("akiasync_entity_data_checks_total{kind=\"metadata\"} ")
+            .append(EntityDataThrottler.getMetadataChecks()).append('\n');
+        sb.append("akiasync_entity_data_checks_total{kind=\"nbt\"} ")
+            .append(EntityDataThrottler.getNbtChecks()).append('\n');
+
+        header(sb, "akiasync_entity_data_throttled_total", "counter", "Entity data updates suppressed by the data throttler");
+        sb.append("akiasync_entity_data_throttled_total{kind=\"metadata\"} ")
+            .append(EntityDataThrottler.getMetadataThrottled()).append('\n');
+        sb.append("akiasync_entity_data_throttled_total{kind=\"nbt\"} ")
+            .append(EntityDataThrottler.getNbtThrottled()).append('\n');
+
+        EntityThrottlingManager throttlingManager = plugin.getThrottlingManager();
+        if (throttlingManager == null || !throttlingManager.isEnabled()) {
+            return;
+        }
+        header(sb, "akiasync_entity_throttled_types", "gauge", "Entity types currently over their throttle limit");
+        sb.append("akiasync_entity_throttled_types ")
+            .append(throttlingManager.getThrottledTypeCount()).append('\n');
+
+        header(sb, "akiasync_entity_throttle_removed_total", "counter", "Entities removed for exceeding their removal limit");
+        sb.append("akiasync_entity_throttle_removed_total ")
+            .append(throttlingManager.getRemovedEntityCount()).append('\n');
+    }
+
+    private static void header(StringBuilder sb, String metric, String type, String help) {
+        sb.append('\n')
+            .append("# HELP ").append(metric).append(' ').append(help).append('\n')
+            .append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String metric, String label, String name, long value) {
+        sb.append(metric).append('{').append(label).append("=\"").append(name).append("\"} ")
+            .append(value).append('\n');
+    }
+}
@@ -185,6 +185,22 @@ public class EntityDataThrottler {
         nbtThrottled = 0;
     }
     
+    public static long getMetadataChecks() {
+        return metadataChecks;
+    }
+    
+    public static long getMetadataThrottled() {
+        return metadataThrottled;
+    }
+    
+    public static long getNbtChecks() {
+        return nbtChecks;
+    }
+    
+    public static long getNbtThrottled() {
+        return nbtThrottled;
+    }
+    
     public static long getCurrentTick() {
         return currentTick;
     }
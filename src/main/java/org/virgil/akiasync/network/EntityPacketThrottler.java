@@ -170,6 +170,18 @@ public class EntityPacketThrottler {
         allowedPackets = 0;
     }
     
+    public static long getTotalChecks() {
+        return totalChecks;
+    }
+    
+    public static long getAllowedPackets() {
+        return allowedPackets;
+    }
+    
+    public static long getThrottledPackets() {
+        return throttledPackets;
+    }
+    
     public static long getCurrentTick() {
         return currentTick;
     }
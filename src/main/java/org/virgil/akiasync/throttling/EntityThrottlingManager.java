@@ -13,6 +13,7 @@ import java.io.File;
 import java.util.*;
 import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class EntityThrottlingManager {
 
@@ -24,6 +25,8 @@ public class EntityThrottlingManager {
 
     private final Map<EntityType, EntityCounter> entityCounters = new ConcurrentHashMap<>();
 
+    private final AtomicLong removedEntities = new AtomicLong(0);
+
     private int taskId = -1;
     private Object foliaTask = null; 
 
@@ -319,6 +322,7 @@ public class EntityThrottlingManager {
             }
             removed++;
         }
+        removedEntities.addAndGet(removed);
     }
 
     private void removeEntityInRegion(Entity entity) {
@@ -368,6 +372,24 @@ public class EntityThrottlingManager {
         return entity.getTicksLived() % throttleInterval != 0;
     }
 
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getThrottledTypeCount() {
+        int throttled = 0;
+        for (EntityCounter counter : entityCounters.values()) {
+            if (counter.isThrottled()) {
+                throttled++;
+            }
+        }
+        return throttled;
+    }
+
+    public long getRemovedEntityCount() {
+        return removedEntities.get();
+    }
+
     public void reload() {
         shutdown();
         initialize();
@@ -0,0 +1,161 @@
+package org.virgil.akiasync.mixin.async.chunk;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.virgil.akiasync.mixin.optimization.thread.VirtualThreadService;
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+
+public final class ChunkSaveExecutor {
+
+    private static final int REGION_SHIFT = 5;
+    private static final int MAX_CONCURRENT_SAVES = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+    private static final long FLUSH_WAIT_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long FLUSH_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final ConcurrentHashMap<Long, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private static final Semaphore permits = new Semaphore(MAX_CONCURRENT_SAVES);
+    private static final AtomicLong submitted = new AtomicLong(0);
+    private static final AtomicLong chained = new AtomicLong(0);
+    private static final AtomicLong flushDeferred = new AtomicLong(0);
+
+    private static long flushWindowStart = System.nanoTime() - FLUSH_WINDOW_NANOS - 1;
+    private static long flushWaitSpent = 0;
+
+    private static volatile ExecutorService executor;
+    private static volatile boolean checked = false;
+    private static volatile boolean shutdown = false;
+
+    private ChunkSaveExecutor() {
+    }
+
+    private static ExecutorService executor() {
+        if (!checked) {
+            synchronized (ChunkSaveExecutor.class) {
+                if (!checked) {
+                    if (!shutdown && VirtualThreadService.isEnabled()) {
+                        executor = VirtualThreadService.newBlockingExecutor("AkiAsync-ChunkSave-", 1, Thread.NORM_PRIORITY);
+                    }
+                    checked = true;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static long regionKey(long chunkPos) {
+        int regionX = ((int) chunkPos) >> REGION_SHIFT;
+        int regionZ = ((int) (chunkPos >>> 32)) >> REGION_SHIFT;
+        return (regionX & 0xFFFFFFFFL) | ((long) regionZ << 32);
+    }
+
+    public static boolean submit(long chunkPos, Runnable save) {
+        ExecutorService exec = executor();
+        if (exec == null || shutdown) {
+            return false;
+        }
+        submitted.incrementAndGet();
+        Runnable bounded = () -> {
+            permits.acquireUninterruptibly();
+            try {
+                save.run();
+            } finally {
+                permits.release();
+            }
+        };
+        long region = regionKey(chunkPos);
+        CompletableFuture<Void> next = inFlight.compute(region, (key, previous) -> {
+            if (previous == null || previous.isDone()) {
+                return CompletableFuture.runAsync(bounded, exec);
+            }
+            chained.incrementAndGet();
+            return previous.handle((ignored, failure) -> null).thenRunAsync(bounded, exec);
+        });
+        next.whenComplete((ignored, failure) -> inFlight.remove(region, next));
+        return true;
+    }
+
+    public static synchronized boolean awaitRegionForFlush(long chunkPos) {
+        CompletableFuture<Void> pending = inFlight.get(regionKey(chunkPos));
+        if (pending == null || pending.isDone()) {
+            return true;
+        }
+        long start = System.nanoTime();
+        if (start - flushWindowStart > FLUSH_WINDOW_NANOS) {
+            flushWindowStart = start;
+            flushWaitSpent = 0;
+        }
+        long budget = FLUSH_WAIT_BUDGET_NANOS - flushWaitSpent;
+        if (budget <= 0) {
+            flushDeferred.incrementAndGet();
+            return false;
+        }
+        try {
+            pending.handle((ignored, failure) -> null).get(budget, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            flushDeferred.incrementAndGet();
+            BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] Flush wait budget of %d ms used up at chunk %d; further flush saves queue behind their region",
+                TimeUnit.NANOSECONDS.toMillis(FLUSH_WAIT_BUDGET_NANOS), chunkPos);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] Waiting for pending saves of chunk %d failed: %s", chunkPos, e);
+            return false;
+        } finally {
+            flushWaitSpent += System.nanoTime() - start;
+        }
+    }
+
+    public static int getPendingCount() {
+        return inFlight.size();
+    }
+
+    public static long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    public static long getChainedCount() {
+        return chained.get();
+    }
+
+    public static long getFlushDeferredCount() {
+        return flushDeferred.get();
+    }
+
+    public static int getMaxConcurrentSaves() {
+        return MAX_CONCURRENT_SAVES;
+    }
+
+    public static synchronized void shutdown(long timeout, TimeUnit unit) {
+        shutdown = true;
+        ExecutorService exec = executor;
+        int pending = inFlight.size();
+        try {
+            CompletableFuture.allOf(inFlight.values().toArray(new CompletableFuture[0]))
+                .get(timeout, unit);
+        } catch (TimeoutException e) {
+            BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] Timed out after %d %s waiting for %d pending region saves; %d still running",
+                timeout, unit, pending, inFlight.size());
+        } catch (InterruptedException e) {
+            BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] Interrupted while waiting for %d pending region saves", inFlight.size());
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] Pending region save failed during shutdown: %s", e.getMessage());
+        }
+        if (exec != null) {
+            exec.shutdown();
+        }
+        executor = null;
+        inFlight.clear();
+    }
+}
@@ -6,6 +6,9 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.virgil.akiasync.mixin.async.executor.ExecutorTopology;
+import org.virgil.akiasync.mixin.async.executor.WeightedLane;
+
 public final class ChunkTickExecutor {
     private static volatile ForkJoinPool POOL;
     private static volatile ThreadPoolExecutor FALLBACK_POOL;
@@ -49,15 +52,16 @@ public final class ChunkTickExecutor {
         }
     }
     public static CompletableFuture<ChunkSnapshot> runAsync(ChunkSnapshot snap) {
-        if (POOL == null || POOL.isShutdown()) {
-            initializePools();
-        }
         return CompletableFuture.supplyAsync(() -> {
             return snap;
-        }, POOL);
+        }, getExecutor());
     }
 
     public static java.util.concurrent.ExecutorService getExecutor() {
+        WeightedLane lane = ExecutorTopology.laneOrNull(ExecutorTopology.CHUNK_TICK);
+        if (lane != null) {
+            return lane;
+        }
         if (POOL == null || POOL.isShutdown()) {
             initializePools();
         }
@@ -0,0 +1,236 @@
+package org.virgil.akiasync.mixin.async.executor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+
+public final class ExecutorTopology {
+
+    public static final String GENERAL = "general";
+    public static final String LIGHTING = "lighting";
+    public static final String TNT = "tnt";
+    public static final String CHUNK_TICK = "chunk_tick";
+    public static final String VILLAGER_BREED = "villager_breed";
+    public static final String BRAIN = "brain";
+    public static final String COLLISION = "collision";
+    public static final String PATHFINDING = "pathfinding";
+    public static final String CHUNK_LOAD = "chunk_load";
+    public static final String DEADLINE = "deadline";
+
+    private static volatile ExecutorTopology installed;
+
+    private final ForkJoinPool pool;
+    private volatile int cpuBudget;
+    private final Map<String, WeightedLane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger activeDrainers = new AtomicInteger(0);
+    private volatile int totalWeight = 0;
+
+    public ExecutorTopology(int cpuBudget) {
+        if (cpuBudget <= 0) {
+            throw new IllegalArgumentException("CPU budget must be positive");
+        }
+        this.cpuBudget = cpuBudget;
+        this.pool = new ForkJoinPool(
+            cpuBudget,
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("AkiAsync-Shared-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.NORM_PRIORITY - 1);
+                return thread;
+            },
+            (thread, throwable) -> {
+                BridgeConfigCache.errorLog("[AkiAsync-Shared] Uncaught exception in thread %s: %s",
+                    thread.getName(), throwable);
+            },
+            true
+        );
+    }
+
+    public static int defaultCpuBudget() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        return Math.max(2, cores - 2);
+    }
+
+    public static void install(ExecutorTopology topology) {
+        installed = topology;
+    }
+
+    public static ExecutorTopology get() {
+        return installed;
+    }
+
+    public static WeightedLane laneOrNull(String name) {
+        ExecutorTopology topology = installed;
+        return topology != null ? topology.getLane(name) : null;
+    }
+
+    public synchronized WeightedLane lane(String name, int weight, int maxQueued) {
+        WeightedLane existing = lanes.get(name);
+        if (existing != null && !existing.isShutdown()) {
+            return existing;
+        }
+        WeightedLane lane = new WeightedLane(this, name, Math.max(1, weight), maxQueued);
+        lanes.put(name, lane);
+        recomputeShares();
+        return lane;
+    }
+
+    public WeightedLane getLane(String name) {
+        WeightedLane lane = lanes.get(name);
+        return lane != null && !lane.isShutdown() ? lane : null;
+    }
+
+    public List<WeightedLane> getLanes() {
+        List<WeightedLane> result = new ArrayList<>(lanes.values());
+        result.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return Collections.unmodifiableList(result);
+    }
+
+    synchronized void removeLane(WeightedLane lane) {
+        if (lanes.remove(lane.getName(), lane)) {
+            recomputeShares();
+        }
+    }
+
+    public synchronized int resize(int newBudget) {
+        if (newBudget <= 0) {
+            throw new IllegalArgumentException("CPU budget must be positive");
+        }
+        int previous = cpuBudget;
+        if (newBudget != previous) {
+            pool.setParallelism(newBudget);
+            cpuBudget = newBudget;
+            recomputeShares();
+            for (WeightedLane lane : lanes.values()) {
+                lane.kick();
+            }
+        }
+        return previous;
+    }
+
+    public synchronized void reconfigureLane(String name, int weight, int maxQueued) {
+        WeightedLane lane = lanes.get(name);
+        if (lane == null) {
+            return;
+        }
+        lane.setMaxQueued(maxQueued);
+        if (lane.getWeight() != Math.max(1, weight)) {
+            lane.setWeight(Math.max(1, weight));
+            recomputeShares();
+        }
+    }
+
+    private void recomputeShares() {
+        int weights = 0;
+        for (WeightedLane lane : lanes.values()) {
+            weights += lane.getWeight();
+        }
+        totalWeight = weights;
+        for (WeightedLane lane : lanes.values()) {
+            lane.setShare(shareFor(lane.getWeight(), weights));
+        }
+    }
+
+    private int shareFor(int weight, int weights) {
+        if (weights <= 0) {
+            return cpuBudget;
+        }
+        return Math.max(1, Math.round((float) cpuBudget * weight / weights));
+    }
+
+    boolean tryAcquireDrainer(WeightedLane lane, int laneDrainers) {
+        while (true) {
+            int active = activeDrainers.get();
+            int limit = active >= cpuBudget ? lane.getShare() : cpuBudget;
+            if (laneDrainers >= limit) {
+                return false;
+            }
+            if (activeDrainers.compareAndSet(active, active + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void releaseDrainer() {
+        activeDrainers.decrementAndGet();
+    }
+
+    void dispatch(Runnable drainer) {
+        pool.execute(drainer);
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getCpuBudget() {
+        return cpuBudget;
+    }
+
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int getActiveDrainers() {
+        return activeDrainers.get();
+    }
+
+    public boolean isShutdown() {
+        return pool.isShutdown();
+    }
+
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        List<WeightedLane> snapshot = new ArrayList<>(lanes.values());
+        for (WeightedLane lane : snapshot) {
+            lane.shutdown();
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            for (WeightedLane lane : snapshot) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !lane.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+            pool.shutdown();
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !pool.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                pool.shutdownNow();
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (installed == this) {
+                installed = null;
+            }
+        }
+    }
+
+    public String getStatistics() {
+        StringBuilder sb = new StringBuilder(String.format(
+            "SharedPool: Budget=%d | Size=%d | Active=%d | Drainers=%d | Steal=%d",
+            cpuBudget,
+            pool.getPoolSize(),
+            pool.getActiveThreadCount(),
+            activeDrainers.get(),
+            pool.getStealCount()
+        ));
+        for (WeightedLane lane : getLanes()) {
+            sb.append("\n  ").append(lane.getStatistics());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,414 @@
+package org.virgil.akiasync.mixin.async.executor;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+
+public final class TickDeadlineScheduler {
+
+    public static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final int DRAIN_BATCH = 16;
+
+    public enum TickPhase {
+        ENTITIES(TimeUnit.MILLISECONDS.toNanos(30), false),
+        BLOCK_ENTITIES(TimeUnit.MILLISECONDS.toNanos(40), false),
+        TICK_END(TICK_NANOS, false),
+        BACKGROUND(TimeUnit.SECONDS.toNanos(1), true);
+
+        private final long offsetNanos;
+        private final boolean relativeToSubmit;
+
+        TickPhase(long offsetNanos, boolean relativeToSubmit) {
+            this.offsetNanos = offsetNanos;
+            this.relativeToSubmit = relativeToSubmit;
+        }
+    }
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private static volatile TickDeadlineScheduler installed;
+
+    private final Executor executor;
+    private volatile int maxDrainers;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentLinkedQueue<DeadlineTask>[] queues = new ConcurrentLinkedQueue[PHASES.length];
+    private final PhaseStats[] stats = new PhaseStats[PHASES.length];
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final AtomicInteger drainers = new AtomicInteger(0);
+    private final AtomicInteger backgroundRunning = new AtomicInteger(0);
+    private final AtomicLong tickNumber = new AtomicLong(0);
+    private final LongAdder reportedMisses = new LongAdder();
+
+    private volatile long tickStartNanos = System.nanoTime();
+    private volatile boolean shutdown = false;
+
+    public TickDeadlineScheduler(Executor executor, int maxDrainers) {
+        this.executor = executor;
+        this.maxDrainers = Math.max(1, maxDrainers);
+        for (int i = 0; i < PHASES.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+            stats[i] = new PhaseStats();
+        }
+    }
+
+    public static void install(TickDeadlineScheduler scheduler) {
+        installed = scheduler;
+    }
+
+    public static TickDeadlineScheduler get() {
+        return installed;
+    }
+
+    public static Executor executorFor(TickPhase phase, Executor fallback) {
+        return command -> {
+            TickDeadlineScheduler scheduler = installed;
+            if (scheduler != null && !scheduler.shutdown) {
+                scheduler.submit(command, phase);
+            } else {
+                fallback.execute(command);
+            }
+        };
+    }
+
+    public static void onServerTickStart() {
+        TickDeadlineScheduler scheduler = installed;
+        if (scheduler != null) {
+            scheduler.onTickStart();
+        }
+    }
+
+    public void onTickStart() {
+        tickStartNanos = System.nanoTime();
+        tickNumber.incrementAndGet();
+
+        long missed = 0;
+        for (PhaseStats phaseStats : stats) {
+            phaseStats.rollTick();
+            missed += phaseStats.lastTickMissed;
+        }
+        if (missed > 0) {
+            reportedMisses.add(missed);
+            org.virgil.akiasync.mixin.bridge.Bridge bridge =
+                org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+            if (bridge != null && bridge.isDebugLoggingEnabled()) {
+                bridge.debugLog("[AkiAsync-Deadline] Tick %d missed %d deadlines (%s)",
+                    tickNumber.get() - 1, missed, describeLastTick());
+            }
+        }
+    }
+
+    public void submit(Runnable task, TickPhase phase) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        if (shutdown) {
+            throw new RejectedExecutionException("Tick deadline scheduler is shut down");
+        }
+        long now = System.nanoTime();
+        long deadline = phase.relativeToSubmit
+            ? now + phase.offsetNanos
+            : Math.max(now, tickStartNanos + phase.offsetNanos);
+
+        DeadlineTask deadlineTask = new DeadlineTask(task, phase, deadline);
+        stats[phase.ordinal()].submitted.increment();
+        queues[phase.ordinal()].offer(deadlineTask);
+        queued.incrementAndGet();
+        try {
+            trySpawnDrainer();
+        } catch (RejectedExecutionException e) {
+            if (queues[phase.ordinal()].remove(deadlineTask)) {
+                queued.decrementAndGet();
+                stats[phase.ordinal()].submitted.decrement();
+                throw e;
+            }
+        }
+    }
+
+    private void trySpawnDrainer() {
+        while (hasRunnableWork()) {
+            int current = drainers.get();
+            if (current - backgroundRunning.get() >= maxDrainers) {
+                return;
+            }
+            if (drainers.compareAndSet(current, current + 1)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    drainers.decrementAndGet();
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                boolean backgroundPermit = tryAcquireBackground();
+                DeadlineTask task = pollEarliest(backgroundPermit);
+                if (task == null || task.phase != TickPhase.BACKGROUND) {
+                    if (backgroundPermit) {
+                        backgroundRunning.decrementAndGet();
+                    }
+                    if (task == null) {
+                        break;
+                    }
+                    queued.decrementAndGet();
+                    task.run();
+                    continue;
+                }
+                queued.decrementAndGet();
+                spawnDrainerQuietly();
+                try {
+                    task.run();
+                } finally {
+                    backgroundRunning.decrementAndGet();
+                }
+            }
+        } finally {
+            drainers.decrementAndGet();
+        }
+        if (!shutdown) {
+            spawnDrainerQuietly();
+        }
+    }
+
+    private void spawnDrainerQuietly() {
+        try {
+            trySpawnDrainer();
+        } catch (RejectedExecutionException ignored) {
+        }
+    }
+
+    private int backgroundLimit() {
+        return Math.max(1, maxDrainers / 2);
+    }
+
+    private boolean tryAcquireBackground() {
+        while (true) {
+            int current = backgroundRunning.get();
+            if (current >= backgroundLimit()) {
+                return false;
+            }
+            if (backgroundRunning.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean hasRunnableWork() {
+        for (TickPhase phase : PHASES) {
+            if (!queues[phase.ordinal()].isEmpty()
+                && (phase != TickPhase.BACKGROUND || backgroundRunning.get() < backgroundLimit())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DeadlineTask pollEarliest(boolean includeBackground) {
+        while (true) {
+            ConcurrentLinkedQueue<DeadlineTask> earliest = null;
+            long earliestDeadline = 0;
+            for (TickPhase phase : PHASES) {
+                if (phase == TickPhase.BACKGROUND && !includeBackground) {
+                    continue;
+                }
+                ConcurrentLinkedQueue<DeadlineTask> queue = queues[phase.ordinal()];
+                DeadlineTask head = queue.peek();
+                if (head != null && (earliest == null || head.deadlineNanos - earliestDeadline < 0)) {
+                    earliest = queue;
+                    earliestDeadline = head.deadlineNanos;
+                }
+            }
+            if (earliest == null) {
+                return null;
+            }
+            DeadlineTask task = earliest.poll();
+            if (task != null) {
+                return task;
+            }
+        }
+    }
+
+    public void setMaxDrainers(int maxDrainers) {
+        this.maxDrainers = Math.max(1, maxDrainers);
+        trySpawnDrainer();
+    }
+
+    public int getMaxDrainers() {
+        return maxDrainers;
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public int getQueuedCount(TickPhase phase) {
+        return queues[phase.ordinal()].size();
+    }
+
+    public int getDrainerCount() {
+        return drainers.get();
+    }
+
+    public int getBackgroundRunningCount() {
+        return backgroundRunning.get();
+    }
+
+    public long getTickNumber() {
+        return tickNumber.get();
+    }
+
+    public long getSubmittedCount(TickPhase phase) {
+        return stats[phase.ordinal()].submitted.sum();
+    }
+
+    public long getCompletedCount(TickPhase phase) {
+        return stats[phase.ordinal()].completed.sum();
+    }
+
+    public long getMissedCount(TickPhase phase) {
+        return stats[phase.ordinal()].missed.sum();
+    }
+
+    public long getMissedCount() {
+        long total = 0;
+        for (PhaseStats phaseStats : stats) {
+            total += phaseStats.missed.sum();
+        }
+        return total;
+    }
+
+    public double getAverageSlackMillis(TickPhase phase) {
+        PhaseStats phaseStats = stats[phase.ordinal()];
+        long completed = phaseStats.completed.sum();
+        return completed == 0 ? 0.0 : phaseStats.slackSumNanos.sum() / (double) completed / 1_000_000.0;
+    }
+
+    public double getLastTickMinSlackMillis(TickPhase phase) {
+        return stats[phase.ordinal()].lastTickMinSlackNanos / 1_000_000.0;
+    }
+
+    private String describeLastTick() {
+        StringBuilder sb = new StringBuilder();
+        for (TickPhase phase : PHASES) {
+            PhaseStats phaseStats = stats[phase.ordinal()];
+            if (phaseStats.lastTickMissed > 0) {
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(phase).append('=').append(phaseStats.lastTickMissed)
+                    .append(String.format(" worst %.2fms", phaseStats.lastTickMinSlackNanos / 1_000_000.0));
+            }
+        }
+        return sb.toString();
+    }
+
+    public String getStatistics() {
+        StringBuilder sb = new StringBuilder(String.format(
+            "TickDeadline: Tick=%d | Queued=%d | Drainers=%d/%d | Background=%d/%d | Missed=%d",
+            tickNumber.get(), queued.get(), drainers.get(), maxDrainers,
+            backgroundRunning.get(), backgroundLimit(), getMissedCount()
+        ));
+        for (TickPhase phase : PHASES) {
+            PhaseStats phaseStats = stats[phase.ordinal()];
+            sb.append(String.format(
+                "%n  %s: Queued=%d | Completed=%d/%d | Missed=%d | AvgSlack=%.2fms | LastTickMinSlack=%.2fms",
+                phase, queues[phase.ordinal()].size(), phaseStats.completed.sum(), phaseStats.submitted.sum(),
+                phaseStats.missed.sum(), getAverageSlackMillis(phase), getLastTickMinSlackMillis(phase)
+            ));
+        }
+        return sb.toString();
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        if (installed == this) {
+            installed = null;
+        }
+        int cancelled = 0;
+        ConcurrentLinkedQueue<DeadlineTask> background = queues[TickPhase.BACKGROUND.ordinal()];
+        DeadlineTask dropped;
+        while ((dropped = background.poll()) != null) {
+            queued.decrementAndGet();
+            if (dropped.task instanceof Future<?> future) {
+                future.cancel(false);
+            }
+            cancelled++;
+        }
+        if (cancelled > 0) {
+            BridgeConfigCache.debugLog("[AkiAsync-Deadline] Cancelled %d background tasks at shutdown", cancelled);
+        }
+        DeadlineTask task;
+        while ((task = pollEarliest(false)) != null) {
+            queued.decrementAndGet();
+            task.run();
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    private final class DeadlineTask implements Runnable {
+        final Runnable task;
+        final TickPhase phase;
+        final long deadlineNanos;
+
+        DeadlineTask(Runnable task, TickPhase phase, long deadlineNanos) {
+            this.task = task;
+            this.phase = phase;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                BridgeConfigCache.errorLog("[AkiAsync-Deadline] Task failed in phase %s: %s", phase, t);
+            } finally {
+                stats[phase.ordinal()].record(deadlineNanos - System.nanoTime());
+            }
+        }
+    }
+
+    private static final class PhaseStats {
+        final LongAdder submitted = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final LongAdder missed = new LongAdder();
+        final LongAdder slackSumNanos = new LongAdder();
+        final LongAdder tickMissed = new LongAdder();
+        final LongAccumulator tickMinSlackNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        volatile long lastTickMissed;
+        volatile long lastTickMinSlackNanos;
+
+        void record(long slackNanos) {
+            completed.increment();
+            slackSumNanos.add(slackNanos);
+            tickMinSlackNanos.accumulate(slackNanos);
+            if (slackNanos < 0) {
+                missed.increment();
+                tickMissed.increment();
+            }
+        }
+
+        void rollTick() {
+            lastTickMissed = tickMissed.sumThenReset();
+            long minSlack = tickMinSlackNanos.getThenReset();
+            lastTickMinSlackNanos = minSlack == Long.MAX_VALUE ? 0 : minSlack;
+        }
+    }
+}
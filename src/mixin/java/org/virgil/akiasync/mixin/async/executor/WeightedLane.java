@@ -0,0 +1,232 @@
+package org.virgil.akiasync.mixin.async.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+
+public final class WeightedLane extends AbstractExecutorService {
+
+    private static final int DRAIN_BATCH = 32;
+
+    private final ExecutorTopology topology;
+    private final String name;
+    private volatile int weight;
+    private volatile int maxQueued;
+
+    private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final AtomicInteger drainers = new AtomicInteger(0);
+    private final AtomicInteger running = new AtomicInteger(0);
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Object terminationLock = new Object();
+
+    private volatile int share = 1;
+    private volatile boolean shutdown = false;
+
+    WeightedLane(ExecutorTopology topology, String name, int weight, int maxQueued) {
+        this.topology = topology;
+        this.name = name;
+        this.weight = weight;
+        this.maxQueued = maxQueued;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (shutdown) {
+            throw new RejectedExecutionException("Lane " + name + " is shut down");
+        }
+        if (maxQueued > 0 && queued.get() >= maxQueued) {
+            rejected.increment();
+            throw new RejectedExecutionException("Lane " + name + " is full (" + maxQueued + " queued)");
+        }
+        submitted.increment();
+        queue.offer(command);
+        queued.incrementAndGet();
+        trySpawnDrainer();
+    }
+
+    private void trySpawnDrainer() {
+        while (!queue.isEmpty()) {
+            int current = drainers.get();
+            if (!topology.tryAcquireDrainer(this, current)) {
+                return;
+            }
+            if (drainers.compareAndSet(current, current + 1)) {
+                try {
+                    topology.dispatch(this::drain);
+                } catch (RejectedExecutionException e) {
+                    drainers.decrementAndGet();
+                    topology.releaseDrainer();
+                    throw e;
+                }
+                return;
+            }
+            topology.releaseDrainer();
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                Runnable task = queue.poll();
+                if (task == null) {
+                    break;
+                }
+                queued.decrementAndGet();
+                runTask(task);
+            }
+        } finally {
+            drainers.decrementAndGet();
+            topology.releaseDrainer();
+        }
+        if (!queue.isEmpty() && !topology.isShutdown()) {
+            trySpawnDrainer();
+        } else if (shutdown) {
+            signalIfTerminated();
+        }
+    }
+
+    private void runTask(Runnable task) {
+        running.incrementAndGet();
+        try {
+            task.run();
+        } catch (Throwable t) {
+            BridgeConfigCache.errorLog("[AkiAsync-%s] Task failed: %s", name, t);
+        } finally {
+            running.decrementAndGet();
+            completed.increment();
+        }
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            synchronized (terminationLock) {
+                terminationLock.notifyAll();
+            }
+        }
+    }
+
+    void setShare(int share) {
+        this.share = share;
+    }
+
+    void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+
+    void kick() {
+        if (!topology.isShutdown()) {
+            trySpawnDrainer();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getShare() {
+        return share;
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public boolean isSaturated() {
+        int limit = maxQueued;
+        return limit > 0 && queued.get() >= limit;
+    }
+
+    public int getActiveCount() {
+        return running.get();
+    }
+
+    public int getDrainerCount() {
+        return drainers.get();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public String getStatistics() {
+        return String.format(
+            "Lane[%s]: Weight=%d | Share=%d | Drainers=%d | Active=%d | Queued=%d | Completed=%d/%d | Rejected=%d",
+            name, weight, share, drainers.get(), running.get(), queued.get(),
+            completed.sum(), submitted.sum(), rejected.sum()
+        );
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        topology.removeLane(this);
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        List<Runnable> pending = new ArrayList<>();
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            queued.decrementAndGet();
+            pending.add(task);
+        }
+        signalIfTerminated();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && queue.isEmpty() && drainers.get() == 0 && running.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (terminationLock) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(terminationLock, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(50)));
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+
+public final class ExplosionRayEngine {
+
+    private static final float RAY_ATTENUATION = 0.22500001F;
+    private static final int WORLD_BORDER = 30_000_000;
+    private static final float NO_RESISTANCE = -1.0F;
+    private static final float STOP = Float.POSITIVE_INFINITY;
+
+    private static final float[] RESISTANCE_BY_STATE = new float[Block.BLOCK_STATE_REGISTRY.size()];
+
+    static {
+        Arrays.fill(RESISTANCE_BY_STATE, Float.NaN);
+    }
+
+    private static final ThreadLocal<ExplosionRayEngine> ENGINES = ThreadLocal.withInitial(ExplosionRayEngine::new);
+
+    private final LongOpenHashSet visited = new LongOpenHashSet(512);
+    private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+    private long[] results = new long[256];
+    private int resultCount;
+
+    private float[] nodeTerms = new float[0];
+    private int[] nodeResolved = new int[0];
+    private int[] nodeAdded = new int[0];
+    private int epoch;
+
+    public ExplosionRayEngine() {
+    }
+
+    public static ExplosionRayEngine get() {
+        return ENGINES.get();
+    }
+
+    public int march(BlockGetter blocks, RandomSource random, double centerX, double centerY, double centerZ, float power) {
+        visited.clear();
+        resultCount = 0;
+
+        ExplosionSnapshot snapshot = blocks instanceof ExplosionSnapshot s ? s : null;
+        int minY = blocks.getMinBuildHeight();
+        int maxY = blocks.getMaxBuildHeight();
+        double[] steps = PrecomputedExplosionShape.getVanillaRaySteps();
+
+        for (int ray = 0; ray < steps.length; ray += 3) {
+            double stepX = steps[ray];
+            double stepY = steps[ray + 1];
+            double stepZ = steps[ray + 2];
+
+            float rayPower = power * (0.7F + random.nextFloat() * 0.6F);
+            double x = centerX;
+            double y = centerY;
+            double z = centerZ;
+
+            int blockX = Mth.floor(x);
+            int blockY = Mth.floor(y);
+            int blockZ = Mth.floor(z);
+            boolean entered = true;
+            float resistance = NO_RESISTANCE;
+
+            while (rayPower > 0.0F) {
+                if (entered) {
+                    if (blockY < minY || blockY >= maxY || blockX < -WORLD_BORDER || blockX >= WORLD_BORDER
+                        || blockZ < -WORLD_BORDER || blockZ >= WORLD_BORDER) {
+                        break;
+                    }
+                    int stateId = snapshot != null
+                        ? snapshot.getStateId(blockX, blockY, blockZ)
+                        : Block.getId(blocks.getBlockState(mutablePos.set(blockX, blockY, blockZ)));
+                    resistance = resistanceOf(stateId);
+                }
+
+                if (resistance != NO_RESISTANCE) {
+                    rayPower -= (resistance + 0.3F) * 0.3F;
+                }
+                if (entered && rayPower > 0.0F) {
+                    long packed = BlockPos.asLong(blockX, blockY, blockZ);
+                    if (visited.add(packed)) {
+                        if (resultCount == results.length) {
+                            results = Arrays.copyOf(results, resultCount * 2);
+                        }
+                        results[resultCount++] = packed;
+                    }
+                }
+
+                x += stepX;
+                y += stepY;
+                z += stepZ;
+                entered = false;
+                if (x < blockX || x >= blockX + 1) {
+                    blockX = Mth.floor(x);
+                    entered = true;
+                }
+                if (y < blockY || y >= blockY + 1) {
+                    blockY = Mth.floor(y);
+                    entered = true;
+                }
+                if (z < blockZ || z >= blockZ + 1) {
+                    blockZ = Mth.floor(z);
+                    entered = true;
+                }
+                rayPower -= RAY_ATTENUATION;
+            }
+        }
+        return resultCount;
+    }
+
+    public int march(ExplosionRayTemplate template, BlockGetter blocks, RandomSource random) {
+        visited.clear();
+        resultCount = 0;
+        prepareNodes(template.getNodeCount());
+
+        ExplosionSnapshot snapshot = blocks instanceof ExplosionSnapshot s ? s : null;
+        int minY = blocks.getMinBuildHeight();
+        int maxY = blocks.getMaxBuildHeight();
+        float power = template.getPower();
+        float maxRayPower = power * 1.3F;
+        int rayCount = template.getRayCount();
+
+        for (int ray = 0; ray < rayCount; ray++) {
+            float rayPower = power * (0.7F + random.nextFloat() * 0.6F);
+            int end = template.getRayEnd(ray);
+
+            walk:
+            for (int i = template.getRayStart(ray); i < end; i++) {
+                int node = template.getRayNode(i);
+                float term;
+                if (nodeResolved[node] == epoch) {
+                    term = nodeTerms[node];
+                } else {
+                    term = resolveTerm(blocks, snapshot, template.getNodePosition(node), minY, maxY, maxRayPower);
+                    nodeTerms[node] = term;
+                    nodeResolved[node] = epoch;
+                }
+                if (term == STOP) {
+                    break;
+                }
+
+                int steps = template.getNodeSteps(node);
+                for (int step = 0; step < steps; step++) {
+                    if (rayPower <= 0.0F) {
+                        break walk;
+                    }
+                    rayPower -= term;
+                    if (step == 0 && rayPower > 0.0F && nodeAdded[node] != epoch) {
+                        nodeAdded[node] = epoch;
+                        long packed = template.getNodePosition(node);
+                        if (visited.add(packed)) {
+                            if (resultCount == results.length) {
+                                results = Arrays.copyOf(results, resultCount * 2);
+                            }
+                            results[resultCount++] = packed;
+                        }
+                    }
+                    rayPower -= RAY_ATTENUATION;
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    private void prepareNodes(int nodeCount) {
+        if (nodeTerms.length < nodeCount) {
+            nodeTerms = new float[nodeCount];
+            nodeResolved = new int[nodeCount];
+            nodeAdded = new int[nodeCount];
+            epoch = 0;
+        }
+        if (++epoch == 0) {
+            Arrays.fill(nodeResolved, 0);
+            Arrays.fill(nodeAdded, 0);
+            epoch = 1;
+        }
+    }
+
+    private float resolveTerm(BlockGetter blocks, ExplosionSnapshot snapshot, long packed,
+                              int minY, int maxY, float maxRayPower) {
+        int x = BlockPos.getX(packed);
+        int y = BlockPos.getY(packed);
+        int z = BlockPos.getZ(packed);
+        if (y < minY || y >= maxY || x < -WORLD_BORDER || x >= WORLD_BORDER || z < -WORLD_BORDER || z >= WORLD_BORDER) {
+            return STOP;
+        }
+        int stateId = snapshot != null
+            ? snapshot.getStateId(x, y, z)
+            : Block.getId(blocks.getBlockState(mutablePos.set(x, y, z)));
+        float resistance = resistanceOf(stateId);
+        if (resistance == NO_RESISTANCE) {
+            return 0.0F;
+        }
+        float term = (resistance + 0.3F) * 0.3F;
+        return term >= maxRayPower ? STOP : term;
+    }
+
+    private static float resistanceOf(int stateId) {
+        if (stateId >= RESISTANCE_BY_STATE.length) {
+            return computeResistance(Block.stateById(stateId));
+        }
+        float resistance = RESISTANCE_BY_STATE[stateId];
+        if (Float.isNaN(resistance)) {
+            resistance = computeResistance(Block.stateById(stateId));
+            RESISTANCE_BY_STATE[stateId] = resistance;
+        }
+        return resistance;
+    }
+
+    private static float computeResistance(BlockState state) {
+        FluidState fluid = state.getFluidState();
+        if (state.isAir() && fluid.isEmpty()) {
+            return NO_RESISTANCE;
+        }
+        return Math.max(state.getBlock().getExplosionResistance(), fluid.getExplosionResistance());
+    }
+
+    public int getResultCount() {
+        return resultCount;
+    }
+
+    public long getResult(int index) {
+        return results[index];
+    }
+
+    public long[] getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,100 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Predicate;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+
+public final class ExplosionRayMarcher {
+
+    private ExplosionRayMarcher() {
+    }
+
+    public static void march(
+            OptimizedExplosionCache cache,
+            RandomSource random,
+            Predicate<BlockPos> isProtected,
+            Vec3 center,
+            float power,
+            Map<BlockPos, Boolean> destroyedBlocks,
+            Queue<BlockPos> toDestroy) {
+
+        Vec3[] precomputedRays = PrecomputedExplosionShape.getPrecomputedRays();
+        int totalRays = precomputedRays.length;
+
+        for (int rayIndex = 0; rayIndex < totalRays; rayIndex++) {
+
+            Vec3 rayDir = precomputedRays[rayIndex];
+            double dirX = rayDir.x * 0.3;
+            double dirY = rayDir.y * 0.3;
+            double dirZ = rayDir.z * 0.3;
+
+            float rayPower = power * (0.7f + random.nextFloat() * 0.6f);
+            double x = center.x;
+            double y = center.y;
+            double z = center.z;
+            while (rayPower > 0.0f) {
+                BlockPos pos = new BlockPos((int)x, (int)y, (int)z);
+
+                BlockState state = cache.getBlockState(pos);
+                if (!state.isAir()) {
+                    float resistance = Math.max(0.0f, cache.getResistance(pos));
+
+                    if (!cache.getFluidState(pos).isEmpty()) {
+
+                        rayPower -= (resistance + 0.3f) * 0.3f;
+                        continue;
+                    }
+
+                    rayPower -= (resistance + 0.3f) * 0.3f;
+                    if (rayPower > 0.0f && !destroyedBlocks.containsKey(pos)) {
+                        if (state.canBeReplaced() && (state.isAir() ||
+                            state.is(net.minecraft.world.level.block.Blocks.WATER) ||
+                            state.is(net.minecraft.world.level.block.Blocks.LAVA) ||
+                            state.is(net.minecraft.world.level.block.Blocks.FIRE) ||
+                            state.is(net.minecraft.world.level.block.Blocks.SOUL_FIRE))) {
+
+                            org.virgil.akiasync.mixin.bridge.Bridge bridge =
+                                org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                            if (bridge != null && bridge.isTNTDebugEnabled()) {
+                                bridge.debugLog("[AkiAsync-TNT] Skipping replaceable block at " + pos + ": " +
+                                    state.getBlock().getDescriptionId() + " (canBeReplaced: " + state.canBeReplaced() + ")");
+                            }
+                            continue;
+                        }
+
+                        if (isProtected.test(pos)) {
+                            org.virgil.akiasync.mixin.bridge.Bridge bridge =
+                                org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                            if (bridge != null && bridge.isTNTDebugEnabled()) {
+                                bridge.debugLog("[AkiAsync-TNT] Block at " + pos + " is protected (from snapshot), skipping");
+                            }
+                            continue;
+                        }
+
+                        if (destroyedBlocks.putIfAbsent(pos, true) == null) {
+                            toDestroy.add(pos);
+
+                            org.virgil.akiasync.mixin.bridge.Bridge bridge =
+                                org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                            if (bridge != null && bridge.isTNTDebugEnabled()) {
+                                bridge.debugLog("[AkiAsync-TNT] Adding block to destroy at " + pos + ": " +
+                                    state.getBlock().getDescriptionId() + " (resistance: " + resistance +
+                                    ", rayPower: " + rayPower + ", canBeReplaced: " + state.canBeReplaced() + ")");
+                            }
+                        }
+                    }
+                }
+
+                x += dirX;
+                y += dirY;
+                z += dirZ;
+                rayPower -= 0.22500001f;
+            }
+        }
+    }
+}
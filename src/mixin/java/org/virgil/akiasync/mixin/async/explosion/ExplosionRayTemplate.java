@@ -0,0 +1,162 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+
+public final class ExplosionRayTemplate {
+
+    private static final float RAY_ATTENUATION = 0.22500001F;
+
+    private final double centerX;
+    private final double centerY;
+    private final double centerZ;
+    private final float power;
+
+    private final long[] nodePositions;
+    private final short[] nodeSteps;
+    private final int[] rayOffsets;
+    private final int[] rayNodes;
+
+    private ExplosionRayTemplate(double centerX, double centerY, double centerZ, float power,
+                                 long[] nodePositions, short[] nodeSteps, int[] rayOffsets, int[] rayNodes) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.centerZ = centerZ;
+        this.power = power;
+        this.nodePositions = nodePositions;
+        this.nodeSteps = nodeSteps;
+        this.rayOffsets = rayOffsets;
+        this.rayNodes = rayNodes;
+    }
+
+    static int maxSteps(float power) {
+        return (int) Math.ceil(power * 1.3F / RAY_ATTENUATION) + 1;
+    }
+
+    public static ExplosionRayTemplate build(double centerX, double centerY, double centerZ, float power) {
+        double[] steps = PrecomputedExplosionShape.getVanillaRaySteps();
+        int rayCount = steps.length / 3;
+        int maxSteps = maxSteps(power);
+
+        Object2IntOpenHashMap<NodeKey> nodeIndex = new Object2IntOpenHashMap<>();
+        nodeIndex.defaultReturnValue(-1);
+        long[] positions = new long[1024];
+        short[] counts = new short[1024];
+        int nodeCount = 0;
+
+        int[] rayOffsets = new int[rayCount + 1];
+        int[] rayNodes = new int[rayCount * 8];
+        int pathLength = 0;
+
+        for (int ray = 0; ray < rayCount; ray++) {
+            rayOffsets[ray] = pathLength;
+            double stepX = steps[ray * 3];
+            double stepY = steps[ray * 3 + 1];
+            double stepZ = steps[ray * 3 + 2];
+            double x = centerX;
+            double y = centerY;
+            double z = centerZ;
+
+            int parent = -1;
+            long current = BlockPos.asLong(Mth.floor(x), Mth.floor(y), Mth.floor(z));
+            int run = 0;
+            for (int step = 0; step <= maxSteps; step++) {
+                long pos = step < maxSteps ? BlockPos.asLong(Mth.floor(x), Mth.floor(y), Mth.floor(z)) : Long.MIN_VALUE;
+                if (pos != current) {
+                    NodeKey key = new NodeKey(parent, current, run);
+                    int node = nodeIndex.getInt(key);
+                    if (node < 0) {
+                        if (nodeCount == positions.length) {
+                            positions = Arrays.copyOf(positions, nodeCount * 2);
+                            counts = Arrays.copyOf(counts, nodeCount * 2);
+                        }
+                        node = nodeCount++;
+                        positions[node] = current;
+                        counts[node] = (short) run;
+                        nodeIndex.put(key, node);
+                    }
+                    if (pathLength == rayNodes.length) {
+                        rayNodes = Arrays.copyOf(rayNodes, pathLength * 2);
+                    }
+                    rayNodes[pathLength++] = node;
+                    parent = node;
+                    current = pos;
+                    run = 0;
+                }
+                run++;
+                x += stepX;
+                y += stepY;
+                z += stepZ;
+            }
+        }
+        rayOffsets[rayCount] = pathLength;
+
+        return new ExplosionRayTemplate(centerX, centerY, centerZ, power,
+            Arrays.copyOf(positions, nodeCount), Arrays.copyOf(counts, nodeCount),
+            rayOffsets, Arrays.copyOf(rayNodes, pathLength));
+    }
+
+    public boolean matches(double x, double y, double z, float power) {
+        return centerX == x && centerY == y && centerZ == z && this.power == power;
+    }
+
+    public float getPower() {
+        return power;
+    }
+
+    public int getNodeCount() {
+        return nodePositions.length;
+    }
+
+    public int getRayCount() {
+        return rayOffsets.length - 1;
+    }
+
+    long getNodePosition(int node) {
+        return nodePositions[node];
+    }
+
+    int getNodeSteps(int node) {
+        return nodeSteps[node];
+    }
+
+    int getRayStart(int ray) {
+        return rayOffsets[ray];
+    }
+
+    int getRayEnd(int ray) {
+        return rayOffsets[ray + 1];
+    }
+
+    int getRayNode(int index) {
+        return rayNodes[index];
+    }
+
+    private static final class NodeKey {
+        private final int parent;
+        private final long position;
+        private final int steps;
+
+        private NodeKey(int parent, long position, int steps) {
+            this.parent = parent;
+            this.position = position;
+            this.steps = steps;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NodeKey)) return false;
+            NodeKey other = (NodeKey) o;
+            return parent == other.parent && position == other.position && steps == other.steps;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * parent + Long.hashCode(position)) * 31 + steps;
+        }
+    }
+}
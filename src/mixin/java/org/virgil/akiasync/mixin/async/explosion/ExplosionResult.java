@@ -1,54 +1,157 @@
 package org.virgil.akiasync.mixin.async.explosion;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.phys.Vec3;
 
 public class ExplosionResult {
     private final List<BlockPos> toDestroy;
-    private final Map<UUID, Vec3> toHurt;
+    private int[] entityIds;
+    private long[] entitySections;
+    private double[] impacts;
+    private double[] knockback;
+    private int entityCount;
     private boolean fire;
-    
+    private boolean applied;
+
     public ExplosionResult() {
-        this.toDestroy = new ArrayList<>(1000); 
-        this.toHurt = new HashMap<>(100); 
+        this.toDestroy = new ArrayList<>(1000);
+        this.entityIds = new int[100];
+        this.entitySections = new long[100];
+        this.impacts = new double[100];
+        this.knockback = new double[300];
         this.fire = false;
     }
-    
-    public ExplosionResult(List<BlockPos> toDestroy, Map<UUID, Vec3> toHurt, boolean fire) {
+
+    public ExplosionResult(List<BlockPos> toDestroy, boolean fire) {
         this.toDestroy = new ArrayList<>(toDestroy);
-        this.toHurt = new HashMap<>(toHurt);
+        this.entityIds = new int[16];
+        this.entitySections = new long[16];
+        this.impacts = new double[16];
+        this.knockback = new double[48];
         this.fire = fire;
     }
-    
-    public void set(List<BlockPos> toDestroy, Map<UUID, Vec3> toHurt, boolean fire) {
+
+    public void set(List<BlockPos> toDestroy, boolean fire) {
         this.toDestroy.clear();
         this.toDestroy.addAll(toDestroy);
-        this.toHurt.clear();
-        this.toHurt.putAll(toHurt);
         this.fire = fire;
     }
-    
+
+    public int addEntity(int entityId, long sectionKey, double impact,
+                         double knockbackX, double knockbackY, double knockbackZ) {
+        if (entityCount == entityIds.length) {
+            int capacity = entityCount * 2;
+            entityIds = Arrays.copyOf(entityIds, capacity);
+            entitySections = Arrays.copyOf(entitySections, capacity);
+            impacts = Arrays.copyOf(impacts, capacity);
+            knockback = Arrays.copyOf(knockback, capacity * 3);
+        }
+        int index = entityCount++;
+        entityIds[index] = entityId;
+        entitySections[index] = sectionKey;
+        impacts[index] = impact;
+        knockback[index * 3] = knockbackX;
+        knockback[index * 3 + 1] = knockbackY;
+        knockback[index * 3 + 2] = knockbackZ;
+        return index;
+    }
+
+    public void merge(int index, double impact, double knockbackX, double knockbackY, double knockbackZ) {
+        impacts[index] = Math.max(impacts[index], impact);
+        knockback[index * 3] += knockbackX;
+        knockback[index * 3 + 1] += knockbackY;
+        knockback[index * 3 + 2] += knockbackZ;
+    }
+
+    public void sortByChunk() {
+        it.unimi.dsi.fastutil.Arrays.quickSort(0, entityCount, (a, b) -> {
+            int bySection = Long.compare(entitySections[a], entitySections[b]);
+            return bySection != 0 ? bySection : Integer.compare(entityIds[a], entityIds[b]);
+        }, this::swapEntities);
+    }
+
+    private void swapEntities(int a, int b) {
+        int id = entityIds[a];
+        entityIds[a] = entityIds[b];
+        entityIds[b] = id;
+        long section = entitySections[a];
+        entitySections[a] = entitySections[b];
+        entitySections[b] = section;
+        double impact = impacts[a];
+        impacts[a] = impacts[b];
+        impacts[b] = impact;
+        for (int axis = 0; axis < 3; axis++) {
+            double value = knockback[a * 3 + axis];
+            knockback[a * 3 + axis] = knockback[b * 3 + axis];
+            knockback[b * 3 + axis] = value;
+        }
+    }
+
+    public int getSectionEnd(int start) {
+        long section = entitySections[start];
+        int end = start + 1;
+        while (end < entityCount && entitySections[end] == section) {
+            end++;
+        }
+        return end;
+    }
+
+    public int findEntity(int entityId, int from, int to) {
+        int index = Arrays.binarySearch(entityIds, from, to, entityId);
+        return index >= 0 ? index : -1;
+    }
+
     public void clear() {
         this.toDestroy.clear();
-        this.toHurt.clear();
+        this.entityCount = 0;
         this.fire = false;
+        this.applied = false;
+    }
+
+    public void markApplied() {
+        this.applied = true;
     }
-    
+
+    public boolean isApplied() {
+        return applied;
+    }
+
     public List<BlockPos> getToDestroy() {
         return Collections.unmodifiableList(toDestroy);
     }
-    
-    public Map<UUID, Vec3> getToHurt() {
-        return Collections.unmodifiableMap(toHurt);
+
+    public int getEntityCount() {
+        return entityCount;
     }
-    
+
+    public int getEntityId(int index) {
+        return entityIds[index];
+    }
+
+    public long getEntitySection(int index) {
+        return entitySections[index];
+    }
+
+    public double getImpact(int index) {
+        return impacts[index];
+    }
+
+    public double getKnockbackX(int index) {
+        return knockback[index * 3];
+    }
+
+    public double getKnockbackY(int index) {
+        return knockback[index * 3 + 1];
+    }
+
+    public double getKnockbackZ(int index) {
+        return knockback[index * 3 + 2];
+    }
+
     public boolean isFire() {
         return fire;
     }
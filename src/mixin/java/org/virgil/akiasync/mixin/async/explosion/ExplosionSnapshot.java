@@ -1,18 +1,74 @@
 package org.virgil.akiasync.mixin.async.explosion;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.util.BitStorage;
+import net.minecraft.world.level.chunk.GlobalPalette;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.Palette;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
-public class ExplosionSnapshot {
-    private final Map<BlockPos, BlockState> blocks;
-    private final Set<BlockPos> protectedBlocks;
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+import org.virgil.akiasync.mixin.util.SectionChangeTracker;
+public class ExplosionSnapshot implements BlockGetter {
+    private static final int AIR_ID = Block.getId(Blocks.AIR.defaultBlockState());
+    private static final MethodHandle CONTAINER_DATA;
+    private static final MethodHandle DATA_PALETTE;
+    private static final MethodHandle DATA_STORAGE;
+
+    static {
+        MethodHandle data = null;
+        MethodHandle palette = null;
+        MethodHandle storage = null;
+        try {
+            // PalettedContainer.data and its record accessors are not public on every platform
+            Field dataField = PalettedContainer.class.getDeclaredField("data");
+            dataField.setAccessible(true);
+            Method paletteMethod = dataField.getType().getDeclaredMethod("palette");
+            paletteMethod.setAccessible(true);
+            Method storageMethod = dataField.getType().getDeclaredMethod("storage");
+            storageMethod.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            data = lookup.unreflectGetter(dataField);
+            palette = lookup.unreflect(paletteMethod);
+            storage = lookup.unreflect(storageMethod);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            BridgeConfigCache.debugLog("[AkiAsync-TNT] Palette access unavailable, snapshots read blocks one by one: " + e.getMessage());
+            data = null;
+        }
+        CONTAINER_DATA = data;
+        DATA_PALETTE = palette;
+        DATA_STORAGE = storage;
+    }
+    private static final double RAY_POWER_SPREAD = 1.3;
+    private static final double RAY_STEP = 0.3;
+    private static final double RAY_ATTENUATION = 0.22500001;
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final int[] stateIds;
+    private final BitSet protectedBlocks;
+    private final long[] sectionVersions;
     private final List<EntitySnapshot> entities;
     private final Vec3 center;
     private final float power;
@@ -20,95 +76,136 @@ public class ExplosionSnapshot {
     private final boolean inFluid;
     private final ServerLevel level;
     public ExplosionSnapshot(ServerLevel level, Vec3 center, float power, boolean fire) {
+        this(new ExplosionSnapshot(level, new Vec3[] {center}, power, fire), center, power, fire, null);
+    }
+
+    private ExplosionSnapshot(ServerLevel level, Vec3[] centers, float power, boolean fire) {
         this.level = level;
-        this.center = center;
+        this.center = centers[0];
         this.power = power;
         this.fire = fire;
-        
-        BlockPos centerPos = BlockPos.containing(center);
-        BlockState centerState = level.getBlockState(centerPos);
-        this.inFluid = !centerState.getFluidState().isEmpty();
-        
-        this.blocks = new HashMap<>();
-        this.protectedBlocks = new HashSet<>();
+        this.inFluid = false;
+        this.entities = Collections.emptyList();
 
         org.virgil.akiasync.mixin.bridge.Bridge bridge =
             org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
         boolean landProtectionEnabled = bridge != null && bridge.isTNTLandProtectionEnabled();
         boolean blockLockerEnabled = bridge != null && bridge.isBlockLockerProtectionEnabled();
 
-        int minX = (int) Math.floor(center.x - power - 1);
-        int minY = (int) Math.floor(center.y - power - 1);
-        int minZ = (int) Math.floor(center.z - power - 1);
-        int maxX = (int) Math.ceil(center.x + power + 1);
-        int maxY = (int) Math.ceil(center.y + power + 1);
-        int maxZ = (int) Math.ceil(center.z + power + 1);
-        minY = Math.max(level.getMinBuildHeight(), minY);
-        maxY = Math.min(level.getMaxBuildHeight(), maxY);
+        AABB bounds = boundsOf(centers, reachOf(power));
+        this.minX = (int) Math.floor(bounds.minX);
+        this.minY = Math.max(level.getMinBuildHeight(), (int) Math.floor(bounds.minY));
+        this.minZ = (int) Math.floor(bounds.minZ);
+        int maxX = (int) Math.ceil(bounds.maxX);
+        int maxY = Math.min(level.getMaxBuildHeight() - 1, (int) Math.ceil(bounds.maxY));
+        int maxZ = (int) Math.ceil(bounds.maxZ);
+        this.sizeX = maxX - minX + 1;
+        this.sizeY = Math.max(0, maxY - minY + 1);
+        this.sizeZ = maxZ - minZ + 1;
 
-        Map<String, Boolean> chunkProtectionCache = new HashMap<>();
-        
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    BlockPos pos = new BlockPos(x, y, z);
-                    BlockState state = level.getBlockState(pos);
-                    blocks.put(pos, state);
+        this.stateIds = new int[sizeX * sizeY * sizeZ];
+        this.protectedBlocks = new BitSet();
+        this.sectionVersions = new long[sizeY > 0 ? sectionSpan(minX, sizeX) * sectionSpan(minY, sizeY) * sectionSpan(minZ, sizeZ) : 0];
+        for (int sectionY = minY >> 4, i = 0; sizeY > 0 && sectionY <= maxY >> 4; sectionY++) {
+            for (int sectionZ = minZ >> 4; sectionZ <= maxZ >> 4; sectionZ++) {
+                for (int sectionX = minX >> 4; sectionX <= maxX >> 4; sectionX++) {
+                    sectionVersions[i++] = SectionChangeTracker.version(SectionChangeTracker.slotOf(sectionX, sectionY, sectionZ));
+                }
+            }
+        }
+        if (AIR_ID != 0) {
+            Arrays.fill(stateIds, AIR_ID);
+        }
 
-                    boolean isProtected = false;
+        int[] paletteIds = new int[16];
+        for (int chunkX = minX >> 4; sizeY > 0 && chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                int x0 = Math.max(minX, chunkX << 4);
+                int x1 = Math.min(maxX, (chunkX << 4) + 15);
+                int z0 = Math.max(minZ, chunkZ << 4);
+                int z1 = Math.min(maxZ, (chunkZ << 4) + 15);
+                LevelChunk chunk = level.getChunk(chunkX, chunkZ);
 
-                    if (landProtectionEnabled) {
-                        
-                        int chunkX = x >> 4;
-                        int chunkZ = z >> 4;
-                        String chunkKey = chunkX + "," + chunkZ;
-                        
-                        Boolean chunkProtection = chunkProtectionCache.get(chunkKey);
-                        if (chunkProtection == null) {
-                            
-                            chunkProtection = bridge.checkChunkProtection(level, chunkX, chunkZ);
-                            chunkProtectionCache.put(chunkKey, chunkProtection);
+                Boolean chunkProtection = null;
+                if (landProtectionEnabled) {
+                    chunkProtection = bridge.checkChunkProtection(level, chunkX, chunkZ);
+                    if (chunkProtection != null && !chunkProtection) {
+                        markProtected(x0, x1, minY, maxY, z0, z1);
+                        if (bridge.isTNTDebugEnabled()) {
+                            bridge.debugLog("[AkiAsync-TNT] Snapshot: Chunk " + chunkX + "," + chunkZ + " is protected by land protection");
                         }
+                    }
+                }
+
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    if (section.hasOnlyAir()) {
+                        continue;
+                    }
+                    int y0 = Math.max(minY, sectionY << 4);
+                    int y1 = Math.min(maxY, (sectionY << 4) + 15);
+                    paletteIds = copySection(section, x0, x1, y0, y1, z0, z1, paletteIds);
+                }
 
-                        if (chunkProtection != null) {
-                            
-                            if (!chunkProtection) {
-                                isProtected = true;
+                boolean checkLand = landProtectionEnabled && chunkProtection == null;
+                if (!checkLand && !blockLockerEnabled) {
+                    continue;
+                }
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = z0; z <= z1; z++) {
+                        int index = indexOf(x0, y, z);
+                        for (int x = x0; x <= x1; x++, index++) {
+                            if (protectedBlocks.get(index)) {
+                                continue;
                             }
-                        } else {
-                            
-                            if (!bridge.canTNTExplodeAt(level, pos)) {
-                                isProtected = true;
+                            if (checkLand && !bridge.canTNTExplodeAt(level, new BlockPos(x, y, z))) {
+                                protectedBlocks.set(index);
+                                if (bridge.isTNTDebugEnabled()) {
+                                    bridge.debugLog("[AkiAsync-TNT] Snapshot: Block at " + x + "," + y + "," + z + " is protected by land protection");
+                                }
+                                continue;
                             }
-                        }
-
-                        if (isProtected) {
-                            protectedBlocks.add(pos);
-                            if (bridge.isTNTDebugEnabled()) {
-                                bridge.debugLog("[AkiAsync-TNT] Snapshot: Block at " + pos + " is protected by land protection");
+                            if (blockLockerEnabled && stateIds[index] != AIR_ID
+                                && bridge.isBlockLockerProtected(level, new BlockPos(x, y, z), Block.stateById(stateIds[index]))) {
+                                protectedBlocks.set(index);
+                                if (bridge.isTNTDebugEnabled()) {
+                                    bridge.debugLog("[AkiAsync-TNT] Snapshot: Block at " + x + "," + y + "," + z + " is protected by BlockLocker");
+                                }
                             }
-                            continue;
-                        }
-                    }
-
-                    if (blockLockerEnabled && bridge.isBlockLockerProtected(level, pos, state)) {
-                        protectedBlocks.add(pos);
-                        if (bridge.isTNTDebugEnabled()) {
-                            bridge.debugLog("[AkiAsync-TNT] Snapshot: Block at " + pos + " is protected by BlockLocker");
                         }
                     }
                 }
             }
         }
-        
-        double radius = Math.min(power * 2.0, 8.0);
+    }
+
+    private ExplosionSnapshot(ExplosionSnapshot volume, Vec3 center, float power, boolean fire,
+                              List<net.minecraft.world.entity.Entity> candidates) {
+        this.level = volume.level;
+        this.minX = volume.minX;
+        this.minY = volume.minY;
+        this.minZ = volume.minZ;
+        this.sizeX = volume.sizeX;
+        this.sizeY = volume.sizeY;
+        this.sizeZ = volume.sizeZ;
+        this.stateIds = volume.stateIds;
+        this.protectedBlocks = volume.protectedBlocks;
+        this.sectionVersions = volume.sectionVersions;
+        this.center = center;
+        this.power = power;
+        this.fire = fire;
+        this.inFluid = !volume.getBlockState(BlockPos.containing(center)).getFluidState().isEmpty();
+
+        org.virgil.akiasync.mixin.bridge.Bridge bridge =
+            org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        double radius = entityRadiusOf(power);
         
         if (bridge != null && bridge.isTNTDebugEnabled()) {
             bridge.debugLog("[AkiAsync-TNT] ExplosionSnapshot: Collecting entities");
             bridge.debugLog("[AkiAsync-TNT] Center: %s, Power: %.1f, Radius: %.1f", center, power, radius);
         }
         
-        net.minecraft.world.phys.AABB searchBox = new net.minecraft.world.phys.AABB(
+        AABB searchBox = new AABB(
             center.x - radius, center.y - radius, center.z - radius,
             center.x + radius, center.y + radius, center.z + radius
         );
@@ -119,16 +216,15 @@ public class ExplosionSnapshot {
         
         java.util.List<net.minecraft.world.entity.Entity> allEntities;
         
-        if (org.virgil.akiasync.mixin.util.DirectEntityQuery.isAvailable()) {
-            if (bridge != null && bridge.isTNTDebugEnabled()) {
-                bridge.debugLog("[AkiAsync-TNT] Using DirectEntityQuery to bypass Mixin interception");
+        if (candidates != null) {
+            allEntities = new java.util.ArrayList<>();
+            for (net.minecraft.world.entity.Entity entity : candidates) {
+                if (entity.getBoundingBox().intersects(searchBox)) {
+                    allEntities.add(entity);
+                }
             }
-            allEntities = org.virgil.akiasync.mixin.util.DirectEntityQuery.getEntitiesInRange(level, searchBox);
         } else {
-            if (bridge != null && bridge.isTNTDebugEnabled()) {
-                bridge.debugLog("[AkiAsync-TNT] DirectEntityQuery not available, using vanilla method");
-            }
-            allEntities = level.getEntities(null, searchBox);
+            allEntities = queryEntities(level, searchBox, bridge);
         }
         
         if (bridge != null && bridge.isTNTDebugEnabled()) {
@@ -143,7 +239,7 @@ public class ExplosionSnapshot {
         java.util.List<net.minecraft.world.entity.Entity> filteredEntities = new java.util.ArrayList<>();
         for (net.minecraft.world.entity.Entity entity : allEntities) {
             
-            if (!isEntityProtectedByBlocks(level, center, entity.position(), bridge)) {
+            if (!isEntityProtectedByBlocks(volume, center, entity.position(), bridge)) {
                 filteredEntities.add(entity);
             } else if (bridge != null && bridge.isTNTDebugEnabled()) {
                 bridge.debugLog("[AkiAsync-TNT] Entity %s at %s is protected by explosion-proof blocks, skipping",
@@ -157,7 +253,7 @@ public class ExplosionSnapshot {
         }
         
         this.entities = filteredEntities.stream()
-            .map(e -> new EntitySnapshot(e.getUUID(), e.position(), e.getBoundingBox()))
+            .map(e -> new EntitySnapshot(e.getUUID(), e.getId(), e.position(), e.getBoundingBox()))
             .collect(Collectors.toList());
         
         if (bridge != null && bridge.isTNTDebugEnabled()) {
@@ -171,8 +267,177 @@ public class ExplosionSnapshot {
             }
         }
     }
+
+    public static List<ExplosionSnapshot> captureBatch(ServerLevel level, List<Vec3> centers,
+                                                       float[] powers, boolean[] fires) {
+        float maxPower = 0.0F;
+        for (int i = 0; i < centers.size(); i++) {
+            maxPower = Math.max(maxPower, powers[i]);
+        }
+        Vec3[] centerArray = centers.toArray(new Vec3[0]);
+        ExplosionSnapshot volume = new ExplosionSnapshot(level, centerArray, maxPower, false);
+
+        AABB unionBox = boundsOf(centerArray, entityRadiusOf(maxPower));
+        List<net.minecraft.world.entity.Entity> candidates = queryEntities(level, unionBox,
+            org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge());
+
+        List<ExplosionSnapshot> snapshots = new java.util.ArrayList<>(centers.size());
+        for (int i = 0; i < centers.size(); i++) {
+            snapshots.add(new ExplosionSnapshot(volume, centers.get(i), powers[i], fires[i], candidates));
+        }
+        return snapshots;
+    }
+
+    private static AABB boundsOf(Vec3[] centers, double inflate) {
+        double lowX = Double.MAX_VALUE, lowY = Double.MAX_VALUE, lowZ = Double.MAX_VALUE;
+        double highX = -Double.MAX_VALUE, highY = -Double.MAX_VALUE, highZ = -Double.MAX_VALUE;
+        for (Vec3 c : centers) {
+            lowX = Math.min(lowX, c.x);
+            lowY = Math.min(lowY, c.y);
+            lowZ = Math.min(lowZ, c.z);
+            highX = Math.max(highX, c.x);
+            highY = Math.max(highY, c.y);
+            highZ = Math.max(highZ, c.z);
+        }
+        return new AABB(lowX - inflate, lowY - inflate, lowZ - inflate,
+            highX + inflate, highY + inflate, highZ + inflate);
+    }
+
+    private static double reachOf(float power) {
+        return power * RAY_POWER_SPREAD * RAY_STEP / RAY_ATTENUATION + 1.0;
+    }
+
+    private static double entityRadiusOf(float power) {
+        return Math.min(power * 2.0, 8.0);
+    }
+
+    private static List<net.minecraft.world.entity.Entity> queryEntities(ServerLevel level,
+                                                                        AABB searchBox,
+                                                                        org.virgil.akiasync.mixin.bridge.Bridge bridge) {
+        if (org.virgil.akiasync.mixin.util.DirectEntityQuery.isAvailable()) {
+            if (bridge != null && bridge.isTNTDebugEnabled()) {
+                bridge.debugLog("[AkiAsync-TNT] Using DirectEntityQuery to bypass Mixin interception");
+            }
+            return org.virgil.akiasync.mixin.util.DirectEntityQuery.getEntitiesInRange(level, searchBox);
+        }
+        if (bridge != null && bridge.isTNTDebugEnabled()) {
+            bridge.debugLog("[AkiAsync-TNT] DirectEntityQuery not available, using vanilla method");
+        }
+        return level.getEntities(null, searchBox);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int[] copySection(LevelChunkSection section, int x0, int x1, int y0, int y1, int z0, int z1,
+                              int[] paletteIds) {
+        if (CONTAINER_DATA != null) {
+            try {
+                Object data = CONTAINER_DATA.invoke(section.getStates());
+                Palette<BlockState> palette = (Palette<BlockState>) DATA_PALETTE.invoke(data);
+                BitStorage storage = (BitStorage) DATA_STORAGE.invoke(data);
+                boolean global = palette instanceof GlobalPalette;
+                if (!global) {
+                    int paletteSize = palette.getSize();
+                    if (paletteIds.length < paletteSize) {
+                        paletteIds = new int[Math.max(paletteSize, paletteIds.length * 2)];
+                    }
+                    for (int i = 0; i < paletteSize; i++) {
+                        paletteIds[i] = Block.getId(palette.valueFor(i));
+                    }
+                }
+                for (int y = y0; y <= y1; y++) {
+                    for (int z = z0; z <= z1; z++) {
+                        int index = indexOf(x0, y, z);
+                        int local = ((y & 15) << 8) | ((z & 15) << 4) | (x0 & 15);
+                        for (int x = x0; x <= x1; x++, index++, local++) {
+                            int paletteId = storage.get(local);
+                            stateIds[index] = global ? paletteId : paletteIds[paletteId];
+                        }
+                    }
+                }
+                return paletteIds;
+            } catch (Throwable t) {
+                BridgeConfigCache.debugLog("[AkiAsync-TNT] Palette copy failed, reading section block by block: " + t.getMessage());
+            }
+        }
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                int index = indexOf(x0, y, z);
+                for (int x = x0; x <= x1; x++, index++) {
+                    stateIds[index] = Block.getId(section.getBlockState(x & 15, y & 15, z & 15));
+                }
+            }
+        }
+        return paletteIds;
+    }
+
+    private int indexOf(int x, int y, int z) {
+        return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+    }
+
+    private boolean contains(int x, int y, int z) {
+        return x >= minX && x < minX + sizeX && y >= minY && y < minY + sizeY && z >= minZ && z < minZ + sizeZ;
+    }
+
+    private static int sectionSpan(int min, int size) {
+        return ((min + size - 1) >> 4) - (min >> 4) + 1;
+    }
+
+    public long getSectionVersion(int sectionX, int sectionY, int sectionZ) {
+        int baseX = minX >> 4;
+        int baseY = minY >> 4;
+        int baseZ = minZ >> 4;
+        int spanX = sectionSpan(minX, sizeX);
+        int spanZ = sectionSpan(minZ, sizeZ);
+        if (sizeY > 0 && sectionX >= baseX && sectionX < baseX + spanX
+            && sectionY >= baseY && sectionY < baseY + sectionSpan(minY, sizeY)
+            && sectionZ >= baseZ && sectionZ < baseZ + spanZ) {
+            return sectionVersions[((sectionY - baseY) * spanZ + (sectionZ - baseZ)) * spanX + (sectionX - baseX)];
+        }
+        return SectionChangeTracker.version(SectionChangeTracker.slotOf(sectionX, sectionY, sectionZ));
+    }
+
+    private void markProtected(int x0, int x1, int y0, int y1, int z0, int z1) {
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                int index = indexOf(x0, y, z);
+                protectedBlocks.set(index, index + x1 - x0 + 1);
+            }
+        }
+    }
+
+    public int getStateId(int x, int y, int z) {
+        if (!contains(x, y, z)) {
+            return Block.getId(level.getBlockState(new BlockPos(x, y, z)));
+        }
+        return stateIds[indexOf(x, y, z)];
+    }
+
+    @Override
     public BlockState getBlockState(BlockPos pos) {
-        return blocks.getOrDefault(pos, net.minecraft.world.level.block.Blocks.AIR.defaultBlockState());
+        if (!contains(pos.getX(), pos.getY(), pos.getZ())) {
+            return level.getBlockState(pos);
+        }
+        return Block.stateById(stateIds[indexOf(pos.getX(), pos.getY(), pos.getZ())]);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public int getHeight() {
+        return level.getHeight();
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return level.getMinBuildHeight();
     }
     public List<EntitySnapshot> getEntities() {
         return Collections.unmodifiableList(entities);
@@ -194,11 +459,15 @@ public class ExplosionSnapshot {
     }
 
     public boolean isProtected(BlockPos pos) {
-        return protectedBlocks.contains(pos);
+        return isProtected(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean isProtected(int x, int y, int z) {
+        return contains(x, y, z) && protectedBlocks.get(indexOf(x, y, z));
     }
     
     private static boolean isEntityProtectedByBlocks(
-        ServerLevel level,
+        BlockGetter level,
         Vec3 explosionCenter,
         Vec3 entityPos,
         org.virgil.akiasync.mixin.bridge.Bridge bridge
@@ -274,16 +543,29 @@ public class ExplosionSnapshot {
     }
     public static class EntitySnapshot {
         private final java.util.UUID uuid;
+        private final int id;
+        private final long sectionKey;
         private final Vec3 position;
         private final net.minecraft.world.phys.AABB boundingBox;
-        public EntitySnapshot(java.util.UUID uuid, Vec3 position, net.minecraft.world.phys.AABB boundingBox) {
+        public EntitySnapshot(java.util.UUID uuid, int id, Vec3 position, net.minecraft.world.phys.AABB boundingBox) {
             this.uuid = uuid;
+            this.id = id;
+            this.sectionKey = net.minecraft.core.SectionPos.asLong(
+                net.minecraft.core.SectionPos.blockToSectionCoord(position.x),
+                net.minecraft.core.SectionPos.blockToSectionCoord(position.y),
+                net.minecraft.core.SectionPos.blockToSectionCoord(position.z));
             this.position = position;
             this.boundingBox = boundingBox;
         }
         public java.util.UUID getUuid() {
             return uuid;
         }
+        public int getId() {
+            return id;
+        }
+        public long getSectionKey() {
+            return sectionKey;
+        }
         public Vec3 getPosition() {
             return position;
         }
@@ -0,0 +1,266 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+public final class ExposureSampler {
+
+    static final int MAX_STEPS = 200;
+    static final double MIN_DISTANCE = 0.01;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte CLEAR = 1;
+    private static final byte SOLID = 2;
+
+    private static final byte[] OCCLUSION_BY_STATE = new byte[Block.BLOCK_STATE_REGISTRY.size()];
+
+    private static final boolean VECTOR_AVAILABLE = detectVectorSupport();
+
+    private static final ThreadLocal<ExposureSampler> SAMPLERS = ThreadLocal.withInitial(ExposureSampler::new);
+
+    private double[] fractionsX = new double[8];
+    private double[] fractionsY = new double[8];
+    private double[] fractionsZ = new double[8];
+    private double[] targetX = new double[0];
+    private double[] targetY = new double[0];
+    private double[] targetZ = new double[0];
+    private int sampleCount;
+    private int fractionCount;
+
+    private double[] entityX = new double[0];
+    private double[] entityY = new double[0];
+    private double[] entityZ = new double[0];
+    private int[] inRange = new int[0];
+
+    public ExposureSampler() {
+    }
+
+    public static ExposureSampler get() {
+        return SAMPLERS.get();
+    }
+
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    public static String getImplementationName() {
+        return VECTOR_AVAILABLE ? VectorExposureSampler.describe() : "scalar";
+    }
+
+    public double exposure(BlockGetter blocks, double centerX, double centerY, double centerZ,
+                           AABB box, boolean vectorize) {
+        if (!prepareSamples(box)) {
+            return 0;
+        }
+        int visible = vectorize && VECTOR_AVAILABLE
+            ? VectorExposureSampler.countVisible(blocks, centerX, centerY, centerZ, targetX, targetY, targetZ, sampleCount)
+            : countVisible(blocks, centerX, centerY, centerZ, targetX, targetY, targetZ, sampleCount);
+        return (double) visible / sampleCount;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    private static int paddedLength(int count) {
+        return VECTOR_AVAILABLE ? VectorExposureSampler.paddedLength(count) : count;
+    }
+
+    public int filterInRange(List<ExplosionSnapshot.EntitySnapshot> entities,
+                             double centerX, double centerY, double centerZ, double radius, boolean vectorize) {
+        int count = entities.size();
+        if (entityX.length < count) {
+            int capacity = paddedLength(count);
+            entityX = new double[capacity];
+            entityY = new double[capacity];
+            entityZ = new double[capacity];
+            inRange = new int[capacity];
+        }
+        for (int i = 0; i < count; i++) {
+            Vec3 position = entities.get(i).getPosition();
+            entityX[i] = position.x;
+            entityY[i] = position.y;
+            entityZ[i] = position.z;
+        }
+        if (vectorize && VECTOR_AVAILABLE) {
+            return VectorExposureSampler.filterInRange(entityX, entityY, entityZ, count,
+                centerX, centerY, centerZ, radius, inRange);
+        }
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            double dx = entityX[i] - centerX;
+            double dy = entityY[i] - centerY;
+            double dz = entityZ[i] - centerZ;
+            if (!(Math.sqrt(dx * dx + dy * dy + dz * dz) >= radius)) {
+                inRange[found++] = i;
+            }
+        }
+        return found;
+    }
+
+    public int getInRange(int index) {
+        return inRange[index];
+    }
+
+    private boolean prepareSamples(AABB box) {
+        double stepX = 1.0 / ((box.maxX - box.minX) * 2.0 + 1.0);
+        double stepY = 1.0 / ((box.maxY - box.minY) * 2.0 + 1.0);
+        double stepZ = 1.0 / ((box.maxZ - box.minZ) * 2.0 + 1.0);
+        if (stepX < 0 || stepY < 0 || stepZ < 0) {
+            sampleCount = 0;
+            return false;
+        }
+
+        fractionsX = fractions(fractionsX, stepX);
+        int countX = fractionCount;
+        fractionsY = fractions(fractionsY, stepY);
+        int countY = fractionCount;
+        fractionsZ = fractions(fractionsZ, stepZ);
+        int countZ = fractionCount;
+
+        int total = countX * countY * countZ;
+        if (targetX.length < total) {
+            int capacity = paddedLength(Math.max(total, Math.max(64, targetX.length * 2)));
+            targetX = new double[capacity];
+            targetY = new double[capacity];
+            targetZ = new double[capacity];
+        }
+
+        int index = 0;
+        for (int i = 0; i < countX; i++) {
+            double x = Mth.lerp(fractionsX[i], box.minX, box.maxX);
+            for (int j = 0; j < countY; j++) {
+                double y = Mth.lerp(fractionsY[j], box.minY, box.maxY);
+                for (int k = 0; k < countZ; k++) {
+                    targetX[index] = x;
+                    targetY[index] = y;
+                    targetZ[index] = Mth.lerp(fractionsZ[k], box.minZ, box.maxZ);
+                    index++;
+                }
+            }
+        }
+        sampleCount = index;
+        return index > 0;
+    }
+
+    private double[] fractions(double[] out, double step) {
+        int count = 0;
+        for (double f = 0.0; f <= 1.0; f += step) {
+            if (count == out.length) {
+                out = Arrays.copyOf(out, count * 2);
+            }
+            out[count++] = f;
+        }
+        fractionCount = count;
+        return out;
+    }
+
+    static int countVisible(BlockGetter blocks, double startX, double startY, double startZ,
+                            double[] endX, double[] endY, double[] endZ, int count) {
+        int visible = 0;
+        for (int i = 0; i < count; i++) {
+            if (!hasCollision(blocks, startX, startY, startZ, endX[i], endY[i], endZ[i])) {
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+    static boolean hasCollision(BlockGetter blocks, double startX, double startY, double startZ,
+                                double endX, double endY, double endZ) {
+        double dx = endX - startX;
+        double dy = endY - startY;
+        double dz = endZ - startZ;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance < MIN_DISTANCE) {
+            return false;
+        }
+        dx /= distance;
+        dy /= distance;
+        dz /= distance;
+
+        double tMaxX = dx > 0 || dx < 0 ? (Math.floor(startX) + (dx > 0 ? 1.0 : 0.0) - startX) / dx : Double.MAX_VALUE;
+        double tMaxY = dy > 0 || dy < 0 ? (Math.floor(startY) + (dy > 0 ? 1.0 : 0.0) - startY) / dy : Double.MAX_VALUE;
+        double tMaxZ = dz > 0 || dz < 0 ? (Math.floor(startZ) + (dz > 0 ? 1.0 : 0.0) - startZ) / dz : Double.MAX_VALUE;
+        double tDeltaX = dx > 0 || dx < 0 ? Math.abs(1.0 / dx) : Double.MAX_VALUE;
+        double tDeltaY = dy > 0 || dy < 0 ? Math.abs(1.0 / dy) : Double.MAX_VALUE;
+        double tDeltaZ = dz > 0 || dz < 0 ? Math.abs(1.0 / dz) : Double.MAX_VALUE;
+
+        return traverse(blocks, (int) Math.floor(startX), (int) Math.floor(startY), (int) Math.floor(startZ),
+            (int) Math.floor(endX), (int) Math.floor(endY), (int) Math.floor(endZ),
+            dx, dy, dz, tMaxX, tMaxY, tMaxZ, tDeltaX, tDeltaY, tDeltaZ);
+    }
+
+    static boolean traverse(BlockGetter blocks, int blockX, int blockY, int blockZ,
+                            int endBlockX, int endBlockY, int endBlockZ,
+                            double dx, double dy, double dz,
+                            double tMaxX, double tMaxY, double tMaxZ,
+                            double tDeltaX, double tDeltaY, double tDeltaZ) {
+        int stepX = dx > 0 ? 1 : (dx < 0 ? -1 : 0);
+        int stepY = dy > 0 ? 1 : (dy < 0 ? -1 : 0);
+        int stepZ = dz > 0 ? 1 : (dz < 0 ? -1 : 0);
+
+        for (int step = 0; step < MAX_STEPS; step++) {
+            if (occludes(blocks, blockX, blockY, blockZ)) {
+                return true;
+            }
+            if (blockX == endBlockX && blockY == endBlockY && blockZ == endBlockZ) {
+                return false;
+            }
+            if (tMaxX < tMaxY) {
+                if (tMaxX < tMaxZ) {
+                    blockX += stepX;
+                    tMaxX += tDeltaX;
+                } else {
+                    blockZ += stepZ;
+                    tMaxZ += tDeltaZ;
+                }
+            } else if (tMaxY < tMaxZ) {
+                blockY += stepY;
+                tMaxY += tDeltaY;
+            } else {
+                blockZ += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+        }
+        return false;
+    }
+
+    static boolean occludes(BlockGetter blocks, int x, int y, int z) {
+        int stateId = blocks instanceof ExplosionSnapshot snapshot
+            ? snapshot.getStateId(x, y, z)
+            : Block.getId(blocks.getBlockState(new BlockPos(x, y, z)));
+        if (stateId >= OCCLUSION_BY_STATE.length) {
+            return computeOcclusion(Block.stateById(stateId));
+        }
+        byte occlusion = OCCLUSION_BY_STATE[stateId];
+        if (occlusion == UNKNOWN) {
+            occlusion = computeOcclusion(Block.stateById(stateId)) ? SOLID : CLEAR;
+            OCCLUSION_BY_STATE[stateId] = occlusion;
+        }
+        return occlusion == SOLID;
+    }
+
+    private static boolean computeOcclusion(BlockState state) {
+        return !state.isAir() && state.getBlock().getExplosionResistance() > 0.5F;
+    }
+
+    private static boolean detectVectorSupport() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorExposureSampler.isUsable();
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+}
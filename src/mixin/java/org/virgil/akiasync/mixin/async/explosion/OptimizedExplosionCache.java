@@ -3,6 +3,7 @@ package org.virgil.akiasync.mixin.async.explosion;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.FluidState;
@@ -17,12 +18,12 @@ public class OptimizedExplosionCache {
     
     private final Long2FloatOpenHashMap densityCache;
     
-    private final Level level;
+    private final BlockGetter level;
     
     private static final int CACHE_EXPIRE_TICKS = 600; 
     private long lastCleanupTime = 0;
     
-    public OptimizedExplosionCache(Level level) {
+    public OptimizedExplosionCache(BlockGetter level) {
         this.level = level;
         this.blockStateCache = new Long2ObjectOpenHashMap<>(512);
         this.fluidStateCache = new Long2ObjectOpenHashMap<>(256);
@@ -120,7 +121,11 @@ public class OptimizedExplosionCache {
     }
     
     public void cleanup() {
-        long currentTime = level.getGameTime();
+        if (!(level instanceof Level world)) {
+            return;
+        }
+        
+        long currentTime = world.getGameTime();
         
         if (currentTime - lastCleanupTime < CACHE_EXPIRE_TICKS) {
             return;
@@ -6,15 +6,26 @@ import net.minecraft.world.phys.Vec3;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 public class PrecomputedExplosionShape {
     
     private static final Vec3[] PRECOMPUTED_RAYS;
     
+    private static final double[] VANILLA_RAY_STEPS;
+    
     private static final BlockOffset[] PRECOMPUTED_BLOCKS;
     
     private static final Int2ObjectOpenHashMap<List<BlockOffset>> BLOCKS_BY_DISTANCE;
     
+    private static final int MAX_RAY_TEMPLATES = 64;
+    private static final int MAX_TEMPLATE_CANDIDATES = 1024;
+    private static final ConcurrentHashMap<TemplateKey, ExplosionRayTemplate> RAY_TEMPLATES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<TemplateKey, Boolean> TEMPLATE_CANDIDATES = new ConcurrentHashMap<>();
+    private static final LongAdder templateHits = new LongAdder();
+    private static final LongAdder templateBuilds = new LongAdder();
+    
     static {
         
         List<Vec3> rays = new ArrayList<>();
@@ -34,6 +45,26 @@ public class PrecomputedExplosionShape {
         }
         PRECOMPUTED_RAYS = rays.toArray(new Vec3[0]);
         
+        double[] steps = new double[1352 * 3];
+        int index = 0;
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    if (x != 0 && x != 15 && y != 0 && y != 15 && z != 0 && z != 15) {
+                        continue;
+                    }
+                    double dx = (float) x / 15.0F * 2.0F - 1.0F;
+                    double dy = (float) y / 15.0F * 2.0F - 1.0F;
+                    double dz = (float) z / 15.0F * 2.0F - 1.0F;
+                    double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                    steps[index++] = dx / length * 0.3F;
+                    steps[index++] = dy / length * 0.3F;
+                    steps[index++] = dz / length * 0.3F;
+                }
+            }
+        }
+        VANILLA_RAY_STEPS = steps;
+        
         List<BlockOffset> blocks = new ArrayList<>();
         BLOCKS_BY_DISTANCE = new Int2ObjectOpenHashMap<>();
         
@@ -76,6 +107,35 @@ public class PrecomputedExplosionShape {
         return PRECOMPUTED_RAYS;
     }
     
+    public static double[] getVanillaRaySteps() {
+        return VANILLA_RAY_STEPS;
+    }
+    
+    public static ExplosionRayTemplate getRayTemplate(double x, double y, double z, float power) {
+        TemplateKey key = new TemplateKey(x, y, z, power);
+        ExplosionRayTemplate template = RAY_TEMPLATES.get(key);
+        if (template != null) {
+            templateHits.increment();
+            return template;
+        }
+        
+        if (TEMPLATE_CANDIDATES.putIfAbsent(key, Boolean.TRUE) == null) {
+            if (TEMPLATE_CANDIDATES.size() > MAX_TEMPLATE_CANDIDATES) {
+                TEMPLATE_CANDIDATES.clear();
+            }
+            return null;
+        }
+        
+        template = ExplosionRayTemplate.build(x, y, z, power);
+        templateBuilds.increment();
+        if (RAY_TEMPLATES.size() >= MAX_RAY_TEMPLATES) {
+            RAY_TEMPLATES.clear();
+        }
+        ExplosionRayTemplate existing = RAY_TEMPLATES.putIfAbsent(key, template);
+        TEMPLATE_CANDIDATES.remove(key);
+        return existing != null ? existing : template;
+    }
+    
     public static BlockOffset[] getPrecomputedBlocks() {
         return PRECOMPUTED_BLOCKS;
     }
@@ -155,9 +215,42 @@ public class PrecomputedExplosionShape {
     }
     
     public static String getStats() {
-        return String.format("Rays: %d, Blocks: %d, DistanceGroups: %d",
+        return String.format("Rays: %d, Blocks: %d, DistanceGroups: %d, Templates: %d (hits %d, builds %d)",
             PRECOMPUTED_RAYS.length,
             PRECOMPUTED_BLOCKS.length,
-            BLOCKS_BY_DISTANCE.size());
+            BLOCKS_BY_DISTANCE.size(),
+            RAY_TEMPLATES.size(),
+            templateHits.sum(),
+            templateBuilds.sum());
+    }
+    
+    private static final class TemplateKey {
+        private final long x;
+        private final long y;
+        private final long z;
+        private final int power;
+        
+        private TemplateKey(double x, double y, double z, float power) {
+            this.x = Double.doubleToLongBits(x);
+            this.y = Double.doubleToLongBits(y);
+            this.z = Double.doubleToLongBits(z);
+            this.power = Float.floatToIntBits(power);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TemplateKey)) return false;
+            TemplateKey other = (TemplateKey) o;
+            return x == other.x && y == other.y && z == other.z && power == other.power;
+        }
+        
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode(x);
+            hash = 31 * hash + Long.hashCode(y);
+            hash = 31 * hash + Long.hashCode(z);
+            return 31 * hash + power;
+        }
     }
 }
@@ -1,45 +1,101 @@
 package org.virgil.akiasync.mixin.async.explosion;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.phys.Vec3;
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
 public class TNTBatchCollector {
-    private static final Map<BatchKey, ExplosionBatch> batches = new ConcurrentHashMap<>();
-    private static final int MAX_BATCH_SIZE = 64;
-    public static synchronized boolean addExplosion(ServerLevel level, Vec3 center, float power, boolean fire) {
+    private static final Map<BatchKey, ExplosionBatch> batches = new LinkedHashMap<>();
+    private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    public static void submit(ServerLevel level, Vec3 center, float power, boolean fire,
+                              Consumer<ExplosionResult> applier, Runnable fallback) {
         long tick = level.getGameTime();
-        ChunkPos chunkPos = new ChunkPos(new BlockPos((int)center.x, (int)center.y, (int)center.z));
+        ChunkPos chunkPos = new ChunkPos(BlockPos.containing(center));
         BatchKey key = new BatchKey(level, tick, chunkPos);
-        ExplosionBatch batch = batches.computeIfAbsent(key, k -> new ExplosionBatch(level, chunkPos, tick));
-        batch.addExplosion(center, power, fire);
-        if (batch.getSize() >= 2 || batch.getSize() >= MAX_BATCH_SIZE) {
-            batches.remove(key);
-            return true;
+        List<ExplosionBatch> ready = new ArrayList<>();
+        synchronized (TNTBatchCollector.class) {
+            ExplosionBatch batch = batches.get(key);
+            if (batch == null) {
+                drainLevel(level, tick, ready);
+                batch = new ExplosionBatch(level, chunkPos, tick);
+                batches.put(key, batch);
+            }
+            batch.addExplosion(center, power, fire, applier, fallback);
+            if (batch.getSize() >= getMaxBatchSize()) {
+                batches.remove(key);
+                ready.add(batch);
+            }
+        }
+        for (ExplosionBatch batch : ready) {
+            TNTBatchResolver.resolve(batch);
         }
-        return false;
     }
-    public static synchronized ExplosionBatch getBatch(ServerLevel level, Vec3 center) {
-        long tick = level.getGameTime();
-        ChunkPos chunkPos = new ChunkPos(new BlockPos((int)center.x, (int)center.y, (int)center.z));
-        BatchKey key = new BatchKey(level, tick, chunkPos);
-        return batches.remove(key);
+
+    public static void flush(ServerLevel level) {
+        List<ExplosionBatch> ready = new ArrayList<>();
+        synchronized (TNTBatchCollector.class) {
+            drainLevel(level, Long.MAX_VALUE, ready);
+        }
+        for (ExplosionBatch batch : ready) {
+            TNTBatchResolver.resolve(batch);
+        }
     }
-    public static synchronized void clearOldBatches(ServerLevel level, long currentTick) {
-        batches.entrySet().removeIf(entry ->
-            entry.getKey().level == level && entry.getKey().tick < currentTick
-        );
+
+    private static void drainLevel(ServerLevel level, long beforeTick, List<ExplosionBatch> ready) {
+        Iterator<Map.Entry<BatchKey, ExplosionBatch>> iterator = batches.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<BatchKey, ExplosionBatch> entry = iterator.next();
+            if (entry.getKey().level == level && entry.getKey().tick < beforeTick) {
+                ready.add(entry.getValue());
+                iterator.remove();
+            }
+        }
     }
-    
-    public static synchronized void clearLevelCache(ServerLevel level) {
-        batches.entrySet().removeIf(entry -> entry.getKey().level == level);
+
+    private static int getMaxBatchSize() {
+        org.virgil.akiasync.mixin.bridge.Bridge bridge =
+            org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        return bridge != null ? bridge.getTNTBatchSize() : DEFAULT_MAX_BATCH_SIZE;
     }
-    
-    public static synchronized void clearAllCaches() {
-        batches.clear();
+
+    public static synchronized int getPendingBatchCount() {
+        return batches.size();
+    }
+
+    public static void clearLevelCache(ServerLevel level) {
+        List<ExplosionBatch> dropped = new ArrayList<>();
+        synchronized (TNTBatchCollector.class) {
+            drainLevel(level, Long.MAX_VALUE, dropped);
+        }
+        runFallbacks(dropped);
+    }
+
+    public static void clearAllCaches() {
+        List<ExplosionBatch> dropped;
+        synchronized (TNTBatchCollector.class) {
+            dropped = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        runFallbacks(dropped);
+    }
+
+    private static void runFallbacks(List<ExplosionBatch> dropped) {
+        for (ExplosionBatch batch : dropped) {
+            for (int i = 0; i < batch.getSize(); i++) {
+                try {
+                    batch.getFallback(i).run();
+                } catch (Exception e) {
+                    BridgeConfigCache.errorLog("[AkiAsync-TNT] Fallback for a dropped explosion batch failed: " + e.getMessage());
+                }
+            }
+        }
     }
     private static class BatchKey {
         private final ServerLevel level;
@@ -62,7 +118,6 @@ public class TNTBatchCollector {
             return java.util.Objects.hash(System.identityHashCode(level), tick, chunkPos);
         }
     }
-    @SuppressWarnings("unused")
     public static class ExplosionBatch {
         private final ServerLevel level;
         private final ChunkPos chunkPos;
@@ -70,38 +125,55 @@ public class TNTBatchCollector {
         private final List<Vec3> centers = new ArrayList<>();
         private final List<Float> powers = new ArrayList<>();
         private final List<Boolean> fires = new ArrayList<>();
+        private final List<Consumer<ExplosionResult>> appliers = new ArrayList<>();
+        private final List<Runnable> fallbacks = new ArrayList<>();
         public ExplosionBatch(ServerLevel level, ChunkPos chunkPos, long tick) {
             this.level = level;
             this.chunkPos = chunkPos;
             this.tick = tick;
         }
-        public void addExplosion(Vec3 center, float power, boolean fire) {
-            if (centers.size() >= MAX_BATCH_SIZE) return;
+        void addExplosion(Vec3 center, float power, boolean fire,
+                          Consumer<ExplosionResult> applier, Runnable fallback) {
             centers.add(center);
             powers.add(power);
             fires.add(fire);
+            appliers.add(applier);
+            fallbacks.add(fallback);
         }
         public int getSize() {
             return centers.size();
         }
-        public Vec3 getMergedCenter() {
-            double x = centers.stream().mapToDouble(Vec3::x).average().orElse(0);
-            double y = centers.stream().mapToDouble(Vec3::y).average().orElse(0);
-            double z = centers.stream().mapToDouble(Vec3::z).average().orElse(0);
-            return new Vec3(x, y, z);
+        List<Vec3> getCenters() {
+            return centers;
         }
-        public float getMergedPower() {
-            double sumPowerSquared = 0;
-            for (float power : powers) {
-                sumPowerSquared += power * power;
+        float[] getPowers() {
+            float[] result = new float[powers.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = powers.get(i);
             }
-            return (float) Math.sqrt(sumPowerSquared);
+            return result;
         }
-        public boolean hasAnyFire() {
-            return fires.stream().anyMatch(f -> f);
+        boolean[] getFires() {
+            boolean[] result = new boolean[fires.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = fires.get(i);
+            }
+            return result;
+        }
+        Consumer<ExplosionResult> getApplier(int index) {
+            return appliers.get(index);
+        }
+        Runnable getFallback(int index) {
+            return fallbacks.get(index);
         }
         public ServerLevel getLevel() {
             return level;
         }
+        public ChunkPos getChunkPos() {
+            return chunkPos;
+        }
+        public long getTick() {
+            return tick;
+        }
     }
 }
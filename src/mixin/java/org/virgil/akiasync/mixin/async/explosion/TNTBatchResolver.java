@@ -0,0 +1,137 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.virgil.akiasync.mixin.async.TNTThreadPool;
+import org.virgil.akiasync.mixin.bridge.Bridge;
+import org.virgil.akiasync.mixin.bridge.BridgeManager;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+
+public final class TNTBatchResolver {
+
+    private TNTBatchResolver() {
+    }
+
+    static void resolve(TNTBatchCollector.ExplosionBatch batch) {
+        ServerLevel level = batch.getLevel();
+        int size = batch.getSize();
+
+        List<ExplosionSnapshot> snapshots;
+        try {
+            snapshots = ExplosionSnapshot.captureBatch(level, batch.getCenters(), batch.getPowers(), batch.getFires());
+        } catch (Exception e) {
+            BridgeConfigCache.errorLog("[AkiAsync-TNT] Batch snapshot failed, falling back to sync explosions: " + e.getMessage());
+            for (int i = 0; i < size; i++) {
+                batch.getFallback(i).run();
+            }
+            return;
+        }
+
+        Bridge bridge = BridgeManager.getBridge();
+        ExecutorService pool = TNTThreadPool.getExecutor();
+        Executor executor = pool;
+        String healthStatus = bridge != null ? bridge.checkExecutorHealth(pool, "TNT") : null;
+        if (healthStatus != null && healthStatus.contains("unhealthy")) {
+            if (bridge.isTNTDebugEnabled()) {
+                BridgeConfigCache.debugLog("[AkiAsync-TNT] Executor unhealthy, resolving batch synchronously: " + healthStatus);
+            }
+            executor = Runnable::run;
+        }
+
+        long asyncStartNanos = System.nanoTime();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<ExplosionResult>[] futures = new CompletableFuture[size];
+        for (int i = 0; i < size; i++) {
+            ExplosionSnapshot snapshot = snapshots.get(i);
+            RandomSource random = RandomSource.create(level.getRandom().nextLong());
+            try {
+                futures[i] = CompletableFuture.supplyAsync(
+                    () -> new ExplosionCalculator(snapshot, random).calculate(), executor);
+            } catch (Exception e) {
+                futures[i] = CompletableFuture.failedFuture(e);
+            }
+        }
+
+        CompletableFuture.allOf(futures).whenComplete((ignored, failure) -> {
+            AsyncMetrics.recordLatency(AsyncMetrics.TNT, asyncStartNanos);
+            level.getServer().execute(() -> apply(batch, futures));
+        });
+    }
+
+    private static void apply(TNTBatchCollector.ExplosionBatch batch, CompletableFuture<ExplosionResult>[] futures) {
+        int size = futures.length;
+        ExplosionResult[] results = new ExplosionResult[size];
+        ExplosionResult[] merged = new ExplosionResult[size];
+        LongOpenHashSet claimedBlocks = new LongOpenHashSet();
+        Int2LongOpenHashMap owners = new Int2LongOpenHashMap();
+        owners.defaultReturnValue(-1L);
+        int totalBlocks = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (futures[i].isCompletedExceptionally()) {
+                continue;
+            }
+            ExplosionResult result = futures[i].join();
+            results[i] = result;
+
+            List<BlockPos> blocks = new ArrayList<>();
+            for (BlockPos pos : result.getToDestroy()) {
+                totalBlocks++;
+                if (claimedBlocks.add(pos.asLong())) {
+                    blocks.add(pos);
+                }
+            }
+            ExplosionResult owned = new ExplosionResult(blocks, result.isFire());
+            merged[i] = owned;
+
+            for (int j = 0; j < result.getEntityCount(); j++) {
+                int entityId = result.getEntityId(j);
+                long owner = owners.get(entityId);
+                if (owner < 0) {
+                    int slot = owned.addEntity(entityId, result.getEntitySection(j), result.getImpact(j),
+                        result.getKnockbackX(j), result.getKnockbackY(j), result.getKnockbackZ(j));
+                    owners.put(entityId, ((long) i << 32) | slot);
+                } else {
+                    merged[(int) (owner >>> 32)].merge((int) owner, result.getImpact(j),
+                        result.getKnockbackX(j), result.getKnockbackY(j), result.getKnockbackZ(j));
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (results[i] == null) {
+                batch.getFallback(i).run();
+                continue;
+            }
+            merged[i].sortByChunk();
+            ExplosionCalculator.releaseResult(results[i]);
+            try {
+                batch.getApplier(i).accept(merged[i]);
+            } catch (Exception e) {
+                if (merged[i].isApplied()) {
+                    BridgeConfigCache.errorLog("[AkiAsync-TNT] Batched explosion failed after it was partially applied, skipping: " + e.getMessage());
+                    continue;
+                }
+                BridgeConfigCache.errorLog("[AkiAsync-TNT] Error applying batched explosion: " + e.getMessage());
+                batch.getFallback(i).run();
+            }
+        }
+
+        Bridge bridge = BridgeManager.getBridge();
+        if (bridge != null && bridge.isTNTDebugEnabled()) {
+            bridge.debugLog("[AkiAsync-TNT] Batch at chunk %s resolved %d explosions: %d blocks (%d shared), %d entities",
+                batch.getChunkPos(), size, claimedBlocks.size(), totalBlocks - claimedBlocks.size(), owners.size());
+        }
+    }
+}
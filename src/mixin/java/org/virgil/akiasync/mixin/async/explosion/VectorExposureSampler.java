@@ -0,0 +1,139 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import net.minecraft.world.level.BlockGetter;
+
+final class VectorExposureSampler {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    private static final ThreadLocal<RaySetup> RAY_SETUP = ThreadLocal.withInitial(RaySetup::new);
+
+    private VectorExposureSampler() {
+    }
+
+    static boolean isUsable() {
+        return LANES >= 2;
+    }
+
+    static int paddedLength(int count) {
+        return SPECIES.loopBound(count + LANES - 1);
+    }
+
+    static String describe() {
+        return String.format("vector (%d-bit, %d lanes)", SPECIES.vectorBitSize(), LANES);
+    }
+
+    static int filterInRange(double[] xs, double[] ys, double[] zs, int count,
+                             double centerX, double centerY, double centerZ, double radius, int[] out) {
+        int found = 0;
+        for (int i = 0; i < count; i += LANES) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, i).sub(centerX);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, i).sub(centerY);
+            DoubleVector dz = DoubleVector.fromArray(SPECIES, zs, i).sub(centerZ);
+            DoubleVector dist = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz)).lanewise(VectorOperators.SQRT);
+            long bits = dist.compare(VectorOperators.GE, radius).not().toLong();
+            if (i + LANES > count) {
+                bits &= (1L << (count - i)) - 1;
+            }
+            while (bits != 0) {
+                out[found++] = i + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return found;
+    }
+
+    static int countVisible(BlockGetter blocks, double startX, double startY, double startZ,
+                            double[] endX, double[] endY, double[] endZ, int count) {
+        RaySetup rays = RAY_SETUP.get().ensure(count);
+        double floorX = Math.floor(startX);
+        double floorY = Math.floor(startY);
+        double floorZ = Math.floor(startZ);
+
+        for (int i = 0; i < count; i += LANES) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, endX, i).sub(startX);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, endY, i).sub(startY);
+            DoubleVector dz = DoubleVector.fromArray(SPECIES, endZ, i).sub(startZ);
+            DoubleVector distance = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz)).lanewise(VectorOperators.SQRT);
+            dx = dx.div(distance);
+            dy = dy.div(distance);
+            dz = dz.div(distance);
+
+            distance.intoArray(rays.distance, i);
+            dx.intoArray(rays.dirX, i);
+            dy.intoArray(rays.dirY, i);
+            dz.intoArray(rays.dirZ, i);
+            tMaxOf(dx, startX, floorX).intoArray(rays.tMaxX, i);
+            tMaxOf(dy, startY, floorY).intoArray(rays.tMaxY, i);
+            tMaxOf(dz, startZ, floorZ).intoArray(rays.tMaxZ, i);
+            tDeltaOf(dx).intoArray(rays.tDeltaX, i);
+            tDeltaOf(dy).intoArray(rays.tDeltaY, i);
+            tDeltaOf(dz).intoArray(rays.tDeltaZ, i);
+        }
+
+        int blockX = (int) floorX;
+        int blockY = (int) floorY;
+        int blockZ = (int) floorZ;
+        int visible = 0;
+        for (int i = 0; i < count; i++) {
+            if (!(rays.distance[i] >= ExposureSampler.MIN_DISTANCE)
+                || !ExposureSampler.traverse(blocks, blockX, blockY, blockZ,
+                    (int) Math.floor(endX[i]), (int) Math.floor(endY[i]), (int) Math.floor(endZ[i]),
+                    rays.dirX[i], rays.dirY[i], rays.dirZ[i],
+                    rays.tMaxX[i], rays.tMaxY[i], rays.tMaxZ[i],
+                    rays.tDeltaX[i], rays.tDeltaY[i], rays.tDeltaZ[i])) {
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+    private static DoubleVector tMaxOf(DoubleVector direction, double start, double startFloor) {
+        return DoubleVector.broadcast(SPECIES, startFloor)
+            .blend(startFloor + 1.0, direction.compare(VectorOperators.GT, 0.0))
+            .sub(start)
+            .div(direction)
+            .blend(Double.MAX_VALUE, direction.compare(VectorOperators.EQ, 0.0));
+    }
+
+    private static DoubleVector tDeltaOf(DoubleVector direction) {
+        return DoubleVector.broadcast(SPECIES, 1.0)
+            .div(direction)
+            .abs()
+            .blend(Double.MAX_VALUE, direction.compare(VectorOperators.EQ, 0.0));
+    }
+
+    private static final class RaySetup {
+        private double[] distance = new double[0];
+        private double[] dirX = new double[0];
+        private double[] dirY = new double[0];
+        private double[] dirZ = new double[0];
+        private double[] tMaxX = new double[0];
+        private double[] tMaxY = new double[0];
+        private double[] tMaxZ = new double[0];
+        private double[] tDeltaX = new double[0];
+        private double[] tDeltaY = new double[0];
+        private double[] tDeltaZ = new double[0];
+
+        private RaySetup ensure(int count) {
+            if (distance.length < count) {
+                int capacity = paddedLength(count);
+                distance = new double[capacity];
+                dirX = new double[capacity];
+                dirY = new double[capacity];
+                dirZ = new double[capacity];
+                tMaxX = new double[capacity];
+                tMaxY = new double[capacity];
+                tMaxZ = new double[capacity];
+                tDeltaX = new double[capacity];
+                tDeltaY = new double[capacity];
+                tDeltaZ = new double[capacity];
+            }
+            return this;
+        }
+    }
+}
@@ -1,33 +1,26 @@
 package org.virgil.akiasync.mixin.async.explosion.density;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
-import java.util.Objects;
 
 public final class BlockDensityCacheKey {
-    private final Vec3 explosionPos;
-    private final BlockPos entityPos;
+    private final long explosionCell;
+    private final long entityCell;
     private final int hashCode;
 
-    public BlockDensityCacheKey(Vec3 explosionPos, BlockPos entityPos) {
-        this.explosionPos = explosionPos;
-        this.entityPos = entityPos;
-        this.hashCode = Objects.hash(explosionPos, entityPos);
-    }
-
-    public static int getLenientKey(Vec3 explosionPos, BlockPos entityPos) {
-        int expX = (int) Math.floor(explosionPos.x);
-        int expY = (int) Math.floor(explosionPos.y);
-        int expZ = (int) Math.floor(explosionPos.z);
-        
-        return Objects.hash(expX, expY, expZ, entityPos.getX(), entityPos.getY(), entityPos.getZ());
+    public BlockDensityCacheKey(Vec3 explosionPos, AABB entityBox) {
+        this.explosionCell = BlockPos.asLong(Mth.floor(explosionPos.x), Mth.floor(explosionPos.y), Mth.floor(explosionPos.z));
+        this.entityCell = BlockPos.asLong(Mth.floor(entityBox.minX), Mth.floor(entityBox.minY), Mth.floor(entityBox.minZ));
+        this.hashCode = 31 * Long.hashCode(explosionCell) + Long.hashCode(entityCell);
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (!(obj instanceof BlockDensityCacheKey other)) return false;
-        return explosionPos.equals(other.explosionPos) && entityPos.equals(other.entityPos);
+        return explosionCell == other.explosionCell && entityCell == other.entityCell;
     }
 
     @Override
@@ -35,11 +28,11 @@ public final class BlockDensityCacheKey {
         return hashCode;
     }
 
-    public Vec3 getExplosionPos() {
-        return explosionPos;
+    public long getExplosionCell() {
+        return explosionCell;
     }
 
-    public BlockPos getEntityPos() {
-        return entityPos;
+    public long getEntityCell() {
+        return entityCell;
     }
 }
@@ -5,14 +5,22 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 public final class CachedBlockDensity {
-    private AABB source;
-    private AABB entity;
+    private final AABB source;
+    private final AABB entity;
     private final float blockDensity;
     private final boolean complete;
 
     public CachedBlockDensity(Vec3 explosionPos, Entity entity, float blockDensity) {
-        this.source = new AABB(explosionPos, explosionPos);
-        this.entity = entity.getBoundingBox();
+        this(explosionPos, entity.getBoundingBox(), blockDensity);
+    }
+
+    public CachedBlockDensity(Vec3 explosionPos, AABB entityBox, float blockDensity) {
+        this(blockDensity, new AABB(explosionPos, explosionPos), entityBox);
+    }
+
+    private CachedBlockDensity(float blockDensity, AABB source, AABB entity) {
+        this.source = source;
+        this.entity = entity;
         this.blockDensity = blockDensity;
         this.complete = blockDensity == 0.0f || blockDensity == 1.0f;
     }
@@ -37,8 +45,12 @@ public final class CachedBlockDensity {
         return this.source.contains(explosionPos);
     }
 
-    public void expand(Vec3 explosionPos, Entity entity) {
-        this.source = this.source.minmax(new AABB(explosionPos, explosionPos));
-        this.entity = this.entity.minmax(entity.getBoundingBox());
+    public AABB bounds() {
+        return this.source.minmax(this.entity);
+    }
+
+    public CachedBlockDensity expand(Vec3 explosionPos, AABB entityBox) {
+        return new CachedBlockDensity(this.blockDensity, this.source.minmax(new AABB(explosionPos, explosionPos)),
+            this.entity.minmax(entityBox));
     }
 }
@@ -0,0 +1,51 @@
+package org.virgil.akiasync.mixin.async.explosion.density;
+
+import net.minecraft.world.phys.AABB;
+import org.virgil.akiasync.mixin.async.explosion.ExplosionSnapshot;
+import org.virgil.akiasync.mixin.util.SectionChangeTracker;
+
+final class DensitySectionStamp {
+
+    private final int[] slots;
+    private final long[] versions;
+
+    private DensitySectionStamp(int[] slots, long[] versions) {
+        this.slots = slots;
+        this.versions = versions;
+    }
+
+    static DensitySectionStamp capture(AABB bounds, ExplosionSnapshot snapshot) {
+        int minX = (int) Math.floor(bounds.minX) >> 4;
+        int minY = (int) Math.floor(bounds.minY) >> 4;
+        int minZ = (int) Math.floor(bounds.minZ) >> 4;
+        int maxX = (int) Math.floor(bounds.maxX) >> 4;
+        int maxY = (int) Math.floor(bounds.maxY) >> 4;
+        int maxZ = (int) Math.floor(bounds.maxZ) >> 4;
+
+        int count = (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        int[] slots = new int[count];
+        long[] versions = new long[count];
+        int index = 0;
+        for (int sectionX = minX; sectionX <= maxX; sectionX++) {
+            for (int sectionY = minY; sectionY <= maxY; sectionY++) {
+                for (int sectionZ = minZ; sectionZ <= maxZ; sectionZ++) {
+                    slots[index] = SectionChangeTracker.slotOf(sectionX, sectionY, sectionZ);
+                    versions[index] = snapshot != null
+                        ? snapshot.getSectionVersion(sectionX, sectionY, sectionZ)
+                        : SectionChangeTracker.version(slots[index]);
+                    index++;
+                }
+            }
+        }
+        return new DensitySectionStamp(slots, versions);
+    }
+
+    boolean isCurrent() {
+        for (int i = 0; i < slots.length; i++) {
+            if (SectionChangeTracker.version(slots[i]) != versions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -7,6 +7,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
 public class AsyncBrainExecutor {
     private static final AtomicInteger totalExecutions = new AtomicInteger(0);
     private static final AtomicInteger successCount = new AtomicInteger(0);
@@ -30,17 +32,17 @@ public class AsyncBrainExecutor {
     }
     public static <T> CompletableFuture<T> runSync(Callable<T> task, long timeout, TimeUnit unit) {
         totalExecutions.incrementAndGet();
-        long startNanos = org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncStart();
+        long startNanos = AsyncMetrics.recordAsyncStart();
         
         if (executorService == null || executorService.isShutdown()) {
             try {
                 T result = task.call();
                 successCount.incrementAndGet();
-                org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncEnd(startNanos, true, false);
+                AsyncMetrics.recordAsyncEnd(AsyncMetrics.BRAIN, startNanos, true, false);
                 return CompletableFuture.completedFuture(result);
             } catch (Exception e) {
                 errorCount.incrementAndGet();
-                org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncEnd(startNanos, false, false);
+                AsyncMetrics.recordAsyncEnd(AsyncMetrics.BRAIN, startNanos, false, false);
                 return CompletableFuture.failedFuture(e);
             }
         }
@@ -49,11 +51,11 @@ public class AsyncBrainExecutor {
             try {
                 T result = task.call();
                 successCount.incrementAndGet();
-                org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncEnd(startNanos, true, false);
+                AsyncMetrics.recordAsyncEnd(AsyncMetrics.BRAIN, startNanos, true, false);
                 return result;
             } catch (Exception e) {
                 errorCount.incrementAndGet();
-                org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncEnd(startNanos, false, false);
+                AsyncMetrics.recordAsyncEnd(AsyncMetrics.BRAIN, startNanos, false, false);
                 throw new CompletionException(e);
             }
         }, executorService)
@@ -61,7 +63,7 @@ public class AsyncBrainExecutor {
         .exceptionally(throwable -> {
             if (throwable instanceof TimeoutException || throwable.getCause() instanceof TimeoutException) {
                 timeoutCount.incrementAndGet();
-                org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncEnd(startNanos, false, true);
+                AsyncMetrics.recordAsyncEnd(AsyncMetrics.BRAIN, startNanos, false, true);
             }
             return null;
         });
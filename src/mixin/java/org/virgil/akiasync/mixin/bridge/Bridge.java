@@ -92,10 +92,13 @@ public interface Bridge {
     int getAsyncPathfindingMaxQueueSize();
     int getAsyncPathfindingTimeoutMs();
     boolean isAsyncPathfindingSyncFallbackEnabled();
+    boolean isPathRegionGraphEnabled();
+    int getPathRegionGraphMinDistance();
+    int getPathTickBudget();
+    int getPathMaxDeferralTicks();
     
     boolean isEnhancedPathfindingEnabled();
     int getEnhancedPathfindingMaxConcurrentRequests();
-    int getEnhancedPathfindingMaxRequestsPerTick();
     int getEnhancedPathfindingHighPriorityDistance();
     int getEnhancedPathfindingMediumPriorityDistance();
     boolean isPathPrewarmEnabled();
@@ -213,6 +216,12 @@ public interface Bridge {
 
     int getTNTBatchSize();
 
+    boolean isTNTBatchResolveEnabled();
+
+    boolean isTNTPrecomputedShapeEnabled();
+
+    boolean isTNTVectorExposureEnabled();
+
     boolean isTNTDebugEnabled();
 
     boolean isTNTVanillaCompatibilityEnabled();
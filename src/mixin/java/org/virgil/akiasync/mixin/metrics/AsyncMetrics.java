@@ -1,6 +1,18 @@
 package org.virgil.akiasync.mixin.metrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 public final class AsyncMetrics {
+    public static final String BRAIN = "brain";
+    public static final String TNT = "tnt";
+    public static final String LIGHTING = "lighting";
+    public static final String PATHFINDING = "pathfinding";
+    public static final String BLOCK_TICK = "block_tick";
+    private static final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
     private static final AtomicLong currentMspt = new AtomicLong(0);
     private static final AtomicLong lastTickTime = new AtomicLong(System.nanoTime());
     private static final AtomicLong totalExecutions = new AtomicLong(0);
@@ -31,6 +43,42 @@ public final class AsyncMetrics {
             fallbackCount.incrementAndGet();
         }
     }
+    public static void recordAsyncEnd(String subsystem, long startNanos, boolean success, boolean timeout) {
+        recordAsyncEnd(startNanos, success, timeout);
+        recordLatency(subsystem, startNanos);
+    }
+    public static void recordLatency(String subsystem, long startNanos) {
+        histogram(subsystem).record(System.nanoTime() - startNanos);
+    }
+    public static LatencyHistogram histogram(String subsystem) {
+        LatencyHistogram histogram = histograms.get(subsystem);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(subsystem, LatencyHistogram::new);
+        }
+        return histogram;
+    }
+    public static Collection<LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableCollection(histograms.values());
+    }
+    public static List<LatencyHistogram.Snapshot> getLatencySnapshots() {
+        List<LatencyHistogram.Snapshot> snapshots = new ArrayList<>(histograms.size());
+        for (LatencyHistogram histogram : histograms.values()) {
+            snapshots.add(histogram.snapshot());
+        }
+        snapshots.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return snapshots;
+    }
+    public static String getLatencySummary() {
+        List<LatencyHistogram.Snapshot> snapshots = getLatencySnapshots();
+        if (snapshots.isEmpty()) {
+            return "AsyncLatency: No executions yet";
+        }
+        StringBuilder sb = new StringBuilder("AsyncLatency:");
+        for (LatencyHistogram.Snapshot snapshot : snapshots) {
+            sb.append(' ').append(snapshot);
+        }
+        return sb.toString();
+    }
     public static long getCurrentMspt() {
         return currentMspt.get();
     }
@@ -48,7 +96,7 @@ public final class AsyncMetrics {
         return fallbackCount.get();
     }
     public static String getPrometheusMetrics() {
-        return String.format(
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
             "# HELP akiasync_mspt_current Current tick MSPT in milliseconds%n" +
             "# TYPE akiasync_mspt_current gauge%n" +
             "akiasync_mspt_current %d%n" +
@@ -68,7 +116,38 @@ public final class AsyncMetrics {
             getAsyncCpuPercent(),
             getFallbackCount(),
             getSuccessRate()
-        );
+        ));
+        List<LatencyHistogram.Snapshot> snapshots = getLatencySnapshots();
+        if (snapshots.isEmpty()) {
+            return sb.toString();
+        }
+        sb.append(String.format(Locale.ROOT,
+            "%n" +
+            "# HELP akiasync_async_latency_seconds Async task latency from submission to completion%n" +
+            "# TYPE akiasync_async_latency_seconds summary%n"));
+        for (LatencyHistogram.Snapshot snapshot : snapshots) {
+            String name = snapshot.getName();
+            appendQuantile(sb, name, "0.5", snapshot.getValueAtPercentileNanos(50.0));
+            appendQuantile(sb, name, "0.99", snapshot.getValueAtPercentileNanos(99.0));
+            appendQuantile(sb, name, "0.999", snapshot.getValueAtPercentileNanos(99.9));
+            sb.append(String.format(Locale.ROOT, "akiasync_async_latency_seconds_sum{subsystem=\"%s\"} %.6f%n",
+                name, snapshot.getSumNanos() / 1_000_000_000.0));
+            sb.append(String.format(Locale.ROOT, "akiasync_async_latency_seconds_count{subsystem=\"%s\"} %d%n",
+                name, snapshot.getCount()));
+        }
+        sb.append(String.format(Locale.ROOT,
+            "%n" +
+            "# HELP akiasync_async_latency_max_seconds Maximum observed async task latency%n" +
+            "# TYPE akiasync_async_latency_max_seconds gauge%n"));
+        for (LatencyHistogram.Snapshot snapshot : snapshots) {
+            sb.append(String.format(Locale.ROOT, "akiasync_async_latency_max_seconds{subsystem=\"%s\"} %.6f%n",
+                snapshot.getName(), snapshot.getMaxNanos() / 1_000_000_000.0));
+        }
+        return sb.toString();
+    }
+    private static void appendQuantile(StringBuilder sb, String subsystem, String quantile, long nanos) {
+        sb.append(String.format(Locale.ROOT, "akiasync_async_latency_seconds{subsystem=\"%s\",quantile=\"%s\"} %.6f%n",
+            subsystem, quantile, nanos / 1_000_000_000.0));
     }
     public static void reset() {
         totalExecutions.set(0);
@@ -77,5 +156,8 @@ public final class AsyncMetrics {
         fallbackCount.set(0);
         asyncCpuNanos.set(0);
         totalCpuNanos.set(0);
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
     }
 }
@@ -0,0 +1,154 @@
+package org.virgil.akiasync.mixin.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final String name;
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucketIndex(nanos / 1_000L)].increment();
+        count.increment();
+        sumNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBoundMicros(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = buckets[i].sum();
+            counts[i] = c;
+            total += c;
+        }
+        return new Snapshot(name, counts, total, sumNanos.sum(), maxNanos.get());
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sumNanos.reset();
+        maxNanos.reset();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public static final class Snapshot {
+        private final String name;
+        private final long[] counts;
+        private final long count;
+        private final long sumNanos;
+        private final long maxNanos;
+
+        private Snapshot(String name, long[] counts, long count, long sumNanos, long maxNanos) {
+            this.name = name;
+            this.counts = counts;
+            this.count = count;
+            this.sumNanos = sumNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSumNanos() {
+            return sumNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public double getMeanMillis() {
+            return count == 0 ? 0.0 : sumNanos / (double) count / 1_000_000.0;
+        }
+
+        public long getValueAtPercentileNanos(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile / 100.0 * count);
+            if (rank < 1) {
+                rank = 1;
+            }
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBoundMicros(i) * 1_000L + 999L, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        public double getPercentileMillis(double percentile) {
+            return getValueAtPercentileNanos(percentile) / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%s[n=%d | p50=%.2fms | p99=%.2fms | p999=%.2fms | max=%.2fms]",
+                name, count,
+                getPercentileMillis(50.0), getPercentileMillis(99.0), getPercentileMillis(99.9),
+                maxNanos / 1_000_000.0
+            );
+        }
+    }
+}
@@ -2,7 +2,6 @@ package org.virgil.akiasync.mixin.mixins.blockentity;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -13,6 +12,8 @@ import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.async.executor.TickDeadlineScheduler;
+import org.virgil.akiasync.mixin.optimization.scheduler.WorkStealingTaskScheduler;
 
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.entity.TickingBlockEntity;
@@ -108,53 +109,59 @@ public abstract class BlockEntityTickParallelMixin {
             return;
         }
 
-        List<List<TickingBlockEntity>> batches = akiasync$partitionBlockEntities(blockEntityTickers, batchSize);
-
         try {
-            List<CompletableFuture<Void>> futures = new ArrayList<>(batches.size());
-
-            for (List<TickingBlockEntity> batch : batches) {
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    for (TickingBlockEntity blockEntity : batch) {
-                        if (blockEntity == null) continue;
-
-                        try {
-                            if (protectContainers && akiasync$isContainerBlockEntity(blockEntity)) {
-                                continue;
-                            }
+            List<TickingBlockEntity> parallel = new ArrayList<>(blockEntityTickers.size());
+            List<TickingBlockEntity> containers = new ArrayList<>();
+            for (TickingBlockEntity blockEntity : blockEntityTickers) {
+                if (blockEntity == null) continue;
+                if (protectContainers && akiasync$isContainerBlockEntity(blockEntity)) {
+                    containers.add(blockEntity);
+                } else {
+                    parallel.add(blockEntity);
+                }
+            }
 
-                            blockEntity.tick();
-                        } catch (Throwable t) {
-                            if (executionCount <= 3) {
-                                org.virgil.akiasync.mixin.bridge.Bridge bridge =
-                                    org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-                                if (bridge != null) {
-                                    bridge.errorLog("[AkiAsync-BlockEntity] Error ticking block entity: " +
-                                        blockEntity.getType() + " at " + blockEntity.getPos());
-                                }
+            java.util.concurrent.Executor deadlineExecutor =
+                TickDeadlineScheduler.executorFor(TickDeadlineScheduler.TickPhase.BLOCK_ENTITIES, executor);
+            boolean completed = WorkStealingTaskScheduler.getInstance().processWeightedBatch(
+                parallel.toArray(new TickingBlockEntity[0]),
+                blockEntity -> {
+                    try {
+                        blockEntity.tick();
+                    } catch (Throwable t) {
+                        if (executionCount <= 3) {
+                            org.virgil.akiasync.mixin.bridge.Bridge bridge =
+                                org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                            if (bridge != null) {
+                                bridge.errorLog("[AkiAsync-BlockEntity] Error ticking block entity: " +
+                                    blockEntity.getType() + " at " + blockEntity.getPos());
                             }
                         }
                     }
-                }, executor);
-
-                futures.add(future);
+                },
+                BlockEntityTickParallelMixin::akiasync$blockEntityTickCost,
+                batchSize,
+                deadlineExecutor,
+                TimeUnit.MILLISECONDS.toNanos(timeoutMs)
+            );
+            if (!completed && executionCount <= 3) {
+                org.virgil.akiasync.mixin.bridge.Bridge bridge =
+                    org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                if (bridge != null) {
+                    bridge.errorLog("[AkiAsync-BlockEntity] Parallel tick exceeded " + timeoutMs +
+                        "ms, leaving in-flight batches to finish");
+                }
             }
 
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .get(timeoutMs, TimeUnit.MILLISECONDS);
-            if (protectContainers) {
-                for (TickingBlockEntity blockEntity : blockEntityTickers) {
-                    if (blockEntity != null && akiasync$isContainerBlockEntity(blockEntity)) {
-                        try {
-                            blockEntity.tick();
-                        } catch (Throwable t2) {
-                            
-                            org.virgil.akiasync.mixin.bridge.Bridge errorBridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-                            if (errorBridge != null && errorBridge.isDebugLoggingEnabled()) {
-                                errorBridge.errorLog("[BlockEntity-Protected] Error ticking protected container %s at %s: %s", 
-                                    blockEntity.getType(), blockEntity.getPos(), t2.getMessage());
-                            }
-                        }
+            for (TickingBlockEntity blockEntity : containers) {
+                try {
+                    blockEntity.tick();
+                } catch (Throwable t2) {
+                    
+                    org.virgil.akiasync.mixin.bridge.Bridge errorBridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                    if (errorBridge != null && errorBridge.isDebugLoggingEnabled()) {
+                        errorBridge.errorLog("[BlockEntity-Protected] Error ticking protected container %s at %s: %s", 
+                            blockEntity.getType(), blockEntity.getPos(), t2.getMessage());
                     }
                 }
             }
@@ -164,8 +171,8 @@ public abstract class BlockEntityTickParallelMixin {
                     org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
                 if (bridge != null) {
                     bridge.debugLog(
-                        "[AkiAsync-BlockEntity] Processed %d block entities in %d batches",
-                        blockEntityTickers.size(), batches.size()
+                        "[AkiAsync-BlockEntity] Processed %d block entities",
+                        blockEntityTickers.size()
                     );
                 }
             }
@@ -229,13 +236,16 @@ public abstract class BlockEntityTickParallelMixin {
     }
 
     @Unique
-    private List<List<TickingBlockEntity>> akiasync$partitionBlockEntities(
-        List<TickingBlockEntity> list, int size) {
-        List<List<TickingBlockEntity>> result = new ArrayList<>();
-        for (int i = 0; i < list.size(); i += size) {
-            result.add(list.subList(i, Math.min(i + size, list.size())));
+    private static int akiasync$blockEntityTickCost(TickingBlockEntity blockEntity) {
+        String type = blockEntity.getType();
+        if (type.contains("hopper")) {
+            return 4;
+        }
+        if (type.contains("furnace") || type.contains("smoker") ||
+            type.contains("brewing_stand") || type.contains("beacon")) {
+            return 2;
         }
-        return result;
+        return 1;
     }
 
     @Unique
@@ -4,6 +4,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.virgil.akiasync.mixin.async.chunk.ChunkSaveExecutor;
 import org.virgil.akiasync.mixin.util.BridgeConfigCache;
 import org.virgil.akiasync.mixin.bridge.Bridge;
 import org.virgil.akiasync.mixin.bridge.BridgeManager;
@@ -46,7 +47,8 @@ public class ChunkSaveAsyncMixin {
                 BridgeConfigCache.debugLog("[AkiAsync-ChunkSave] Using native Folia chunk save mechanism to prevent deadlocks");
             } else {
                 BridgeConfigCache.debugLog("[AkiAsync-ChunkSave] Paper environment detected - async chunk save ENABLED");
-                BridgeConfigCache.debugLog("[AkiAsync-ChunkSave] Using optimized async save executor");
+                BridgeConfigCache.debugLog("[AkiAsync-ChunkSave] Using optimized async save executor" +
+                    (org.virgil.akiasync.mixin.optimization.thread.VirtualThreadService.isEnabled() ? " (virtual threads)" : ""));
             }
         } catch (Exception e) {
         }
@@ -64,8 +66,13 @@ public class ChunkSaveAsyncMixin {
                     ));
                 } else {
                     BridgeConfigCache.debugLog(String.format(
-                        "[AkiAsync-ChunkSave] Paper mode stats - Async saves: %d",
-                        asyncCallCount
+                        "[AkiAsync-ChunkSave] Paper mode stats - Async saves: %d | Virtual: %d (max %d concurrent, chained %d, pending regions %d, deferred flushes %d)",
+                        asyncCallCount,
+                        ChunkSaveExecutor.getSubmittedCount(),
+                        ChunkSaveExecutor.getMaxConcurrentSaves(),
+                        ChunkSaveExecutor.getChainedCount(),
+                        ChunkSaveExecutor.getPendingCount(),
+                        ChunkSaveExecutor.getFlushDeferredCount()
                     ));
                 }
             } catch (Exception e) {
@@ -90,6 +97,15 @@ public class ChunkSaveAsyncMixin {
         }
 
         if (flush) {
+            if (ChunkSaveExecutor.getPendingCount() > 0) {
+                Long pos = chunkPos(holder);
+                if (pos != null && !ChunkSaveExecutor.awaitRegionForFlush(pos)) {
+                    final ChunkHolder flushHolder = holder;
+                    if (ChunkSaveExecutor.submit(pos, () -> saveWithFallback(flushHolder, true))) {
+                        return;
+                    }
+                }
+            }
             callUnsafeSave(holder, flush);
             return;
         }
@@ -97,6 +113,10 @@ public class ChunkSaveAsyncMixin {
         asyncCallCount++;
         logStatistics();
 
+        if (submitVirtualSave(holder)) {
+            return;
+        }
+
         try {
             java.lang.reflect.Field levelField = holder.getClass().getDeclaredField("level");
             levelField.setAccessible(true);
@@ -132,35 +152,57 @@ public class ChunkSaveAsyncMixin {
 
             final long finalPos = pos;
             final ChunkHolder finalHolder = holder;
-            executeMethod.invoke(saveExecutor, null, (Runnable) () -> {
-                try {
-                    callUnsafeSave(finalHolder, false);
-                } catch (Exception ex) {
-                }
-            }, finalPos);
+            executeMethod.invoke(saveExecutor, null, (Runnable) () -> saveWithFallback(finalHolder, false), finalPos);
 
         } catch (Exception e) {
-            try {
-                if (asyncCallCount <= 5) {
-                    BridgeConfigCache.debugLog("[AkiAsync-ChunkSave] Async save failed, fallback to sync: " + e.getMessage());
-                }
-            } catch (Exception ignored) {}
+            if (asyncCallCount <= 5) {
+                BridgeConfigCache.debugLog("[AkiAsync-ChunkSave] Async save failed, fallback to sync: " + e.getMessage());
+            }
             callUnsafeSave(holder, flush);
         }
     }
 
-    private void callUnsafeSave(ChunkHolder holder, boolean flush) {
+    private static Long chunkPos(ChunkHolder holder) {
+        try {
+            java.lang.reflect.Method getPosMethod = holder.getClass().getMethod("toLong");
+            return (long) getPosMethod.invoke(holder);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private boolean submitVirtualSave(ChunkHolder holder) {
+        Long pos = chunkPos(holder);
+        if (pos == null) {
+            return false;
+        }
+
+        final ChunkHolder finalHolder = holder;
+        return ChunkSaveExecutor.submit(pos, () -> saveWithFallback(finalHolder, false));
+    }
+
+    private void saveWithFallback(ChunkHolder holder, boolean flush) {
+        if (callUnsafeSave(holder, flush)) {
+            return;
+        }
+        BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] Async save of chunk %s failed, retrying as a synchronous flush save",
+            chunkPos(holder));
+        if (!callUnsafeSave(holder, true)) {
+            BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] CRITICAL: Synchronous retry for chunk %s also failed", chunkPos(holder));
+        }
+    }
+
+    private boolean callUnsafeSave(ChunkHolder holder, boolean flush) {
         try {
             java.lang.reflect.Method unsafeSaveMethod = holder.getClass()
                 .getDeclaredMethod("moonrise$unsafeSave", boolean.class);
             unsafeSaveMethod.setAccessible(true);
             unsafeSaveMethod.invoke(holder, flush);
-        } catch (Exception e) {
-            try {
-                BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] CRITICAL: Failed to save chunk - " + e.getMessage());
-            } catch (Exception e2) {
-                BridgeConfigCache.errorLog("[ChunkSave] Failed to log critical error: %s", e2.getMessage());
-            }
+            return true;
+        } catch (Throwable t) {
+            Throwable cause = t instanceof java.lang.reflect.InvocationTargetException && t.getCause() != null ? t.getCause() : t;
+            BridgeConfigCache.errorLog("[AkiAsync-ChunkSave] CRITICAL: Failed to save chunk %s - %s", chunkPos(holder), cause);
+            return false;
         }
     }
 }
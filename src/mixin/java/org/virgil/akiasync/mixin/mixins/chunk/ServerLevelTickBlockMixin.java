@@ -21,6 +21,7 @@ import org.virgil.akiasync.mixin.util.BlockTickCategory;
 import org.virgil.akiasync.mixin.util.BridgeConfigCache;
 import org.virgil.akiasync.mixin.bridge.Bridge;
 import org.virgil.akiasync.mixin.bridge.BridgeManager;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
 
 @SuppressWarnings("unused")
 @Mixin(value = ServerLevel.class, priority = 1200)
@@ -251,6 +252,7 @@ public abstract class ServerLevelTickBlockMixin {
                 
                 for (BlockTickTask task : batch) {
                     int priority = aki$determinePriority(task.category);
+                    long taskStartNanos = System.nanoTime();
                     tasksByPriority.computeIfAbsent(priority, k -> new java.util.ArrayList<>())
                         .add(() -> {
                             try {
@@ -258,7 +260,9 @@ public abstract class ServerLevelTickBlockMixin {
                                 if (currentState.is(task.block)) {
                                     currentState.tick(level, task.pos, level.random);
                                 }
+                                AsyncMetrics.recordLatency(AsyncMetrics.BLOCK_TICK, taskStartNanos);
                             } catch (Throwable t) {
+                                AsyncMetrics.recordLatency(AsyncMetrics.BLOCK_TICK, taskStartNanos);
                                 syncFallbackCount.incrementAndGet();
                                 level.getServer().execute(() -> {
                                     try {
@@ -304,6 +308,7 @@ public abstract class ServerLevelTickBlockMixin {
         
         batchSubmissionCount.incrementAndGet();
         asyncExecutionCount.addAndGet(batch.size());
+        long asyncStartNanos = System.nanoTime();
         
         ASYNC_BLOCK_TICK_EXECUTOR.execute(() -> {
             for (BlockTickTask task : batch) {
@@ -333,6 +338,7 @@ public abstract class ServerLevelTickBlockMixin {
                     });
                 }
             }
+            AsyncMetrics.recordLatency(AsyncMetrics.BLOCK_TICK, asyncStartNanos);
         });
     }
 
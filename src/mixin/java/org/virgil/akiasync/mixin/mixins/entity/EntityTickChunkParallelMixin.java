@@ -10,6 +10,8 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.async.executor.TickDeadlineScheduler;
+import org.virgil.akiasync.mixin.optimization.scheduler.WorkStealingTaskScheduler;
 import org.virgil.akiasync.mixin.util.BridgeConfigCache;
 import org.virgil.akiasync.mixin.bridge.Bridge;
 import org.virgil.akiasync.mixin.bridge.BridgeManager;
@@ -127,7 +129,6 @@ public abstract class EntityTickChunkParallelMixin {
             }
             return;
         }
-        List<List<EntityAccess>> batches = partition(cachedList, batchSize);
         long adaptiveTimeout = calculateAdaptiveTimeout(lastMspt);
         try {
             
@@ -137,56 +138,35 @@ public abstract class EntityTickChunkParallelMixin {
             
             if (executor == null) {
                 
-                batches.forEach(batch -> batch.forEach(entity -> {
+                cachedList.forEach(entity -> {
                     try {
                         if (org.virgil.akiasync.mixin.util.VirtualEntityCheck.is(entity)) return;
                         action.accept(entity);
                     } catch (Exception ignored) {
                     }
-                }));
+                });
                 return;
             }
             
-            List<java.util.concurrent.CompletableFuture<Void>> futures = batches.stream()
-                .<java.util.concurrent.CompletableFuture<Void>>map(batch -> java.util.concurrent.CompletableFuture.runAsync(() -> {
-                    batch.forEach(entity -> {
-                        try {
-                            if (org.virgil.akiasync.mixin.util.VirtualEntityCheck.is(entity)) return;
-
-                            if (entity instanceof net.minecraft.world.entity.Entity realEntity) {
-                                
-                                if (realEntity instanceof net.minecraft.world.entity.ExperienceOrb orb) {
-                                    int entityId = realEntity.getId();
-                                    
-                                    if (orb.isRemoved()) {
-                                        return;
-                                    }
-                                    
-                                    if (!processingExperienceOrbs.add(entityId)) {
-                                        return; 
-                                    }
-                                    
-                                    try {
-                                        action.accept(entity);
-                                    } finally {
-                                        processingExperienceOrbs.remove(entityId);
-                                    }
-                                    return;
-                                }
-                            }
-
-                            action.accept(entity);
-                        } catch (Throwable t) {
-                        }
-                    });
-                }, executor))
-                .collect(java.util.stream.Collectors.toList());
-            java.util.concurrent.CompletableFuture.allOf(futures.toArray(java.util.concurrent.CompletableFuture[]::new))
-                .get(adaptiveTimeout, java.util.concurrent.TimeUnit.MILLISECONDS);
+            java.util.concurrent.Executor deadlineExecutor =
+                TickDeadlineScheduler.executorFor(TickDeadlineScheduler.TickPhase.ENTITIES, executor);
+            EntityAccess[] entities = cachedList.toArray(new EntityAccess[0]);
+            boolean completed = WorkStealingTaskScheduler.getInstance().processWeightedBatch(
+                entities,
+                entity -> akiasync$tickEntity(entity, action),
+                EntityTickChunkParallelMixin::akiasync$entityTickCost,
+                batchSize,
+                deadlineExecutor,
+                java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(adaptiveTimeout)
+            );
+            if (!completed && executionCount <= 3) {
+                BridgeConfigCache.errorLog("[AkiAsync-Parallel] Entity tick exceeded %dms, leaving in-flight batches to finish",
+                    adaptiveTimeout);
+            }
             if (executionCount % 100 == 0) {
                 BridgeConfigCache.debugLog(
-                    "[AkiAsync-Parallel] Processed %d entities in %d batches (timeout: %dms)",
-                    cachedList.size(), batches.size(), adaptiveTimeout
+                    "[AkiAsync-Parallel] Processed %d entities (timeout: %dms)",
+                    cachedList.size(), adaptiveTimeout
                 );
             }
         } catch (Throwable t) {
@@ -203,12 +183,37 @@ public abstract class EntityTickChunkParallelMixin {
             }
         }
     }
-    private List<List<EntityAccess>> partition(List<EntityAccess> list, int size) {
-        List<List<EntityAccess>> result = new ArrayList<>();
-        for (int i = 0; i < list.size(); i += size) {
-            result.add(list.subList(i, Math.min(i + size, list.size())));
+
+    private static void akiasync$tickEntity(EntityAccess entity, Consumer<EntityAccess> action) {
+        if (org.virgil.akiasync.mixin.util.VirtualEntityCheck.is(entity)) return;
+
+        if (entity instanceof net.minecraft.world.entity.ExperienceOrb orb) {
+            int entityId = orb.getId();
+            if (orb.isRemoved()) {
+                return;
+            }
+            if (!processingExperienceOrbs.add(entityId)) {
+                return;
+            }
+            try {
+                action.accept(entity);
+            } finally {
+                processingExperienceOrbs.remove(entityId);
+            }
+            return;
+        }
+
+        action.accept(entity);
+    }
+
+    private static int akiasync$entityTickCost(EntityAccess entity) {
+        if (entity instanceof net.minecraft.world.entity.Mob mob) {
+            return mob.getTarget() != null ? 8 : 4;
+        }
+        if (entity instanceof net.minecraft.world.entity.LivingEntity) {
+            return 2;
         }
-        return result;
+        return 1;
     }
     private long calculateAdaptiveTimeout(long mspt) {
         if (mspt < 20) return 100;
@@ -0,0 +1,18 @@
+package org.virgil.akiasync.mixin.mixins.explosion;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.async.explosion.TNTBatchCollector;
+
+import net.minecraft.server.level.ServerLevel;
+
+@Mixin(value = ServerLevel.class, priority = 900)
+public class TNTBatchFlushMixin {
+
+    @Inject(method = "tick", at = @At("RETURN"), require = 0)
+    private void aki$flushExplosionBatches(CallbackInfo ci) {
+        TNTBatchCollector.flush((ServerLevel) (Object) this);
+    }
+}
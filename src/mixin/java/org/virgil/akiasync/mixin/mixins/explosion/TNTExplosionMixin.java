@@ -11,8 +11,6 @@ import net.minecraft.world.phys.Vec3;
 import org.virgil.akiasync.mixin.util.BridgeConfigCache;
 import org.virgil.akiasync.mixin.bridge.Bridge;
 import org.virgil.akiasync.mixin.bridge.BridgeManager;
-import java.util.Map;
-import java.util.UUID;
 @SuppressWarnings("unused")
 @Mixin(value = PrimedTnt.class, priority = 1200)
 public class TNTExplosionMixin {
@@ -118,6 +116,12 @@ public class TNTExplosionMixin {
             return;
         }
 
+        if (bridge.isTNTBatchResolveEnabled()) {
+            aki$submitBatchedExplosion(tnt, sl, center, bridge);
+            tnt.discard();
+            return;
+        }
+
         aki$executeSafeExplosion(tnt, sl, center, false, bridge);
 
         tnt.discard();
@@ -168,6 +172,7 @@ public class TNTExplosionMixin {
             java.util.List<PrimedTnt> tntToSpawn = new java.util.ArrayList<>();
             java.util.Set<BlockPos> blocksToUpdate = new java.util.HashSet<>();
             
+            result.markApplied();
             for (BlockPos pos : result.getToDestroy()) {
                 net.minecraft.world.level.block.state.BlockState state = level.getBlockState(pos);
                 if (!state.isAir()) {
@@ -253,122 +258,67 @@ public class TNTExplosionMixin {
             }
 
             if (bridge != null && bridge.isTNTDebugEnabled()) {
-                bridge.debugLog("[AkiAsync-TNT] Processing %d entities for damage", result.getToHurt().size());
+                bridge.debugLog("[AkiAsync-TNT] Processing %d entities for damage", result.getEntityCount());
                 bridge.debugLog("[AkiAsync-TNT] Explosion center: %s", center);
             }
 
             int entitiesFound = 0;
             int entitiesNotFound = 0;
             int entitiesRecovered = 0;
-            
-            for (Map.Entry<UUID, Vec3> entry : result.getToHurt().entrySet()) {
-                net.minecraft.world.entity.Entity entity = level.getEntity(entry.getKey());
-                
-                if (entity == null) {
-                    if (bridge != null && bridge.isTNTDebugEnabled()) {
-                        BridgeConfigCache.debugLog("[AkiAsync-TNT] Entity not found by UUID: " + entry.getKey() + ", trying AABB search");
-                    }
-                    
-                    double searchRadius = 8.0;
-                    java.util.List<net.minecraft.world.entity.Entity> nearbyEntities = level.getEntities(
-                        null,
-                        new net.minecraft.world.phys.AABB(
-                            center.x - searchRadius, center.y - searchRadius, center.z - searchRadius,
-                            center.x + searchRadius, center.y + searchRadius, center.z + searchRadius
-                        )
-                    );
-                    
-                    if (bridge != null && bridge.isTNTDebugEnabled()) {
-                        BridgeConfigCache.debugLog("[AkiAsync-TNT] AABB search found " + nearbyEntities.size() + " nearby entities");
-                    }
-                    
-                    for (net.minecraft.world.entity.Entity e : nearbyEntities) {
-                        if (e.getUUID().equals(entry.getKey())) {
-                            entity = e;
-                            entitiesRecovered++;
-                            if (bridge != null && bridge.isTNTDebugEnabled()) {
-                                BridgeConfigCache.debugLog("[AkiAsync-TNT] Recovered entity via AABB search: " + 
-                                    entity.getType().getDescriptionId() + " at " + entity.position());
-                            }
-                            break;
-                        }
-                    }
-                    
-                    if (entity == null) {
-                        entitiesNotFound++;
-                        if (bridge != null && bridge.isTNTDebugEnabled()) {
-                            BridgeConfigCache.debugLog("[AkiAsync-TNT] Entity still not found after AABB search: " + entry.getKey());
-                        }
+            int entityCount = result.getEntityCount();
+            boolean[] applied = new boolean[entityCount];
+
+            for (int start = 0; start < entityCount; ) {
+                final int from = start;
+                final int to = result.getSectionEnd(start);
+                long section = result.getEntitySection(from);
+                int minX = net.minecraft.core.SectionPos.sectionToBlockCoord(net.minecraft.core.SectionPos.x(section));
+                int minY = net.minecraft.core.SectionPos.sectionToBlockCoord(net.minecraft.core.SectionPos.y(section));
+                int minZ = net.minecraft.core.SectionPos.sectionToBlockCoord(net.minecraft.core.SectionPos.z(section));
+                java.util.List<net.minecraft.world.entity.Entity> sectionEntities = level.getEntities(
+                    (net.minecraft.world.entity.Entity) null,
+                    new net.minecraft.world.phys.AABB(minX, minY, minZ, minX + 16, minY + 16, minZ + 16),
+                    e -> result.findEntity(e.getId(), from, to) >= 0
+                );
+
+                for (net.minecraft.world.entity.Entity entity : sectionEntities) {
+                    int index = result.findEntity(entity.getId(), from, to);
+                    if (applied[index]) {
                         continue;
                     }
+                    applied[index] = true;
+                    entitiesFound++;
+                    aki$applyEntityExplosion(level, explosion, entity, center, result.getImpact(index),
+                        result.getKnockbackX(index), result.getKnockbackY(index), result.getKnockbackZ(index), bridge);
                 }
-                
-                entitiesFound++;
-                
-                if (entity != null) {
-                    if (bridge != null && bridge.isTNTDebugEnabled()) {
-                        BridgeConfigCache.debugLog("[AkiAsync-TNT] Processing entity: " + entity.getType().getDescriptionId() +
-                            " at " + entity.position());
-                    }
-                    Vec3 knockback = entry.getValue();
-
-                    double distance = entity.position().distanceTo(center);
-
-                    float baseDamage;
-                    if (bridge != null && bridge.isTNTUseVanillaDamageCalculation()) {
-                        double impact = Math.max(0.0, (8.0 - distance) / 8.0);
-                        baseDamage = (float) (impact * impact + impact) * 7.0F * 4.0F + 1.0F;
-                    } else {
-                        double impact = (1.0 - distance / 8.0) * knockback.length();
-                        baseDamage = (float) Math.max(0, (impact * (impact + 1.0) / 2.0 * 7.0 * 8.0 + 1.0));
-                    }
-
-                    boolean entityInWater = entity.isInWater() || !level.getFluidState(BlockPos.containing(entity.position())).isEmpty();
-                    float finalDamage = baseDamage;
-
-                    if (entityInWater) {
-                        finalDamage = baseDamage * 0.6f;
-                        if (bridge != null && bridge.isTNTDebugEnabled()) {
-                            BridgeConfigCache.debugLog("[AkiAsync-TNT] Water damage reduction: " + baseDamage + " -> " + finalDamage);
-                        }
-                    }
-
-                    if (bridge != null && bridge.isTNTDebugEnabled()) {
-                        bridge.debugLog("[AkiAsync-TNT] Applying damage: %.2f to %s (distance: %.2f, inWater: %s)", 
-                            finalDamage, entity.getType().getDescriptionId(), distance, entityInWater);
-                    }
-                    
-                    if (finalDamage > 0) {
-                        entity.hurt(level.damageSources().explosion(explosion), finalDamage);
-                    }
+                start = to;
+            }
 
-                    Vec3 finalKnockback = entityInWater ? knockback.scale(0.7) : knockback;
-                    entity.setDeltaMovement(entity.getDeltaMovement().add(finalKnockback));
-                    
+            for (int i = 0; i < entityCount; i++) {
+                if (applied[i]) {
+                    continue;
+                }
+                net.minecraft.world.entity.Entity entity = level.getEntity(result.getEntityId(i));
+                if (entity == null) {
+                    entitiesNotFound++;
                     if (bridge != null && bridge.isTNTDebugEnabled()) {
-                        bridge.debugLog("[AkiAsync-TNT] Applied knockback: %s, new velocity: %s", 
-                            finalKnockback, entity.getDeltaMovement());
-                    }
-
-                    if (entity instanceof net.minecraft.world.entity.LivingEntity livingEntity) {
-                        livingEntity.invulnerableTime = Math.max(livingEntity.invulnerableTime, 10);
-
-                        if (bridge != null && bridge.isTNTDebugEnabled()) {
-                            String entityName = entity instanceof net.minecraft.server.level.ServerPlayer player ?
-                                "Player " + player.getScoreboardName() :
-                                entity.getType().getDescriptionId();
-                            BridgeConfigCache.debugLog("[AkiAsync-TNT] " + entityName +
-                                " damaged: " + finalDamage + " (distance: " + String.format("%.2f", distance) +
-                                ", inWater: " + entityInWater + ")");
-                        }
+                        BridgeConfigCache.debugLog("[AkiAsync-TNT] Entity not found by id: " + result.getEntityId(i));
                     }
+                    continue;
                 }
+                entitiesRecovered++;
+                if (bridge != null && bridge.isTNTDebugEnabled()) {
+                    BridgeConfigCache.debugLog("[AkiAsync-TNT] Recovered entity outside its snapshot section: " +
+                        entity.getType().getDescriptionId() + " at " + entity.position());
+                }
+                aki$applyEntityExplosion(level, explosion, entity, center, result.getImpact(i),
+                    result.getKnockbackX(i), result.getKnockbackY(i), result.getKnockbackZ(i), bridge);
             }
             
             if (bridge != null && bridge.isTNTDebugEnabled()) {
                 BridgeConfigCache.debugLog("[AkiAsync-TNT] Entity damage summary: " + 
-                    entitiesFound + " found directly, " + 
-                    entitiesRecovered + " recovered via AABB, " + 
+                    entitiesFound + " found by section, " + 
+                    entitiesRecovered + " recovered by id, " + 
                     entitiesNotFound + " not found at all");
             }
 
@@ -377,6 +327,64 @@ public class TNTExplosionMixin {
         }
     }
 
+    private static void aki$applyEntityExplosion(ServerLevel level, net.minecraft.world.level.Explosion explosion,
+                                                 net.minecraft.world.entity.Entity entity, Vec3 center, double impact,
+                                                 double knockbackX, double knockbackY, double knockbackZ,
+                                                 Bridge bridge) {
+        if (bridge != null && bridge.isTNTDebugEnabled()) {
+            BridgeConfigCache.debugLog("[AkiAsync-TNT] Processing entity: " + entity.getType().getDescriptionId() +
+                " at " + entity.position());
+        }
+
+        double distance = entity.position().distanceTo(center);
+
+        float baseDamage = (float) Math.max(0, (impact * (impact + 1.0) / 2.0 * 7.0 * 8.0 + 1.0));
+
+        boolean entityInWater = entity.isInWater() || !level.getFluidState(BlockPos.containing(entity.position())).isEmpty();
+        float finalDamage = baseDamage;
+
+        if (entityInWater) {
+            finalDamage = baseDamage * 0.6f;
+            if (bridge != null && bridge.isTNTDebugEnabled()) {
+                BridgeConfigCache.debugLog("[AkiAsync-TNT] Water damage reduction: " + baseDamage + " -> " + finalDamage);
+            }
+        }
+
+        if (bridge != null && bridge.isTNTDebugEnabled()) {
+            bridge.debugLog("[AkiAsync-TNT] Applying damage: %.2f to %s (distance: %.2f, inWater: %s)", 
+                finalDamage, entity.getType().getDescriptionId(), distance, entityInWater);
+        }
+        
+        if (finalDamage > 0) {
+            entity.hurt(level.damageSources().explosion(explosion), finalDamage);
+        }
+
+        if (entityInWater) {
+            knockbackX *= 0.7;
+            knockbackY *= 0.7;
+            knockbackZ *= 0.7;
+        }
+        entity.setDeltaMovement(entity.getDeltaMovement().add(knockbackX, knockbackY, knockbackZ));
+        
+        if (bridge != null && bridge.isTNTDebugEnabled()) {
+            bridge.debugLog("[AkiAsync-TNT] Applied knockback: (%.3f, %.3f, %.3f), new velocity: %s", 
+                knockbackX, knockbackY, knockbackZ, entity.getDeltaMovement());
+        }
+
+        if (entity instanceof net.minecraft.world.entity.LivingEntity livingEntity) {
+            livingEntity.invulnerableTime = Math.max(livingEntity.invulnerableTime, 10);
+
+            if (bridge != null && bridge.isTNTDebugEnabled()) {
+                String entityName = entity instanceof net.minecraft.server.level.ServerPlayer player ?
+                    "Player " + player.getScoreboardName() :
+                    entity.getType().getDescriptionId();
+                BridgeConfigCache.debugLog("[AkiAsync-TNT] " + entityName +
+                    " damaged: " + finalDamage + " (distance: " + String.format("%.2f", distance) +
+                    ", inWater: " + entityInWater + ")");
+            }
+        }
+    }
+
     private static boolean aki$isFoliaEnvironment() {
         Bridge bridge = BridgeManager.getBridge();
         return bridge != null && bridge.isFoliaEnvironment();
@@ -449,6 +457,21 @@ public class TNTExplosionMixin {
         }
     }
 
+    private static void aki$submitBatchedExplosion(PrimedTnt tnt, ServerLevel sl, Vec3 center, Bridge bridge) {
+        if (bridge.isTNTDebugEnabled()) {
+            BridgeConfigCache.debugLog("[AkiAsync-TNT] Queueing explosion at " + center + " for batch resolution");
+        }
+        org.virgil.akiasync.mixin.async.explosion.TNTBatchCollector.submit(sl, center, 4.0F, false,
+            result -> {
+                net.minecraft.world.level.Explosion explosion = new net.minecraft.world.level.Explosion(
+                    sl, tnt, center.x, center.y, center.z, 4.0F, false,
+                    net.minecraft.world.level.Explosion.BlockInteraction.DESTROY_WITH_DECAY
+                );
+                applyExplosionResults(sl, explosion, result, tnt, center, false);
+            },
+            () -> aki$fallbackSyncExplosion(tnt, sl, center));
+    }
+
     private static void aki$executeSafeExplosion(PrimedTnt tnt, ServerLevel sl, Vec3 center,
                                                 boolean inWater, Bridge bridge) {
         try {
@@ -490,11 +513,16 @@ public class TNTExplosionMixin {
                 return;
             }
 
+            long asyncStartNanos = System.nanoTime();
             executor.execute(() -> {
+                boolean calculated = false;
                 try {
                     org.virgil.akiasync.mixin.async.explosion.ExplosionCalculator calculator =
                         new org.virgil.akiasync.mixin.async.explosion.ExplosionCalculator(snapshot);
                     org.virgil.akiasync.mixin.async.explosion.ExplosionResult result = calculator.calculate();
+                    org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordLatency(
+                        org.virgil.akiasync.mixin.metrics.AsyncMetrics.TNT, asyncStartNanos);
+                    calculated = true;
 
                     Runnable applyResultsTask = () -> {
                         try {
@@ -523,6 +551,10 @@ public class TNTExplosionMixin {
                         sl.getServer().execute(applyResultsTask);
                     }
                 } catch (Exception ex) {
+                    if (!calculated) {
+                        org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordLatency(
+                            org.virgil.akiasync.mixin.metrics.AsyncMetrics.TNT, asyncStartNanos);
+                    }
                     
                     BridgeConfigCache.errorLog("[AkiAsync-TNT] Error in safe async explosion calculation:");
                     BridgeConfigCache.errorLog("[AkiAsync-TNT] Exception type: " + ex.getClass().getName());
@@ -23,6 +23,7 @@ import net.minecraft.world.level.lighting.LightEngine;
 import org.virgil.akiasync.mixin.lighting.LightingOptimizationManager;
 import org.virgil.akiasync.mixin.lighting.LightUpdatePriority;
 import org.virgil.akiasync.mixin.lighting.LightUpdateRequest;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
 import org.virgil.akiasync.mixin.util.BridgeConfigCache;
 
 @SuppressWarnings({"unused", "rawtypes"}) 
@@ -204,6 +205,7 @@ public abstract class LightEngineAsyncMixin {
                 }
                 
                 if (lightingExecutor != null) {
+                    long asyncStartNanos = System.nanoTime();
                     CompletableFuture.runAsync(() -> {
                         if (usePriorityScheduling) {
                             processPriorityLayeredBatch();
@@ -213,6 +215,7 @@ public abstract class LightEngineAsyncMixin {
                             processBatch();
                         }
                     }, lightingExecutor).orTimeout(1000, TimeUnit.MILLISECONDS).whenComplete((result, ex) -> {
+                        AsyncMetrics.recordLatency(AsyncMetrics.LIGHTING, asyncStartNanos);
                         long processingTime = System.currentTimeMillis() - startTime;
                         
                         if (useAdaptive) {
@@ -250,6 +253,7 @@ public abstract class LightEngineAsyncMixin {
         long startTime = System.currentTimeMillis();
         
         if (lightingExecutor != null) {
+            long asyncStartNanos = System.nanoTime();
             CompletableFuture.runAsync(() -> {
                 if (usePriorityScheduling) {
                     processPriorityLayeredBatch();
@@ -259,6 +263,7 @@ public abstract class LightEngineAsyncMixin {
                     processBatch();
                 }
             }, lightingExecutor).orTimeout(500, TimeUnit.MILLISECONDS).whenComplete((result, ex) -> {
+                AsyncMetrics.recordLatency(AsyncMetrics.LIGHTING, asyncStartNanos);
                 long processingTime = System.currentTimeMillis() - startTime;
                 
                 if (useAdaptive) {
@@ -1,7 +1,6 @@
 package org.virgil.akiasync.mixin.mixins.pathfinding;
 
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -9,6 +8,7 @@ import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.virgil.akiasync.mixin.pathfinding.AsyncPathProcessor;
+import org.virgil.akiasync.mixin.pathfinding.PathfindingRequestMerger;
 import org.virgil.akiasync.mixin.pathfinding.SharedPathCache;
 import org.virgil.akiasync.mixin.util.BridgeConfigCache;
 
@@ -97,37 +97,40 @@ public abstract class PathNavigationAsyncMixin {
         
         akiasync$isComputingPath = true;
         BlockPos startPos = mob.blockPosition();
+        PathfindingRequestMerger.RequestKey requestKey =
+            PathfindingRequestMerger.keyOf(mob, startPos, targets, maxRange, accuracy);
+
+        AsyncPathProcessor.submit(
+            requestKey,
+            mob,
+            () -> akiasync$computePathSync(finder, region, mob, targets, maxRange, accuracy, depth)
+        ).whenComplete((newPath, throwable) -> {
+            if (throwable != null) {
+                akiasync$isComputingPath = false;
+                BridgeConfigCache.debugLog("[AkiAsync-PathNav] Async path computation failed: " + throwable.getMessage());
+                return;
+            }
 
-        CompletableFuture.runAsync(() -> {
-            try {
+            if (newPath != null && newPath.canReach()) {
                 
-                Path newPath = akiasync$computePathSync(finder, region, mob, targets, maxRange, accuracy, depth);
+                akiasync$cacheComputedPath(startPos, targets, newPath);
                 
-                if (newPath != null && newPath.canReach()) {
-                    
-                    akiasync$cacheComputedPath(startPos, targets, newPath);
-                    
-                    MinecraftServer server = mob.getServer();
-                    if (server != null) {
-                        server.execute(() -> {
-                            
-                            if (!mob.isRemoved() && newPath.canReach()) {
-                                this.path = newPath;
-                            }
-                            akiasync$isComputingPath = false;
-                        });
-                    } else {
+                MinecraftServer server = mob.getServer();
+                if (server != null) {
+                    server.execute(() -> {
+                        
+                        if (!mob.isRemoved() && newPath.canReach()) {
+                            this.path = newPath;
+                        }
                         akiasync$isComputingPath = false;
-                    }
+                    });
                 } else {
                     akiasync$isComputingPath = false;
                 }
-            } catch (Exception e) {
+            } else {
                 akiasync$isComputingPath = false;
-                
-                BridgeConfigCache.debugLog("[AkiAsync-PathNav] Async path computation failed: " + e.getMessage());
             }
-        }, AsyncPathProcessor.getExecutor());
+        });
     }
 
     @Unique
@@ -141,7 +144,8 @@ public abstract class PathNavigationAsyncMixin {
             float depth) {
         try {
             
-            return finder.findPath(
+            return AsyncPathProcessor.findPath(
+                finder,
                 (net.minecraft.world.level.PathNavigationRegion) region,
                 mob,
                 targets,
@@ -157,7 +161,7 @@ public abstract class PathNavigationAsyncMixin {
 
     @Unique
     private Path akiasync$tryGetCachedPath(BlockPos start, Set<BlockPos> targets) {
-        if (targets == null || targets.isEmpty()) {
+        if (targets == null || targets.size() != 1) {
             return null;
         }
         
@@ -166,12 +170,12 @@ public abstract class PathNavigationAsyncMixin {
             return null;
         }
         
-        return SharedPathCache.getCachedPath(start, target);
+        return SharedPathCache.getCachedPath(mob.level(), start, target);
     }
 
     @Unique
     private void akiasync$cacheComputedPath(BlockPos start, Set<BlockPos> targets, Path path) {
-        if (targets == null || targets.isEmpty() || path == null) {
+        if (targets == null || targets.size() != 1 || path == null) {
             return;
         }
         
@@ -5,6 +5,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.pathfinding.AsyncPathProcessor;
 import org.virgil.akiasync.mixin.pathfinding.EnhancedPathfindingInitializer;
 
 @Mixin(MinecraftServer.class)
@@ -17,6 +18,7 @@ public class ServerTickPathfindingMixin {
     )
     private void akiasync$processPathfindingQueue(CallbackInfo ci) {
         try {
+            AsyncPathProcessor.onServerTick();
             EnhancedPathfindingInitializer.tick();
         } catch (Exception e) {
             
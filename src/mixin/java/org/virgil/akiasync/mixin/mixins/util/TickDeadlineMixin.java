@@ -0,0 +1,22 @@
+package org.virgil.akiasync.mixin.mixins.util;
+
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.async.executor.TickDeadlineScheduler;
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+
+@Mixin(MinecraftServer.class)
+public class TickDeadlineMixin {
+    
+    @Inject(method = "tickServer", at = @At("HEAD"), require = 0)
+    private void akiasync$markTickStart(CallbackInfo ci) {
+        try {
+            TickDeadlineScheduler.onServerTickStart();
+        } catch (Throwable t) {
+            BridgeConfigCache.errorLog("[AkiAsync-Deadline] Failed to mark tick start: %s", t);
+        }
+    }
+}
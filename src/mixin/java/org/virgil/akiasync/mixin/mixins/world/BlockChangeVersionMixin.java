@@ -0,0 +1,22 @@
+package org.virgil.akiasync.mixin.mixins.world;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.util.SectionChangeTracker;
+
+@Mixin(ServerLevel.class)
+public class BlockChangeVersionMixin {
+
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"), require = 0)
+    private void akiasync$bumpSectionVersion(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci) {
+        if (oldState == newState) {
+            return;
+        }
+        SectionChangeTracker.onBlockChanged(pos.getX(), pos.getY(), pos.getZ());
+    }
+}
@@ -36,6 +36,8 @@ public class WorldUnloadCleanupMixin {
                 org.virgil.akiasync.mixin.async.redstone.RedstoneNetworkCache.clearLevelCache(level);
             } catch (Exception ignored) {}
             
+            org.virgil.akiasync.mixin.pathfinding.RegionNavigationGraph.removeLevel(level);
+            
             Bridge bridge = BridgeManager.getBridge();
             if (bridge != null) {
                 bridge.debugLog("[AkiAsync] Cleaned up caches for world: " + level.dimension().location());
@@ -1,18 +1,39 @@
 package org.virgil.akiasync.mixin.optimization.scheduler;
 
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import org.virgil.akiasync.mixin.async.executor.ExecutorTopology;
 import org.virgil.akiasync.mixin.bridge.Bridge;
 import org.virgil.akiasync.mixin.bridge.BridgeManager;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
 
 public class WorkStealingTaskScheduler {
 
+    public static final String METRICS_SUBSYSTEM = "work_stealing";
+
+    private static final int MAX_LEAF_ITEMS = 50;
+
     private final int parallelism;
-    private final ExecutorService executor;
-    private final AtomicInteger taskIndex = new AtomicInteger();
-    private final CountDownLatch finishedLatch;
+    private volatile ForkJoinPool ownedPool;
     private final BlockingQueue<Runnable> mainThreadTasks = new LinkedBlockingQueue<>(2000);
+    private final Set<Thread> waitingCallers = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder totalBatches = new LongAdder();
+    private final LongAdder totalItems = new LongAdder();
+    private final LongAdder callerItems = new LongAdder();
+    private final LongAdder failedItems = new LongAdder();
+    private final LongAdder timedOutBatches = new LongAdder();
+    private final LongAdder totalBatchNanos = new LongAdder();
+    private final LongAccumulator maxBatchNanos = new LongAccumulator(Math::max, 0L);
+    private final AtomicInteger activeBatches = new AtomicInteger();
 
     private static final WorkStealingTaskScheduler INSTANCE = new WorkStealingTaskScheduler();
 
@@ -22,92 +43,149 @@ public class WorkStealingTaskScheduler {
 
     private WorkStealingTaskScheduler() {
         this.parallelism = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
-        this.finishedLatch = new CountDownLatch(parallelism);
-        
+
         Bridge bridge = BridgeManager.getBridge();
-        if (bridge != null) {
-            this.executor = bridge.getGeneralExecutor();
-            if (bridge.isDebugLoggingEnabled()) {
-                bridge.debugLog("[AkiAsync] WorkStealingTaskScheduler using shared General Executor");
-            }
-        } else {
-            
-            this.executor = Executors.newFixedThreadPool(parallelism, r -> {
-                Thread t = new Thread(r, "AkiAsync-WorkStealing-Fallback");
-                t.setDaemon(true);
-                t.setPriority(Thread.NORM_PRIORITY - 1);
-                return t;
-            });
+        if (bridge != null && bridge.isDebugLoggingEnabled()) {
+            bridge.debugLog("[AkiAsync] WorkStealingTaskScheduler using shared ForkJoinPool with caller participation");
         }
     }
 
-    public <T> void processBatch(T[] items, Consumer<T> processor, int batchSize) {
-        if (items == null || items.length == 0) {
-            return;
+    private ForkJoinPool pool() {
+        ExecutorTopology topology = ExecutorTopology.get();
+        if (topology != null && !topology.isShutdown()) {
+            return topology.getPool();
         }
-
-        taskIndex.set(0);
-        CountDownLatch latch = new CountDownLatch(parallelism);
-
-        for (int i = 0; i < parallelism; i++) {
-            executor.execute(() -> {
-                try {
-                    processWorkStealingTasks(items, processor, batchSize);
-                } finally {
-                    latch.countDown();
-                }
-            });
+        Bridge bridge = BridgeManager.getBridge();
+        if (bridge != null && bridge.getGeneralExecutor() instanceof ForkJoinPool pool && !pool.isShutdown()) {
+            return pool;
         }
-
-        try {
-            while (!latch.await(1, TimeUnit.MILLISECONDS)) {
-                runMainThreadTasks();
-                if (taskIndex.get() < items.length) {
-                    handleBatchTasks(items, processor, Math.min(batchSize, 5));
+        ForkJoinPool pool = ownedPool;
+        if (pool == null || pool.isShutdown()) {
+            synchronized (this) {
+                pool = ownedPool;
+                if (pool == null || pool.isShutdown()) {
+                    pool = new ForkJoinPool(
+                        parallelism,
+                        fjp -> {
+                            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fjp);
+                            thread.setName("AkiAsync-WorkStealing-" + thread.getPoolIndex());
+                            thread.setDaemon(true);
+                            thread.setPriority(Thread.NORM_PRIORITY - 1);
+                            return thread;
+                        },
+                        null,
+                        false
+                    );
+                    ownedPool = pool;
                 }
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            Bridge bridge = BridgeManager.getBridge();
-            if (bridge != null) {
-                bridge.errorLog("[AkiAsync-WorkStealing] Batch processing interrupted");
-            }
         }
-
-        runMainThreadTasks();
+        return pool;
     }
 
-    private <T> void processWorkStealingTasks(T[] items, Consumer<T> processor, int batchSize) {
-        while (handleBatchTasks(items, processor, batchSize)) {
-            
+    public <T> boolean processWeightedBatch(T[] items, Consumer<T> processor, ToIntFunction<? super T> cost,
+                                            int minLeafItems, Executor dispatch, long timeoutNanos) {
+        if (items == null || items.length == 0) {
+            return true;
         }
-    }
 
-    private <T> boolean handleBatchTasks(T[] items, Consumer<T> processor, int batchSize) {
-        int startIndex = taskIndex.getAndAdd(batchSize);
+        long start = System.nanoTime();
+        activeBatches.incrementAndGet();
+        int leafItems = minLeafItems > 0 ? minLeafItems : adaptiveLeafSize(items.length);
+        Batch<T> batch = new Batch<>(items, processor, cost, leafItems, parallelism);
+        boolean completed = true;
+        try {
+            ForkJoinPool pool = dispatch == null ? pool() : null;
+            if (pool != null && Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool) {
+                new SplitTask<>(batch, 0, batch.leafCount).invoke();
+            } else {
+                long deadline = timeoutNanos > 0 ? start + timeoutNanos : 0L;
+                completed = runWithCallerParticipation(batch, pool, dispatch, deadline);
+            }
+        } finally {
+            activeBatches.decrementAndGet();
+            runMainThreadTasks();
+            recordBatch(batch, System.nanoTime() - start, completed);
+        }
+        return completed;
+    }
 
-        if (startIndex >= items.length) {
-            return false;
+    private <T> boolean runWithCallerParticipation(Batch<T> batch, ForkJoinPool pool, Executor dispatch, long deadline) {
+        Thread caller = Thread.currentThread();
+        batch.caller = caller;
+        if (batch.leafCount > 1) {
+            try {
+                if (dispatch != null) {
+                    int helpers = Math.min(parallelism, batch.leafCount - 1);
+                    for (int i = 0; i < helpers; i++) {
+                        dispatch.execute(batch::runLeaves);
+                    }
+                } else {
+                    pool.execute(new SplitTask<>(batch, 0, batch.leafCount));
+                }
+            } catch (RejectedExecutionException e) {
+                Bridge bridge = BridgeManager.getBridge();
+                if (bridge != null && bridge.isDebugLoggingEnabled()) {
+                    bridge.debugLog("[AkiAsync-WorkStealing] Executor rejected batch, running on caller");
+                }
+            }
         }
 
-        int endIndex = Math.min(startIndex + batchSize, items.length);
+        for (int leaf = batch.leafCount - 1; leaf >= 0; leaf--) {
+            int processed = batch.runLeaf(leaf);
+            if (processed > 0) {
+                callerItems.add(processed);
+            }
+            runMainThreadTasks();
+        }
 
-        for (int i = startIndex; i < endIndex; i++) {
-            if (items[i] != null) {
-                try {
-                    processor.accept(items[i]);
-                } catch (Exception e) {
-                    Bridge bridge = BridgeManager.getBridge();
-                    if (bridge != null && bridge.isDebugLoggingEnabled()) {
-                        bridge.debugLog("[AkiAsync-WorkStealing] Task processing error: " + e.getMessage());
+        if (batch.remainingLeaves.get() > 0) {
+            waitingCallers.add(caller);
+            try {
+                while (batch.remainingLeaves.get() > 0) {
+                    runMainThreadTasks();
+                    if (batch.remainingLeaves.get() > 0 && mainThreadTasks.isEmpty()) {
+                        if (deadline == 0L) {
+                            LockSupport.park(batch);
+                            continue;
+                        }
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            batch.caller = null;
+                            return false;
+                        }
+                        LockSupport.parkNanos(batch, remaining);
                     }
                 }
+            } finally {
+                waitingCallers.remove(caller);
             }
         }
-
         return true;
     }
 
+    private void recordBatch(Batch<?> batch, long nanos, boolean completed) {
+        totalBatches.increment();
+        if (!completed) {
+            timedOutBatches.increment();
+        }
+        totalItems.add(batch.items.length);
+        totalBatchNanos.add(nanos);
+        maxBatchNanos.accumulate(nanos);
+        AsyncMetrics.histogram(METRICS_SUBSYSTEM).record(nanos);
+
+        int failures = batch.failures.get();
+        if (failures > 0) {
+            failedItems.add(failures);
+            Bridge bridge = BridgeManager.getBridge();
+            if (bridge != null) {
+                Throwable first = batch.firstFailure.get();
+                bridge.errorLog("[AkiAsync-WorkStealing] %d of %d items failed in batch; first error: %s",
+                    failures, batch.items.length, first != null ? first.toString() : "unknown");
+            }
+        }
+    }
+
     public void scheduleMainThreadTask(Runnable task) {
         if (!mainThreadTasks.offer(task)) {
             try {
@@ -118,6 +196,10 @@ public class WorkStealingTaskScheduler {
                     bridge.debugLog("[AkiAsync-WorkStealing] Task execution error (queue full): " + e.getMessage());
                 }
             }
+            return;
+        }
+        for (Thread caller : waitingCallers) {
+            LockSupport.unpark(caller);
         }
     }
 
@@ -125,7 +207,7 @@ public class WorkStealingTaskScheduler {
         Runnable task;
         int processed = 0;
 
-        while ((task = mainThreadTasks.poll()) != null && processed < 10) {
+        while (processed < 10 && (task = mainThreadTasks.poll()) != null) {
             try {
                 task.run();
                 processed++;
@@ -138,63 +220,205 @@ public class WorkStealingTaskScheduler {
         }
     }
 
-    public <T> void processAdaptiveBatch(T[] items, Consumer<T> processor) {
-        if (items == null || items.length == 0) {
-            return;
-        }
-
-        int optimalBatchSize = Math.max(1, items.length / (parallelism * 4));
-        optimalBatchSize = Math.min(optimalBatchSize, 50);
-
-        processBatch(items, processor, optimalBatchSize);
-    }
-
-    public <T> void parallelForEach(T[] items, Consumer<T> processor) {
-        processAdaptiveBatch(items, processor);
+    private int adaptiveLeafSize(int length) {
+        int optimalBatchSize = Math.max(1, length / (parallelism * 4));
+        return Math.min(optimalBatchSize, MAX_LEAF_ITEMS);
     }
 
     public SchedulerStats getStats() {
+        long batches = totalBatches.sum();
+        ForkJoinPool pool = ownedPool;
         return new SchedulerStats(
             parallelism,
-            taskIndex.get(),
-            (int) finishedLatch.getCount(),
+            activeBatches.get(),
+            batches,
+            totalItems.sum(),
+            callerItems.sum(),
+            failedItems.sum(),
+            timedOutBatches.sum(),
+            batches == 0 ? 0 : totalBatchNanos.sum() / batches / 1_000L,
+            maxBatchNanos.get() / 1_000L,
             mainThreadTasks.size(),
-            !executor.isShutdown()
+            activeBatches.get() > 0 || (pool != null && !pool.isShutdown())
         );
     }
 
     public void shutdown() {
-        executor.shutdown();
+        ForkJoinPool pool = ownedPool;
+        if (pool == null) {
+            return;
+        }
+        pool.shutdown();
         try {
-            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
+            if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
             }
         } catch (InterruptedException e) {
-            executor.shutdownNow();
+            pool.shutdownNow();
             Thread.currentThread().interrupt();
         }
     }
 
+    private static final class Batch<T> {
+        final T[] items;
+        final Consumer<T> processor;
+        final int[] leafBounds;
+        final int leafCount;
+        final AtomicIntegerArray claimed;
+        final AtomicInteger remainingLeaves;
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        volatile Thread caller;
+
+        Batch(T[] items, Consumer<T> processor, ToIntFunction<? super T> cost, int minLeafItems, int parallelism) {
+            this.items = items;
+            this.processor = processor;
+            this.leafBounds = cost == null
+                ? uniformLeaves(items.length, minLeafItems)
+                : weightedLeaves(items, cost, minLeafItems, parallelism);
+            this.leafCount = leafBounds.length - 1;
+            this.claimed = new AtomicIntegerArray(leafCount);
+            this.remainingLeaves = new AtomicInteger(leafCount);
+        }
+
+        private static int[] uniformLeaves(int length, int leafItems) {
+            int leaves = (length + leafItems - 1) / leafItems;
+            int[] bounds = new int[leaves + 1];
+            for (int i = 0; i < leaves; i++) {
+                bounds[i] = i * leafItems;
+            }
+            bounds[leaves] = length;
+            return bounds;
+        }
+
+        private static <T> int[] weightedLeaves(T[] items, ToIntFunction<? super T> cost,
+                                                int minLeafItems, int parallelism) {
+            long totalCost = 0;
+            int[] costs = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                int c = items[i] != null ? Math.max(1, cost.applyAsInt(items[i])) : 0;
+                costs[i] = c;
+                totalCost += c;
+            }
+            long leafCost = Math.max(1, totalCost / Math.max(1, parallelism * 4L));
+            int maxLeaves = (items.length + minLeafItems - 1) / minLeafItems;
+            leafCost = Math.max(leafCost, (totalCost + maxLeaves - 1) / Math.max(1, maxLeaves));
+
+            int[] bounds = new int[items.length + 1];
+            int leaves = 0;
+            long acc = 0;
+            bounds[0] = 0;
+            for (int i = 0; i < items.length; i++) {
+                acc += costs[i];
+                if (acc >= leafCost && i + 1 < items.length) {
+                    bounds[++leaves] = i + 1;
+                    acc = 0;
+                }
+            }
+            bounds[++leaves] = items.length;
+            int[] trimmed = new int[leaves + 1];
+            System.arraycopy(bounds, 0, trimmed, 0, leaves + 1);
+            return trimmed;
+        }
+
+        void runLeaves() {
+            for (int leaf = 0; leaf < leafCount && remainingLeaves.get() > 0; leaf++) {
+                runLeaf(leaf);
+            }
+        }
+
+        int runLeaf(int leaf) {
+            if (!claimed.compareAndSet(leaf, 0, 1)) {
+                return 0;
+            }
+            int start = leafBounds[leaf];
+            int end = leafBounds[leaf + 1];
+            try {
+                for (int i = start; i < end; i++) {
+                    T item = items[i];
+                    if (item == null) {
+                        continue;
+                    }
+                    try {
+                        processor.accept(item);
+                    } catch (Throwable t) {
+                        failures.incrementAndGet();
+                        firstFailure.compareAndSet(null, t);
+                    }
+                }
+            } finally {
+                if (remainingLeaves.decrementAndGet() == 0) {
+                    Thread waiter = caller;
+                    if (waiter != null) {
+                        LockSupport.unpark(waiter);
+                    }
+                }
+            }
+            return end - start;
+        }
+    }
+
+    private static final class SplitTask<T> extends RecursiveTask<Integer> {
+        private final Batch<T> batch;
+        private final int fromLeaf;
+        private final int toLeaf;
+
+        SplitTask(Batch<T> batch, int fromLeaf, int toLeaf) {
+            this.batch = batch;
+            this.fromLeaf = fromLeaf;
+            this.toLeaf = toLeaf;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (batch.remainingLeaves.get() == 0) {
+                return 0;
+            }
+            if (toLeaf - fromLeaf <= 1) {
+                return fromLeaf < toLeaf ? batch.runLeaf(fromLeaf) : 0;
+            }
+            int mid = (fromLeaf + toLeaf) >>> 1;
+            SplitTask<T> right = new SplitTask<>(batch, mid, toLeaf);
+            right.fork();
+            int processed = new SplitTask<>(batch, fromLeaf, mid).compute();
+            return processed + right.join();
+        }
+    }
+
     public static class SchedulerStats {
         public final int parallelism;
-        public final int currentTaskIndex;
-        public final int finishedTasks;
+        public final int activeBatches;
+        public final long batches;
+        public final long items;
+        public final long callerItems;
+        public final long failedItems;
+        public final long timedOutBatches;
+        public final long avgBatchMicros;
+        public final long maxBatchMicros;
         public final int pendingMainThreadTasks;
         public final boolean isActive;
 
-        public SchedulerStats(int parallelism, int currentTaskIndex, int finishedTasks,
-                            int pendingMainThreadTasks, boolean isActive) {
+        public SchedulerStats(int parallelism, int activeBatches, long batches, long items, long callerItems,
+                              long failedItems, long timedOutBatches, long avgBatchMicros, long maxBatchMicros,
+                              int pendingMainThreadTasks, boolean isActive) {
             this.parallelism = parallelism;
-            this.currentTaskIndex = currentTaskIndex;
-            this.finishedTasks = finishedTasks;
+            this.activeBatches = activeBatches;
+            this.batches = batches;
+            this.items = items;
+            this.callerItems = callerItems;
+            this.failedItems = failedItems;
+            this.timedOutBatches = timedOutBatches;
+            this.avgBatchMicros = avgBatchMicros;
+            this.maxBatchMicros = maxBatchMicros;
             this.pendingMainThreadTasks = pendingMainThreadTasks;
             this.isActive = isActive;
         }
 
         @Override
         public String toString() {
-            return String.format("SchedulerStats{parallelism=%d, taskIndex=%d, finished=%d, pending=%d, active=%s}",
-                parallelism, currentTaskIndex, finishedTasks, pendingMainThreadTasks, isActive);
+            return String.format("SchedulerStats{parallelism=%d, active=%d, batches=%d, items=%d, callerItems=%d, failed=%d, timedOut=%d, avgBatch=%dus, maxBatch=%dus, pending=%d, running=%s}",
+                parallelism, activeBatches, batches, items, callerItems, failedItems, timedOutBatches,
+                avgBatchMicros, maxBatchMicros, pendingMainThreadTasks, isActive);
         }
     }
 }
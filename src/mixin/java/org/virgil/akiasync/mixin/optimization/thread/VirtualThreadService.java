@@ -1,11 +1,18 @@
 package org.virgil.akiasync.mixin.optimization.thread;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class VirtualThreadService {
 
     public abstract ThreadFactory createFactory();
 
+    public abstract ThreadFactory createFactory(String namePrefix);
+
     public abstract Thread start(Runnable task);
 
     protected void runTest() throws Throwable {
@@ -44,6 +51,42 @@ public abstract class VirtualThreadService {
         return implementation;
     }
 
+    public static boolean isEnabled() {
+        org.virgil.akiasync.mixin.bridge.Bridge bridge =
+            org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        return (bridge == null || bridge.isVirtualThreadEnabled()) && isSupported();
+    }
+
+    public static ThreadFactory blockingThreadFactory(String namePrefix, int platformPriority) {
+        VirtualThreadService service = isEnabled() ? get() : null;
+        if (service != null) {
+            return service.createFactory(namePrefix);
+        }
+        AtomicInteger counter = new AtomicInteger(0);
+        return r -> {
+            Thread thread = new Thread(r, namePrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setPriority(platformPriority);
+            return thread;
+        };
+    }
+
+    public static ExecutorService newBlockingExecutor(String namePrefix, int platformThreads, int platformPriority) {
+        VirtualThreadService service = isEnabled() ? get() : null;
+        if (service != null) {
+            return Executors.newThreadPerTaskExecutor(service.createFactory(namePrefix));
+        }
+        return Executors.newFixedThreadPool(Math.max(1, platformThreads),
+            blockingThreadFactory(namePrefix, platformPriority));
+    }
+
+    public static ScheduledExecutorService newScheduledExecutor(String namePrefix) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+            blockingThreadFactory(namePrefix, Thread.NORM_PRIORITY));
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
     public static int getJavaMajorVersion() {
         var version = System.getProperty("java.version");
         if (version.startsWith("1.")) {
@@ -69,6 +112,11 @@ public abstract class VirtualThreadService {
             return Thread.ofVirtual().factory();
         }
 
+        @Override
+        public ThreadFactory createFactory(String namePrefix) {
+            return Thread.ofVirtual().name(namePrefix, 0).factory();
+        }
+
         @Override
         public Thread start(Runnable task) {
             return Thread.ofVirtual().start(task);
@@ -80,6 +128,7 @@ public abstract class VirtualThreadService {
         private final java.lang.reflect.Method ofVirtualMethod;
         private final java.lang.reflect.Method factoryMethod;
         private final java.lang.reflect.Method startMethod;
+        private final java.lang.reflect.Method nameMethod;
 
         private ReflectionVirtualThreadService() throws Throwable {
             Class<?> threadClass = Thread.class;
@@ -90,6 +139,7 @@ public abstract class VirtualThreadService {
 
             this.factoryMethod = builderClass.getMethod("factory");
             this.startMethod = builderClass.getMethod("start", Runnable.class);
+            this.nameMethod = builderClass.getMethod("name", String.class, long.class);
 
             runTest();
         }
@@ -108,6 +158,16 @@ public abstract class VirtualThreadService {
             }
         }
 
+        @Override
+        public ThreadFactory createFactory(String namePrefix) {
+            try {
+                Object builder = nameMethod.invoke(ofVirtualMethod.invoke(null), namePrefix, 0L);
+                return (ThreadFactory) factoryMethod.invoke(builder);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to create virtual thread factory", e);
+            }
+        }
+
         @Override
         public Thread start(Runnable task) {
             try {
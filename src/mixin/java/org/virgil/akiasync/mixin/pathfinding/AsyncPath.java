@@ -17,12 +17,21 @@ public class AsyncPath {
   private final Supplier<Path> pathSupplier;
   private volatile Path delegatedPath;
   private final List<Node> emptyNodeList;
+  private final PathfindingRequestMerger.RequestKey requestKey;
+  private final double distanceToPlayer;
 
   public AsyncPath(List<Node> emptyNodeList, Set<BlockPos> positions, Supplier<Path> pathSupplier) {
+    this(emptyNodeList, positions, pathSupplier, 0.0);
+  }
+
+  public AsyncPath(List<Node> emptyNodeList, Set<BlockPos> positions, Supplier<Path> pathSupplier,
+                   double distanceToPlayer) {
     this.emptyNodeList = emptyNodeList;
+    this.distanceToPlayer = distanceToPlayer;
     this.positions = positions;
     this.pathSupplier = pathSupplier;
     this.delegatedPath = new Path(emptyNodeList, null, false);
+    this.requestKey = createRequestKey(positions);
 
     AsyncPathProcessor.queue(this);
   }
@@ -35,6 +44,18 @@ public class AsyncPath {
     return pathSupplier;
   }
 
+  PathfindingRequestMerger.RequestKey getRequestKey() {
+    return requestKey;
+  }
+
+  double getDistanceToPlayer() {
+    return distanceToPlayer;
+  }
+
+  Path getResolvedPath() {
+    return delegatedPath;
+  }
+
   public boolean isProcessed() {
     return this.processState == PathState.COMPLETED;
   }
@@ -47,13 +68,6 @@ public class AsyncPath {
     }
   }
 
-  public boolean hasSameProcessingPositions(final Set<BlockPos> positions) {
-    if (this.positions.size() != positions.size()) {
-      return false;
-    }
-    return this.positions.containsAll(positions);
-  }
-
   public synchronized void process() {
     if (this.processState == PathState.COMPLETED || this.processState == PathState.PROCESSING) {
       return;
@@ -81,20 +95,43 @@ public class AsyncPath {
         this.delegatedPath = bestPath;
       }
 
+      complete();
+    } catch (Exception e) {
       processState = PathState.COMPLETED;
+    }
+  }
 
-      for (Runnable runnable : this.postProcessing) {
-        try {
-          runnable.run();
-        } catch (Exception e) {
-          
-        }
+  synchronized void completeFrom(Path leaderPath) {
+    if (this.processState == PathState.COMPLETED || this.processState == PathState.PROCESSING) {
+      return;
+    }
+
+    if (leaderPath != null) {
+      this.delegatedPath = leaderPath;
+    }
+    complete();
+  }
+
+  private void complete() {
+    processState = PathState.COMPLETED;
+
+    for (Runnable runnable : this.postProcessing) {
+      try {
+        runnable.run();
+      } catch (Exception e) {
+        
       }
-    } catch (Exception e) {
-      processState = PathState.COMPLETED;
     }
   }
 
+  private static PathfindingRequestMerger.RequestKey createRequestKey(Set<BlockPos> positions) {
+    if (positions == null || positions.isEmpty()) {
+      return null;
+    }
+
+    return PathfindingRequestMerger.keyOf(null, null, positions, 0.0F, 0);
+  }
+
   private Path tryGetCachedPath() {
     if (positions == null || positions.isEmpty()) {
       return null;
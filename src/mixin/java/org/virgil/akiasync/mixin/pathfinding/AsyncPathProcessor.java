@@ -1,29 +1,41 @@
 package org.virgil.akiasync.mixin.pathfinding;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.PathNavigationRegion;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.level.pathfinder.PathFinder;
+import org.virgil.akiasync.mixin.async.executor.ExecutorTopology;
+import org.virgil.akiasync.mixin.async.executor.WeightedLane;
 import org.virgil.akiasync.mixin.bridge.Bridge;
 import org.virgil.akiasync.mixin.bridge.BridgeManager;
 
 public final class AsyncPathProcessor {
 
-  private static volatile ThreadPoolExecutor executor;
+  private static volatile ExecutorService executor;
+  private static volatile boolean ownsExecutor = false;
   private static volatile boolean initialized = false;
   private static volatile boolean enabled = false;
   private static final Object LOCK = new Object();
   
-  private static final ThreadLocal<List<AsyncPath>> pendingPaths = ThreadLocal.withInitial(ArrayList::new);
-  private static final AtomicInteger batchCount = new AtomicInteger(0);
-  private static final AtomicInteger totalBatchedPaths = new AtomicInteger(0);
+  private static final AtomicLong serverTick = new AtomicLong(0);
   private static final AtomicInteger mergedPaths = new AtomicInteger(0);
   private static final AtomicInteger cacheHits = new AtomicInteger(0);
+  private static final PathfindingRequestMerger REQUEST_MERGER = new PathfindingRequestMerger();
+  private static final PathTickBudget BUDGET = new PathTickBudget();
 
   private AsyncPathProcessor() {
     throw new AssertionError("Utility class should not be instantiated");
@@ -48,6 +60,25 @@ public final class AsyncPathProcessor {
         return;
       }
 
+      RegionNavigationGraph.configure(bridge.isPathRegionGraphEnabled(), bridge.getPathRegionGraphMinDistance());
+      BUDGET.configure(
+          bridge.getPathTickBudget(),
+          bridge.getPathMaxDeferralTicks(),
+          bridge.getAsyncPathfindingMaxQueueSize(),
+          bridge.getEnhancedPathfindingHighPriorityDistance(),
+          bridge.getEnhancedPathfindingMediumPriorityDistance()
+      );
+
+      WeightedLane lane = ExecutorTopology.laneOrNull(ExecutorTopology.PATHFINDING);
+      if (lane != null) {
+        executor = lane;
+        ownsExecutor = false;
+        bridge.debugLog("[AkiAsync-AsyncPath] Async pathfinding processor using shared executor lane (share="
+            + lane.getShare() + ")");
+        initialized = true;
+        return;
+      }
+
       int maxThreads = bridge.getAsyncPathfindingMaxThreads();
       int keepAliveSeconds = bridge.getAsyncPathfindingKeepAliveSeconds();
       int maxQueueSize = bridge.getAsyncPathfindingMaxQueueSize();
@@ -55,17 +86,19 @@ public final class AsyncPathProcessor {
       ThreadFactory threadFactory = new PathfindingThreadFactory();
       BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<>(maxQueueSize);
 
-      executor = new ThreadPoolExecutor(
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(
           maxThreads,
           maxThreads,
           keepAliveSeconds,
           TimeUnit.SECONDS,
           workQueue,
           threadFactory,
-          new ThreadPoolExecutor.CallerRunsPolicy()
+          new ThreadPoolExecutor.AbortPolicy()
       );
 
-      int prestartedThreads = executor.prestartAllCoreThreads();
+      int prestartedThreads = pool.prestartAllCoreThreads();
+      executor = pool;
+      ownsExecutor = true;
 
       bridge.debugLog("[AkiAsync-AsyncPath] Async pathfinding processor initialized:");
       bridge.debugLog("  - Max threads: " + maxThreads);
@@ -88,107 +121,120 @@ public final class AsyncPathProcessor {
       return;
     }
 
-    List<AsyncPath> paths = pendingPaths.get();
-    paths.add(path);
-    
-    if (paths.size() >= 8) {
-      flushPendingPaths();
-    }
-  }
-  
-  public static void flushPendingPaths() {
-    List<AsyncPath> paths = pendingPaths.get();
-    if (paths.isEmpty()) {
+    PathfindingRequestMerger.RequestKey key = path.getRequestKey();
+    if (key == null) {
+      BUDGET.offer(path::process, () -> path.completeFrom(null), path.getDistanceToPlayer(), serverTick.get());
       return;
     }
-    
-    List<AsyncPath> batch = new ArrayList<>(paths);
-    paths.clear();
-    
-    if (batch.isEmpty()) {
+
+    CompletableFuture<Path> future = new CompletableFuture<>();
+    CompletableFuture<Path> inFlight = REQUEST_MERGER.tryLead(key, future);
+    if (inFlight != null) {
+      mergedPaths.incrementAndGet();
+      inFlight.thenAccept(path::completeFrom);
       return;
     }
-    
-    List<AsyncPath> mergedBatch = mergeSimilarPaths(batch);
-    
-    batchCount.incrementAndGet();
-    totalBatchedPaths.addAndGet(batch.size());
-    if (mergedBatch.size() < batch.size()) {
-      mergedPaths.addAndGet(batch.size() - mergedBatch.size());
-    }
-    
-    try {
 
-      executor.execute(() -> {
-        for (AsyncPath path : mergedBatch) {
+    BUDGET.offer(
+        () -> processLeader(path, future),
+        () -> {
           try {
-            path.process();
-          } catch (Exception e) {
-
+            path.completeFrom(null);
+          } finally {
+            REQUEST_MERGER.finish(key, future, null, null);
           }
-        }
-      });
-    } catch (RejectedExecutionException e) {
+        },
+        path.getDistanceToPlayer(),
+        serverTick.get()
+    );
+  }
 
-      for (AsyncPath path : mergedBatch) {
-        try {
-          path.process();
-        } catch (Exception ex) {
+  public static CompletableFuture<Path> submit(PathfindingRequestMerger.RequestKey key, Mob mob, Supplier<Path> compute) {
+    CompletableFuture<Path> future = new CompletableFuture<>();
+    CompletableFuture<Path> inFlight = REQUEST_MERGER.tryLead(key, future);
+    if (inFlight != null) {
+      mergedPaths.incrementAndGet();
+      return inFlight;
+    }
 
-        }
+    schedule(distanceToNearestPlayer(mob), () -> {
+      Path path = null;
+      Throwable failure = null;
+      try {
+        path = compute.get();
+      } catch (Throwable t) {
+        failure = t;
       }
+      REQUEST_MERGER.finish(key, future, path, failure);
+    }, () -> REQUEST_MERGER.finish(key, future, null, null));
+    return future;
+  }
+
+  public static void schedule(double distanceToPlayer, Runnable compute, Runnable onDrop) {
+    if (!initialized) {
+      initialize();
+    }
+
+    if (!enabled || executor == null) {
+      compute.run();
+      return;
+    }
+
+    BUDGET.offer(compute, onDrop, distanceToPlayer, serverTick.get());
+  }
+
+  public static void flushPendingPaths() {
+    ExecutorService current = executor;
+    if (current == null) {
+      return;
     }
+    BUDGET.flush(current, serverTick.get());
   }
 
-  private static List<AsyncPath> mergeSimilarPaths(List<AsyncPath> paths) {
-    if (paths.size() <= 1) {
-      return paths;
+  public static void onServerTick() {
+    flushPendingPaths();
+    serverTick.incrementAndGet();
+  }
+
+  public static double distanceToNearestPlayer(Mob mob) {
+    if (mob == null || !(mob.level() instanceof ServerLevel level)) {
+      return Double.MAX_VALUE;
     }
-    
-    List<AsyncPath> merged = new ArrayList<>();
-    List<AsyncPath> duplicates = new ArrayList<>();
-    
-    for (int i = 0; i < paths.size(); i++) {
-      AsyncPath current = paths.get(i);
-      boolean isDuplicate = false;
-      
-      for (AsyncPath existing : merged) {
-        if (current.hasSameProcessingPositions(existing.getPositions())) {
-          
-          duplicates.add(current);
-          
-          existing.postProcessing(() -> {
-            
-            try {
-              java.lang.reflect.Field delegatedPathField = AsyncPath.class.getDeclaredField("delegatedPath");
-              delegatedPathField.setAccessible(true);
-              delegatedPathField.set(current, existing.getPath());
-              
-              java.lang.reflect.Field processStateField = AsyncPath.class.getDeclaredField("processState");
-              processStateField.setAccessible(true);
-              processStateField.set(current, existing.getClass().getDeclaredField("processState").get(existing));
-            } catch (Exception e) {
-              
-              current.process();
-            }
-          });
-          
-          isDuplicate = true;
-          break;
-        }
-      }
-      
-      if (!isDuplicate) {
-        merged.add(current);
+
+    double minDistance = Double.MAX_VALUE;
+    for (ServerPlayer player : level.players()) {
+      double distance = mob.distanceToSqr(player);
+      if (distance < minDistance) {
+        minDistance = distance;
       }
     }
-    
-    return merged;
+    return Math.sqrt(minDistance);
+  }
+
+  private static void processLeader(AsyncPath path, CompletableFuture<Path> future) {
+    try {
+      path.process();
+    } finally {
+      REQUEST_MERGER.finish(path.getRequestKey(), future, path.getResolvedPath(), null);
+    }
+  }
+
+  public static PathTickBudget getTickBudget() {
+    return BUDGET;
+  }
+
+  public static PathfindingRequestMerger getRequestMerger() {
+    return REQUEST_MERGER;
+  }
+
+  public static Path findPath(PathFinder finder, PathNavigationRegion region, Mob mob, Set<BlockPos> targets,
+                              float maxRange, int accuracy, float depth) {
+    return RegionNavigationGraph.findPath(finder, region, mob, targets, maxRange, accuracy, depth);
   }
 
   public static void shutdown() {
     synchronized (LOCK) {
-      if (executor != null && !executor.isShutdown()) {
+      if (ownsExecutor && executor != null && !executor.isShutdown()) {
         Bridge bridge = BridgeManager.getBridge();
         if (bridge != null) {
           bridge.debugLog("[AkiAsync-AsyncPath] Shutting down async pathfinding processor...");
@@ -209,9 +255,30 @@ public final class AsyncPathProcessor {
         }
       }
       
+      BUDGET.cancelAll();
+      REQUEST_MERGER.cancelAll();
+      RegionNavigationGraph.clear();
       initialized = false;
       enabled = false;
       executor = null;
+      ownsExecutor = false;
+    }
+  }
+
+  public static boolean resize(int maxThreads) {
+    synchronized (LOCK) {
+      if (!ownsExecutor || !(executor instanceof ThreadPoolExecutor pool) || maxThreads <= 0) {
+        return false;
+      }
+      if (maxThreads > pool.getMaximumPoolSize()) {
+        pool.setMaximumPoolSize(maxThreads);
+        pool.setCorePoolSize(maxThreads);
+      } else {
+        pool.setCorePoolSize(maxThreads);
+        pool.setMaximumPoolSize(maxThreads);
+      }
+      pool.prestartAllCoreThreads();
+      return true;
     }
   }
 
@@ -220,24 +287,36 @@ public final class AsyncPathProcessor {
       return "Async pathfinding: disabled";
     }
 
-    int batches = batchCount.get();
-    int totalPaths = totalBatchedPaths.get();
     int merged = mergedPaths.get();
     int hits = cacheHits.get();
-    double avgBatchSize = batches > 0 ? (double) totalPaths / batches : 0;
+    long totalPaths = BUDGET.getScheduledCount() + merged;
     double mergeRate = totalPaths > 0 ? (double) merged / totalPaths * 100 : 0;
     
-    String cacheStats = SharedPathCache.getStats();
+    String cacheStats = BUDGET.getStatistics() + " | " + SharedPathCache.getStats() + " | Coalescing: " + REQUEST_MERGER.getStats()
+        + " | " + RegionNavigationGraph.getStatistics() + " | " + PersistentPathStore.getStatistics();
+    
+    if (executor instanceof WeightedLane lane) {
+      return String.format(
+          "AsyncPath: Lane share=%d | Active=%d | Queue=%d | Completed=%d | Merged=%d(%.1f%%) | CacheHits=%d | %s",
+          lane.getShare(),
+          lane.getActiveCount(),
+          lane.getQueuedCount(),
+          lane.getCompletedCount(),
+          merged,
+          mergeRate,
+          hits,
+          cacheStats
+      );
+    }
     
+    ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
     return String.format(
-        "AsyncPath: Pool=%d/%d | Active=%d | Queue=%d | Completed=%d | Batches=%d | AvgBatch=%.1f | Merged=%d(%.1f%%) | CacheHits=%d | %s",
-        executor.getPoolSize(),
-        executor.getCorePoolSize(),
-        executor.getActiveCount(),
-        executor.getQueue().size(),
-        executor.getCompletedTaskCount(),
-        batches,
-        avgBatchSize,
+        "AsyncPath: Pool=%d/%d | Active=%d | Queue=%d | Completed=%d | Merged=%d(%.1f%%) | CacheHits=%d | %s",
+        pool.getPoolSize(),
+        pool.getCorePoolSize(),
+        pool.getActiveCount(),
+        pool.getQueue().size(),
+        pool.getCompletedTaskCount(),
         merged,
         mergeRate,
         hits,
@@ -253,7 +332,7 @@ public final class AsyncPathProcessor {
     return enabled && executor != null && !executor.isShutdown();
   }
 
-  public static ThreadPoolExecutor getExecutor() {
+  public static ExecutorService getExecutor() {
     if (!initialized) {
       initialize();
     }
@@ -28,21 +28,12 @@ public class EnhancedPathfindingInitializer {
         }
         
         int maxConcurrent = bridge.getEnhancedPathfindingMaxConcurrentRequests();
-        int maxPerTick = bridge.getEnhancedPathfindingMaxRequestsPerTick();
-        int highPriorityDist = bridge.getEnhancedPathfindingHighPriorityDistance();
-        int mediumPriorityDist = bridge.getEnhancedPathfindingMediumPriorityDistance();
         
-        EnhancedPathfindingSystem.updateConfig(
-            enabled,
-            maxConcurrent,
-            maxPerTick,
-            highPriorityDist,
-            mediumPriorityDist
-        );
+        EnhancedPathfindingSystem.updateConfig(enabled, maxConcurrent);
         
         BridgeConfigCache.debugLog(String.format(
-            "[EnhancedPathfinding] Initialized: maxConcurrent=%d, maxPerTick=%d, highPriority=%d, mediumPriority=%d",
-            maxConcurrent, maxPerTick, highPriorityDist, mediumPriorityDist
+            "[EnhancedPathfinding] Initialized: maxConcurrent=%d, tickBudget=%d",
+            maxConcurrent, AsyncPathProcessor.getTickBudget().getMaxPerTick()
         ));
         
         initialized = true;
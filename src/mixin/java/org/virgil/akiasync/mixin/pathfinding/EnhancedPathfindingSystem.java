@@ -16,27 +16,14 @@ public class EnhancedPathfindingSystem {
     
     private static volatile boolean enabled = true;
     private static volatile int maxConcurrentRequests = 50;
-    private static volatile int maxRequestsPerTick = 20;
-    private static volatile int highPriorityDistance = 16;
-    private static volatile int mediumPriorityDistance = 48;
     
     private static final AtomicInteger activeRequests = new AtomicInteger(0);
     private static final AtomicLong totalRequests = new AtomicLong(0);
     private static final AtomicLong cacheHits = new AtomicLong(0);
     private static final AtomicLong queueRejects = new AtomicLong(0);
     
-    private static final PriorityBlockingQueue<PathRequest> highPriorityQueue = 
-        new PriorityBlockingQueue<>(100, Comparator.comparingDouble(PathRequest::getPriority));
-    private static final PriorityBlockingQueue<PathRequest> mediumPriorityQueue = 
-        new PriorityBlockingQueue<>(200, Comparator.comparingDouble(PathRequest::getPriority));
-    private static final PriorityBlockingQueue<PathRequest> lowPriorityQueue = 
-        new PriorityBlockingQueue<>(300, Comparator.comparingDouble(PathRequest::getPriority));
-    
     private static final MultiLayerPathCache cache = new MultiLayerPathCache();
     
-    private static final Map<PathRequestKey, CompletableFuture<Path>> pendingRequests = 
-        new ConcurrentHashMap<>();
-    
     private static final Map<UUID, PlayerPathPrewarmer> playerPrewarmers = 
         new ConcurrentHashMap<>();
     
@@ -58,8 +45,10 @@ public class EnhancedPathfindingSystem {
             return CompletableFuture.completedFuture(cachedPath);
         }
         
-        PathRequestKey requestKey = new PathRequestKey(start, target);
-        CompletableFuture<Path> existingRequest = pendingRequests.get(requestKey);
+        PathfindingRequestMerger merger = AsyncPathProcessor.getRequestMerger();
+        PathfindingRequestMerger.RequestKey requestKey = PathfindingRequestMerger.keyOf(mob, start, target);
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        CompletableFuture<Path> existingRequest = merger.tryLead(requestKey, future);
         if (existingRequest != null) {
             cacheHits.incrementAndGet();
             return existingRequest;
@@ -67,19 +56,31 @@ public class EnhancedPathfindingSystem {
         
         if (activeRequests.get() >= maxConcurrentRequests) {
             queueRejects.incrementAndGet();
-            return CompletableFuture.completedFuture(null);
+            merger.finish(requestKey, future, null, null);
+            return future;
         }
         
-        PathRequest request = new PathRequest(mob, start, target, computeFunction);
-        
-        addToQueue(request);
-        
-        CompletableFuture<Path> future = new CompletableFuture<>();
-        request.setFuture(future);
-        pendingRequests.put(requestKey, future);
+        activeRequests.incrementAndGet();
+        AsyncPathProcessor.schedule(
+            AsyncPathProcessor.distanceToNearestPlayer(mob),
+            () -> {
+                try {
+                    Path path = computeFunction.compute();
+                    merger.finish(requestKey, future, path, null);
+                } catch (Exception e) {
+                    merger.finish(requestKey, future, null, e);
+                    BridgeConfigCache.debugLog("[PathfindingSystem] Request failed: " + e.getMessage());
+                } finally {
+                    activeRequests.decrementAndGet();
+                }
+            },
+            () -> {
+                merger.finish(requestKey, future, null, null);
+                activeRequests.decrementAndGet();
+            }
+        );
         
         future.whenComplete((path, throwable) -> {
-            pendingRequests.remove(requestKey);
             if (path != null && path.canReach()) {
                 cache.put(start, target, path);
             }
@@ -88,69 +89,12 @@ public class EnhancedPathfindingSystem {
         return future;
     }
     
-    private static void addToQueue(PathRequest request) {
-        double distance = request.getDistanceToNearestPlayer();
-        
-        if (distance < highPriorityDistance) {
-            request.setPriority(1.0 / (distance + 1));
-            highPriorityQueue.offer(request);
-        } else if (distance < mediumPriorityDistance) {
-            request.setPriority(1.0 / (distance + 1));
-            mediumPriorityQueue.offer(request);
-        } else {
-            request.setPriority(1.0 / (distance + 1));
-            lowPriorityQueue.offer(request);
-        }
-    }
-    
     public static void processTick() {
         if (!enabled) return;
         
-        int processed = 0;
-        
-        while (processed < maxRequestsPerTick && !highPriorityQueue.isEmpty()) {
-            PathRequest request = highPriorityQueue.poll();
-            if (request != null) {
-                processRequest(request);
-                processed++;
-            }
-        }
-        
-        while (processed < maxRequestsPerTick && !mediumPriorityQueue.isEmpty()) {
-            PathRequest request = mediumPriorityQueue.poll();
-            if (request != null) {
-                processRequest(request);
-                processed++;
-            }
-        }
-        
-        while (processed < maxRequestsPerTick && !lowPriorityQueue.isEmpty()) {
-            PathRequest request = lowPriorityQueue.poll();
-            if (request != null) {
-                processRequest(request);
-                processed++;
-            }
-        }
-        
         cache.cleanupExpired();
     }
     
-    private static void processRequest(PathRequest request) {
-        activeRequests.incrementAndGet();
-        
-        CompletableFuture.runAsync(() -> {
-            try {
-                Path path = request.compute();
-                request.getFuture().complete(path);
-            } catch (Exception e) {
-                request.getFuture().completeExceptionally(e);
-                BridgeConfigCache.debugLog("[PathfindingSystem] Request failed: " + e.getMessage());
-            } finally {
-                activeRequests.decrementAndGet();
-            }
-        }, AsyncPathProcessor.getExecutor());
-    }
-    
     public static void prewarmPlayerPathsMainThread(ServerPlayer player) {
         if (!enabled) return;
         
@@ -181,33 +125,23 @@ public class EnhancedPathfindingSystem {
         double hitRate = total > 0 ? (hits * 100.0 / total) : 0.0;
         
         return String.format(
-            "Pathfinding: Active=%d/%d | Queue(H=%d,M=%d,L=%d) | Total=%d | Cache=%.1f%% | Rejects=%d | %s",
+            "Pathfinding: Active=%d/%d | Total=%d | Cache=%.1f%% | Rejects=%d | %s",
             activeRequests.get(), maxConcurrentRequests,
-            highPriorityQueue.size(), mediumPriorityQueue.size(), lowPriorityQueue.size(),
             total, hitRate, rejects,
             cache.getStatistics()
         );
     }
     
-    public static void updateConfig(
-            boolean enabled,
-            int maxConcurrent,
-            int maxPerTick,
-            int highPriorityDist,
-            int mediumPriorityDist) {
-        
+    public static MultiLayerPathCache getPathCache() {
+        return cache;
+    }
+    
+    public static void updateConfig(boolean enabled, int maxConcurrent) {
         EnhancedPathfindingSystem.enabled = enabled;
         EnhancedPathfindingSystem.maxConcurrentRequests = maxConcurrent;
-        EnhancedPathfindingSystem.maxRequestsPerTick = maxPerTick;
-        EnhancedPathfindingSystem.highPriorityDistance = highPriorityDist;
-        EnhancedPathfindingSystem.mediumPriorityDistance = mediumPriorityDist;
     }
     
     public static void clear() {
-        highPriorityQueue.clear();
-        mediumPriorityQueue.clear();
-        lowPriorityQueue.clear();
-        pendingRequests.clear();
         cache.clear();
         playerPrewarmers.values().forEach(PlayerPathPrewarmer::stop);
         playerPrewarmers.clear();
@@ -217,88 +151,4 @@ public class EnhancedPathfindingSystem {
     public interface PathComputeFunction {
         Path compute() throws Exception;
     }
-    
-    private static class PathRequest {
-        private final Mob mob;
-        private final BlockPos start;
-        private final BlockPos target;
-        private final PathComputeFunction computeFunction;
-        private final long createTime;
-        private double priority;
-        private CompletableFuture<Path> future;
-        
-        PathRequest(Mob mob, BlockPos start, BlockPos target, PathComputeFunction computeFunction) {
-            this.mob = mob;
-            this.start = start;
-            this.target = target;
-            this.computeFunction = computeFunction;
-            this.createTime = System.currentTimeMillis();
-            this.priority = 0.0;
-        }
-        
-        double getDistanceToNearestPlayer() {
-            if (mob == null || mob.level() == null) return Double.MAX_VALUE;
-            
-            ServerLevel level = (ServerLevel) mob.level();
-            double minDistance = Double.MAX_VALUE;
-            
-            for (ServerPlayer player : level.players()) {
-                double distance = mob.distanceToSqr(player);
-                if (distance < minDistance) {
-                    minDistance = distance;
-                }
-            }
-            
-            return Math.sqrt(minDistance);
-        }
-        
-        Path compute() throws Exception {
-            return computeFunction.compute();
-        }
-        
-        double getPriority() {
-            return priority;
-        }
-        
-        void setPriority(double priority) {
-            this.priority = priority;
-        }
-        
-        CompletableFuture<Path> getFuture() {
-            return future;
-        }
-        
-        void setFuture(CompletableFuture<Path> future) {
-            this.future = future;
-        }
-    }
-    
-    private static class PathRequestKey {
-        private final long startHash;
-        private final long targetHash;
-        private final int hashCode;
-        
-        PathRequestKey(BlockPos start, BlockPos target) {
-            this.startHash = encodePos(start);
-            this.targetHash = encodePos(target);
-            this.hashCode = Objects.hash(startHash, targetHash);
-        }
-        
-        private long encodePos(BlockPos pos) {
-            return ((long) pos.getX() << 42) | ((long) pos.getY() << 21) | (long) pos.getZ();
-        }
-        
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof PathRequestKey)) return false;
-            PathRequestKey that = (PathRequestKey) o;
-            return startHash == that.startHash && targetHash == that.targetHash;
-        }
-        
-        @Override
-        public int hashCode() {
-            return hashCode;
-        }
-    }
 }
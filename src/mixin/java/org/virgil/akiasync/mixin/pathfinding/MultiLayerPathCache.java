@@ -3,268 +3,570 @@ package org.virgil.akiasync.mixin.pathfinding;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.pathfinder.Path;
 
-import java.util.Map;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class MultiLayerPathCache {
-    
-    private static final int HOT_CACHE_SIZE = 200;      
-    private static final int WARM_CACHE_SIZE = 500;     
-    private static final int COLD_CACHE_SIZE = 1000;    
-    
-    private static final long HOT_EXPIRE_MS = 10_000;   
-    private static final long WARM_EXPIRE_MS = 30_000;  
-    private static final long COLD_EXPIRE_MS = 60_000;  
-    
-    private static final int SIMILARITY_TOLERANCE = 3;  
-    
-    private final Map<PathCacheKey, CachedPath> hotCache = new ConcurrentHashMap<>();
-    private final Map<PathCacheKey, CachedPath> warmCache = new ConcurrentHashMap<>();
-    private final Map<PathCacheKey, CachedPath> coldCache = new ConcurrentHashMap<>();
-    
-    private final AtomicLong hotHits = new AtomicLong(0);
-    private final AtomicLong warmHits = new AtomicLong(0);
-    private final AtomicLong coldHits = new AtomicLong(0);
-    private final AtomicLong misses = new AtomicLong(0);
-    private final AtomicLong promotions = new AtomicLong(0);
-    private final AtomicLong demotions = new AtomicLong(0);
-    
-    private long lastCleanupTime = 0;
+
+    public enum Segment {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private static final Segment[] SEGMENTS = Segment.values();
+
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 524_288;
+    private static final int ENTRY_OVERHEAD_WEIGHT = 4;
+    private static final int EXPECTED_ENTRY_WEIGHT = 24;
+    private static final double WINDOW_FRACTION = 0.01;
+    private static final double PROTECTED_FRACTION = 0.8;
+
+    private static final long EXPIRE_MS = 120_000;
+
+    private static final int SIMILARITY_TOLERANCE = 3;
+
+    private final ConcurrentHashMap<PathCacheKey, Node> data = new ConcurrentHashMap<>();
+    private final PathSpatialIndex spatialIndex = new PathSpatialIndex();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final AccessOrder window = new AccessOrder();
+    private final AccessOrder probation = new AccessOrder();
+    private final AccessOrder protectedOrder = new AccessOrder();
+    private final FrequencySketch sketch;
+
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    private final LongAdder[] hits = newCounters();
+    private final LongAdder[] evictions = newCounters();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder similarHits = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder promotions = new LongAdder();
+    private final LongAdder demotions = new LongAdder();
+    private final LongAdder admissionsRejected = new LongAdder();
+
+    private volatile long lastCleanupTime = 0;
     private static final long CLEANUP_INTERVAL_MS = 5000;
-    
+
+    public MultiLayerPathCache() {
+        this(DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    public MultiLayerPathCache(long maximumWeight) {
+        this.maximumWeight = Math.max(ENTRY_OVERHEAD_WEIGHT * 16L, maximumWeight);
+        this.windowMaximum = Math.max(ENTRY_OVERHEAD_WEIGHT, (long) (this.maximumWeight * WINDOW_FRACTION));
+        this.protectedMaximum = (long) ((this.maximumWeight - windowMaximum) * PROTECTED_FRACTION);
+        this.sketch = new FrequencySketch(this.maximumWeight / EXPECTED_ENTRY_WEIGHT);
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[SEGMENTS.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
     public Path get(BlockPos start, BlockPos target) {
         PathCacheKey key = new PathCacheKey(start, target);
-        
-        CachedPath hotPath = hotCache.get(key);
-        if (hotPath != null && !hotPath.isExpired(HOT_EXPIRE_MS)) {
-            hotHits.incrementAndGet();
-            hotPath.recordHit();
-            return hotPath.getPath();
-        }
-        
-        CachedPath warmPath = warmCache.get(key);
-        if (warmPath != null && !warmPath.isExpired(WARM_EXPIRE_MS)) {
-            warmHits.incrementAndGet();
-            warmPath.recordHit();
-            
-            promoteToHot(key, warmPath);
-            return warmPath.getPath();
-        }
-        
-        CachedPath coldPath = coldCache.get(key);
-        if (coldPath != null && !coldPath.isExpired(COLD_EXPIRE_MS)) {
-            coldHits.incrementAndGet();
-            coldPath.recordHit();
-            
-            promoteToWarm(key, coldPath);
-            return coldPath.getPath();
-        }
-        
-        Path similarPath = findSimilarPath(key);
-        if (similarPath != null) {
-            warmHits.incrementAndGet();
-            return similarPath;
-        }
-        
-        misses.incrementAndGet();
+        long now = System.currentTimeMillis();
+
+        Node node = data.get(key);
+        if (node != null) {
+            if (!node.isExpired(now)) {
+                hits[node.segment.ordinal()].increment();
+                afterRead(node, key);
+                return node.path.materialize();
+            }
+            expire(node);
+        }
+
+        PathCacheKey similarKey = spatialIndex.findSimilar(key, SIMILARITY_TOLERANCE, candidate -> {
+            Node candidateNode = data.get(candidate);
+            return candidateNode != null && !candidateNode.isExpired(now);
+        });
+        if (similarKey != null) {
+            Node similar = data.get(similarKey);
+            if (similar != null) {
+                similarHits.increment();
+                afterRead(similar, key);
+                return similar.path.materialize();
+            }
+        }
+
+        misses.increment();
+        if (evictionLock.tryLock()) {
+            try {
+                sketch.increment(key.hashCode());
+            } finally {
+                evictionLock.unlock();
+            }
+        }
         return null;
     }
-    
+
     public void put(BlockPos start, BlockPos target, Path path) {
         if (path == null || !path.canReach()) {
             return;
         }
-        
-        PathCacheKey key = new PathCacheKey(start, target);
-        CachedPath cachedPath = new CachedPath(path);
-        
-        if (hotCache.size() >= HOT_CACHE_SIZE) {
-            evictFromHot();
+
+        int weight = ENTRY_OVERHEAD_WEIGHT + path.getNodeCount();
+        if (weight > maximumWeight - windowMaximum) {
+            return;
+        }
+
+        PackedPath packed = PackedPath.pack(path);
+        if (packed == null) {
+            return;
         }
-        hotCache.put(key, cachedPath);
-        
+
+        PathCacheKey key = new PathCacheKey(start, target);
+        PathSectionStamp stamp = PathSectionStamp.capture(packed);
         long now = System.currentTimeMillis();
+
+        evictionLock.lock();
+        try {
+            sketch.increment(key.hashCode());
+            Node existing = data.get(key);
+            if (existing != null) {
+                addWeight(existing.segment, weight - existing.weight);
+                existing.weight = weight;
+                existing.path = packed;
+                existing.stamp = stamp;
+                existing.writeTime = now;
+                onAccess(existing);
+            } else {
+                Node node = new Node(key, packed, stamp, weight, now);
+                data.put(key, node);
+                spatialIndex.add(key);
+                window.addLast(node);
+                windowWeight += weight;
+            }
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+
         if (now - lastCleanupTime > CLEANUP_INTERVAL_MS) {
-            cleanupExpired();
             lastCleanupTime = now;
+            cleanupExpired();
         }
     }
-    
-    private void promoteToHot(PathCacheKey key, CachedPath path) {
-        warmCache.remove(key);
-        
-        if (hotCache.size() >= HOT_CACHE_SIZE) {
-            evictFromHot();
-        }
-        
-        hotCache.put(key, path.refresh());
-        promotions.incrementAndGet();
-    }
-    
-    private void promoteToWarm(PathCacheKey key, CachedPath path) {
-        coldCache.remove(key);
-        
-        if (warmCache.size() >= WARM_CACHE_SIZE) {
-            evictFromWarm();
-        }
-        
-        warmCache.put(key, path.refresh());
-        promotions.incrementAndGet();
-    }
-    
-    private void evictFromHot() {
-        
-        Map.Entry<PathCacheKey, CachedPath> lruEntry = null;
-        long minLastAccess = Long.MAX_VALUE;
-        
-        for (Map.Entry<PathCacheKey, CachedPath> entry : hotCache.entrySet()) {
-            if (entry.getValue().getLastAccessTime() < minLastAccess) {
-                minLastAccess = entry.getValue().getLastAccessTime();
-                lruEntry = entry;
-            }
+
+    private void afterRead(Node node, PathCacheKey requested) {
+        if (!evictionLock.tryLock()) {
+            return;
         }
-        
-        if (lruEntry != null) {
-            hotCache.remove(lruEntry.getKey());
-            
-            if (warmCache.size() < WARM_CACHE_SIZE) {
-                warmCache.put(lruEntry.getKey(), lruEntry.getValue());
-                demotions.incrementAndGet();
+        try {
+            sketch.increment(requested.hashCode());
+            if (requested != node.key && !requested.equals(node.key)) {
+                sketch.increment(node.key.hashCode());
             }
+            onAccess(node);
+        } finally {
+            evictionLock.unlock();
         }
     }
-    
-    private void evictFromWarm() {
-        
-        Map.Entry<PathCacheKey, CachedPath> lruEntry = null;
-        long minLastAccess = Long.MAX_VALUE;
-        
-        for (Map.Entry<PathCacheKey, CachedPath> entry : warmCache.entrySet()) {
-            if (entry.getValue().getLastAccessTime() < minLastAccess) {
-                minLastAccess = entry.getValue().getLastAccessTime();
-                lruEntry = entry;
-            }
+
+    private void onAccess(Node node) {
+        if (node.removed) {
+            return;
         }
-        
-        if (lruEntry != null) {
-            warmCache.remove(lruEntry.getKey());
-            
-            if (coldCache.size() < COLD_CACHE_SIZE) {
-                coldCache.put(lruEntry.getKey(), lruEntry.getValue());
-                demotions.incrementAndGet();
+        switch (node.segment) {
+            case WINDOW -> window.moveToLast(node);
+            case PROTECTED -> protectedOrder.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                probationWeight -= node.weight;
+                node.segment = Segment.PROTECTED;
+                protectedOrder.addLast(node);
+                protectedWeight += node.weight;
+                promotions.increment();
+
+                while (protectedWeight > protectedMaximum) {
+                    Node demoted = protectedOrder.first();
+                    if (demoted == null) {
+                        break;
+                    }
+                    protectedOrder.remove(demoted);
+                    protectedWeight -= demoted.weight;
+                    demoted.segment = Segment.PROBATION;
+                    probation.addLast(demoted);
+                    probationWeight += demoted.weight;
+                    demotions.increment();
+                }
             }
         }
     }
-    
-    private Path findSimilarPath(PathCacheKey targetKey) {
-        
-        for (Map.Entry<PathCacheKey, CachedPath> entry : hotCache.entrySet()) {
-            if (entry.getKey().isSimilar(targetKey, SIMILARITY_TOLERANCE)) {
-                if (!entry.getValue().isExpired(HOT_EXPIRE_MS)) {
-                    return entry.getValue().getPath();
-                }
+
+    private void evict() {
+        Node candidate = null;
+        while (windowWeight > windowMaximum) {
+            Node moved = window.first();
+            if (moved == null) {
+                break;
+            }
+            window.remove(moved);
+            windowWeight -= moved.weight;
+            moved.segment = Segment.PROBATION;
+            probation.addLast(moved);
+            probationWeight += moved.weight;
+            if (candidate == null) {
+                candidate = moved;
             }
         }
-        
-        for (Map.Entry<PathCacheKey, CachedPath> entry : warmCache.entrySet()) {
-            if (entry.getKey().isSimilar(targetKey, SIMILARITY_TOLERANCE)) {
-                if (!entry.getValue().isExpired(WARM_EXPIRE_MS)) {
-                    return entry.getValue().getPath();
+
+        while (windowWeight + probationWeight + protectedWeight > maximumWeight) {
+            Node victim = probation.first();
+            if (victim == null) {
+                victim = protectedOrder.first() != null ? protectedOrder.first() : window.first();
+                if (victim == null) {
+                    break;
+                }
+                removeNode(victim);
+                evictions[victim.segment.ordinal()].increment();
+                continue;
+            }
+
+            if (candidate != null && (candidate.removed || candidate.segment != Segment.PROBATION)) {
+                candidate = null;
+            }
+            if (candidate == null || candidate == victim) {
+                if (candidate == victim) {
+                    candidate = probation.next(victim);
                 }
+                removeNode(victim);
+                evictions[Segment.PROBATION.ordinal()].increment();
+                continue;
+            }
+
+            if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                removeNode(victim);
+                evictions[Segment.PROBATION.ordinal()].increment();
+            } else {
+                Node rejected = candidate;
+                candidate = probation.next(rejected);
+                removeNode(rejected);
+                evictions[Segment.WINDOW.ordinal()].increment();
+                admissionsRejected.increment();
             }
         }
-        
-        return null;
     }
-    
+
+    private void expire(Node node) {
+        evictionLock.lock();
+        try {
+            if (!node.removed && node.isExpired(System.currentTimeMillis())) {
+                removeNode(node);
+                countRemoval(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void countRemoval(Node node) {
+        if (node.isStale()) {
+            invalidations.increment();
+        } else {
+            expirations.increment();
+        }
+    }
+
+    private void removeNode(Node node) {
+        switch (node.segment) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protectedOrder.remove(node);
+        }
+        addWeight(node.segment, -node.weight);
+        node.removed = true;
+        data.remove(node.key, node);
+        spatialIndex.remove(node.key);
+    }
+
+    private void addWeight(Segment segment, long delta) {
+        switch (segment) {
+            case WINDOW -> windowWeight += delta;
+            case PROBATION -> probationWeight += delta;
+            case PROTECTED -> protectedWeight += delta;
+        }
+    }
+
     public void cleanupExpired() {
         long now = System.currentTimeMillis();
-        
-        hotCache.entrySet().removeIf(entry -> {
-            if (entry.getValue().isExpired(HOT_EXPIRE_MS)) {
-                if (warmCache.size() < WARM_CACHE_SIZE) {
-                    warmCache.put(entry.getKey(), entry.getValue());
+        evictionLock.lock();
+        try {
+            for (AccessOrder order : new AccessOrder[] {window, probation, protectedOrder}) {
+                Node node = order.first();
+                while (node != null) {
+                    Node next = order.next(node);
+                    if (node.isExpired(now)) {
+                        removeNode(node);
+                        countRemoval(node);
+                    }
+                    node = next;
                 }
-                return true;
             }
-            return false;
-        });
-        
-        warmCache.entrySet().removeIf(entry -> {
-            if (entry.getValue().isExpired(WARM_EXPIRE_MS)) {
-                if (coldCache.size() < COLD_CACHE_SIZE) {
-                    coldCache.put(entry.getKey(), entry.getValue());
-                }
-                return true;
-            }
-            return false;
-        });
-        
-        coldCache.entrySet().removeIf(entry -> 
-            entry.getValue().isExpired(COLD_EXPIRE_MS)
-        );
+        } finally {
+            evictionLock.unlock();
+        }
     }
-    
+
     public void clear() {
-        hotCache.clear();
-        warmCache.clear();
-        coldCache.clear();
+        evictionLock.lock();
+        try {
+            for (Node node : data.values()) {
+                node.removed = true;
+            }
+            data.clear();
+            spatialIndex.clear();
+            window.clear();
+            probation.clear();
+            protectedOrder.clear();
+            windowWeight = 0;
+            probationWeight = 0;
+            protectedWeight = 0;
+            sketch.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getHits(Segment segment) {
+        return hits[segment.ordinal()].sum();
+    }
+
+    public long getEvictions(Segment segment) {
+        return evictions[segment.ordinal()].sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getSimilarHits() {
+        return similarHits.sum();
+    }
+
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public long getAdmissionsRejected() {
+        return admissionsRejected.sum();
+    }
+
+    public long getWeightedSize() {
+        evictionLock.lock();
+        try {
+            return windowWeight + probationWeight + protectedWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public int size() {
+        return data.size();
     }
-    
+
     public String getStatistics() {
-        long totalHits = hotHits.get() + warmHits.get() + coldHits.get();
-        long totalRequests = totalHits + misses.get();
+        long totalHits = similarHits.sum();
+        for (LongAdder counter : hits) {
+            totalHits += counter.sum();
+        }
+        long totalRequests = totalHits + misses.sum();
         double hitRate = totalRequests > 0 ? (totalHits * 100.0 / totalRequests) : 0.0;
-        
+
+        long windowSize;
+        long probationSize;
+        long protectedSize;
+        evictionLock.lock();
+        try {
+            windowSize = windowWeight;
+            probationSize = probationWeight;
+            protectedSize = protectedWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+
         return String.format(
-            "Cache[Hot=%d/%d,Warm=%d/%d,Cold=%d/%d] Hits[H=%d,W=%d,C=%d] Rate=%.1f%% P=%d D=%d",
-            hotCache.size(), HOT_CACHE_SIZE,
-            warmCache.size(), WARM_CACHE_SIZE,
-            coldCache.size(), COLD_CACHE_SIZE,
-            hotHits.get(), warmHits.get(), coldHits.get(),
-            hitRate,
-            promotions.get(), demotions.get()
+            "Cache[Entries=%d,Weight=%d/%d (W=%d,P=%d,Pr=%d)] Hits[W=%d,P=%d,Pr=%d,Similar=%d] Miss=%d Rate=%.1f%% Evict[W=%d,P=%d,Pr=%d] Expired=%d Invalidated=%d Rejected=%d P=%d D=%d",
+            data.size(), windowSize + probationSize + protectedSize, maximumWeight,
+            windowSize, probationSize, protectedSize,
+            getHits(Segment.WINDOW), getHits(Segment.PROBATION), getHits(Segment.PROTECTED), similarHits.sum(),
+            misses.sum(), hitRate,
+            getEvictions(Segment.WINDOW), getEvictions(Segment.PROBATION), getEvictions(Segment.PROTECTED),
+            expirations.sum(), invalidations.sum(), admissionsRejected.sum(),
+            promotions.sum(), demotions.sum()
         );
     }
-    
-    private static class CachedPath {
-        private final Path path;
-        private final long createTime;
-        private volatile long lastAccessTime;
-        private volatile int hitCount;
-        
-        CachedPath(Path path) {
+
+    private static final class Node {
+        final PathCacheKey key;
+        volatile PackedPath path;
+        volatile PathSectionStamp stamp;
+        volatile long writeTime;
+        volatile Segment segment = Segment.WINDOW;
+        volatile boolean removed;
+        int weight;
+        Node prev;
+        Node next;
+
+        Node(PathCacheKey key, PackedPath path, PathSectionStamp stamp, int weight, long writeTime) {
+            this.key = key;
             this.path = path;
-            this.createTime = System.currentTimeMillis();
-            this.lastAccessTime = createTime;
-            this.hitCount = 0;
-        }
-        
-        Path getPath() {
-            return path;
-        }
-        
-        void recordHit() {
-            this.lastAccessTime = System.currentTimeMillis();
-            this.hitCount++;
-        }
-        
-        boolean isExpired(long expireMs) {
-            return System.currentTimeMillis() - createTime > expireMs;
-        }
-        
-        long getLastAccessTime() {
-            return lastAccessTime;
-        }
-        
-        int getHitCount() {
-            return hitCount;
-        }
-        
-        CachedPath refresh() {
-            this.lastAccessTime = System.currentTimeMillis();
-            return this;
+            this.stamp = stamp;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+
+        boolean isExpired(long now) {
+            return now - writeTime > EXPIRE_MS || isStale();
+        }
+
+        boolean isStale() {
+            return !stamp.isCurrent();
+        }
+    }
+
+    private static final class AccessOrder {
+        private final Node head = new Node(null, null, null, 0, 0);
+
+        AccessOrder() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        Node first() {
+            return head.next == head ? null : head.next;
+        }
+
+        Node next(Node node) {
+            return node.next == head ? null : node.next;
+        }
+
+        void addLast(Node node) {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+        }
+
+        void remove(Node node) {
+            if (node.prev == null) {
+                return;
+            }
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToLast(Node node) {
+            if (head.prev != node) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            Node node = head.next;
+            while (node != head) {
+                Node next = node.next;
+                node.prev = null;
+                node.next = null;
+                node = next;
+            }
+            head.prev = head;
+            head.next = head;
+        }
+    }
+
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long expectedEntries) {
+            int capacity = (int) Math.min(1 << 20, Math.max(16, expectedEntries));
+            capacity = Integer.highestOneBit(capacity - 1) << 1;
+            this.table = new long[capacity];
+            this.tableMask = capacity - 1;
+            this.sampleSize = capacity * 10;
+        }
+
+        int frequency(int hash) {
+            int spread = spread(hash);
+            int start = (spread & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(spread, i);
+                int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xFL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            int spread = spread(hash);
+            int start = (spread & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(spread, i);
+                long offset = (start + i) << 2;
+                long mask = 0xFL << offset;
+                if ((table[index] & mask) != mask) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & RESET_MASK;
+                }
+                additions >>>= 1;
+            }
+        }
+
+        void clear() {
+            Arrays.fill(table, 0L);
+            additions = 0;
+        }
+
+        private int indexOf(int item, int i) {
+            long hash = (item + SEEDS[i]) * SEEDS[i];
+            hash += hash >>> 32;
+            return ((int) hash) & tableMask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
         }
     }
 }
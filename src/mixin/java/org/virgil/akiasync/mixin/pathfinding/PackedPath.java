@@ -0,0 +1,92 @@
+package org.virgil.akiasync.mixin.pathfinding;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.level.pathfinder.PathType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class PackedPath {
+
+    private static final PathType[] PATH_TYPES = PathType.values();
+    private static final long[] EMPTY_POSITIONS = new long[0];
+    private static final byte[] EMPTY_TYPES = new byte[0];
+
+    private final long[] positions;
+    private final byte[] types;
+    private final long target;
+    private final boolean reached;
+
+    PackedPath(long[] positions, byte[] types, long target, boolean reached) {
+        this.positions = positions;
+        this.types = types;
+        this.target = target;
+        this.reached = reached;
+    }
+
+    static PackedPath pack(Path path) {
+        BlockPos target = path.getTarget();
+        if (target == null) {
+            return null;
+        }
+
+        int nodeCount = path.getNodeCount();
+        long[] positions = nodeCount == 0 ? EMPTY_POSITIONS : new long[nodeCount];
+        byte[] types = nodeCount == 0 ? EMPTY_TYPES : new byte[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            Node node = path.getNode(i);
+            positions[i] = BlockPos.asLong(node.x, node.y, node.z);
+            types[i] = (byte) node.type.ordinal();
+        }
+        return new PackedPath(positions, types, target.asLong(), path.canReach());
+    }
+
+    static PathType typeOf(int ordinal) {
+        return ordinal >= 0 && ordinal < PATH_TYPES.length ? PATH_TYPES[ordinal] : PathType.BLOCKED;
+    }
+
+    Path materialize() {
+        List<Node> nodes = new ArrayList<>(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            long position = positions[i];
+            Node node = new Node(BlockPos.getX(position), BlockPos.getY(position), BlockPos.getZ(position));
+            node.type = typeOf(types[i] & 0xFF);
+            nodes.add(node);
+        }
+        return new Path(nodes, BlockPos.of(target), reached);
+    }
+
+    int getNodeCount() {
+        return positions.length;
+    }
+
+    long getPosition(int index) {
+        return positions[index];
+    }
+
+    int getX(int index) {
+        return BlockPos.getX(positions[index]);
+    }
+
+    int getY(int index) {
+        return BlockPos.getY(positions[index]);
+    }
+
+    int getZ(int index) {
+        return BlockPos.getZ(positions[index]);
+    }
+
+    int getType(int index) {
+        return types[index] & 0xFF;
+    }
+
+    long getTarget() {
+        return target;
+    }
+
+    boolean canReach() {
+        return reached;
+    }
+}
@@ -42,25 +42,40 @@ public class PathCacheKey {
     }
     
     public boolean isSimilar(PathCacheKey other, int tolerance) {
-        BlockPos thisStart = decodePosition(this.startHash);
-        BlockPos thisEnd = decodePosition(this.endHash);
-        BlockPos otherStart = decodePosition(other.startHash);
-        BlockPos otherEnd = decodePosition(other.endHash);
-        
-        return thisStart.closerThan(otherStart, tolerance) && 
-               thisEnd.closerThan(otherEnd, tolerance);
+        long limit = (long) tolerance * tolerance;
+        return distSqr(this.startHash, other.startHash) < limit &&
+               distSqr(this.endHash, other.endHash) < limit;
+    }
+    
+    private static long distSqr(long a, long b) {
+        long dx = decodeX(a) - decodeX(b);
+        long dy = decodeY(a) - decodeY(b);
+        long dz = decodeZ(a) - decodeZ(b);
+        return dx * dx + dy * dy + dz * dz;
+    }
+    
+    static int decodeX(long encoded) {
+        return (int) (encoded >> 43);
+    }
+    
+    static int decodeY(long encoded) {
+        return (int) (encoded << 21 >> 43);
+    }
+    
+    static int decodeZ(long encoded) {
+        return (int) (encoded << 42 >> 42);
+    }
+    
+    long getStartHash() {
+        return startHash;
+    }
+    
+    long getEndHash() {
+        return endHash;
     }
     
     private static BlockPos decodePosition(long encoded) {
-        int x = (int) ((encoded >> 43) & 0x1FFFFF);
-        int y = (int) ((encoded >> 22) & 0x1FFFFF);
-        int z = (int) (encoded & 0x3FFFFF);
-        
-        if ((x & 0x100000) != 0) x |= 0xFFE00000;
-        if ((y & 0x100000) != 0) y |= 0xFFE00000;
-        if ((z & 0x200000) != 0) z |= 0xFFC00000;
-        
-        return new BlockPos(x, y, z);
+        return new BlockPos(decodeX(encoded), decodeY(encoded), decodeZ(encoded));
     }
     
     public BlockPos getStart() {
@@ -0,0 +1,70 @@
+package org.virgil.akiasync.mixin.pathfinding;
+
+import org.virgil.akiasync.mixin.util.SectionChangeTracker;
+
+import java.util.Arrays;
+
+final class PathSectionStamp {
+
+    private static final int RECENT_WINDOW = 4;
+
+    private final int[] slots;
+    private final long[] versions;
+
+    private PathSectionStamp(int[] slots, long[] versions) {
+        this.slots = slots;
+        this.versions = versions;
+    }
+
+    static PathSectionStamp capture(PackedPath path) {
+        int nodeCount = path.getNodeCount();
+        int[] slots = new int[Math.max(4, nodeCount)];
+        int size = 0;
+
+        for (int i = 0; i < nodeCount; i++) {
+            int y = path.getY(i);
+            int sectionX = path.getX(i) >> 4;
+            int sectionZ = path.getZ(i) >> 4;
+            int lowY = (y - 1) >> 4;
+            int highY = (y + 1) >> 4;
+            for (int sectionY = lowY; sectionY <= highY; sectionY++) {
+                int slot = SectionChangeTracker.slotOf(sectionX, sectionY, sectionZ);
+                if (!containsRecent(slots, size, slot)) {
+                    if (size == slots.length) {
+                        slots = Arrays.copyOf(slots, size * 2);
+                    }
+                    slots[size++] = slot;
+                }
+            }
+        }
+
+        slots = Arrays.copyOf(slots, size);
+        long[] versions = new long[size];
+        for (int i = 0; i < size; i++) {
+            versions[i] = SectionChangeTracker.version(slots[i]);
+        }
+        return new PathSectionStamp(slots, versions);
+    }
+
+    private static boolean containsRecent(int[] slots, int size, int slot) {
+        for (int i = Math.max(0, size - RECENT_WINDOW); i < size; i++) {
+            if (slots[i] == slot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isCurrent() {
+        for (int i = 0; i < slots.length; i++) {
+            if (SectionChangeTracker.version(slots[i]) != versions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getSectionCount() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,103 @@
+package org.virgil.akiasync.mixin.pathfinding;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+final class PathSpatialIndex {
+
+    private static final int CELL_SHIFT = 3;
+    private static final int MAX_TOLERANCE = 1 << CELL_SHIFT;
+
+    private final ConcurrentHashMap<Long, Set<PathCacheKey>> buckets = new ConcurrentHashMap<>();
+
+    void add(PathCacheKey key) {
+        buckets.compute(bucketOf(key), (bucket, keys) -> {
+            if (keys == null) {
+                keys = ConcurrentHashMap.newKeySet();
+            }
+            keys.add(key);
+            return keys;
+        });
+    }
+
+    void remove(PathCacheKey key) {
+        buckets.computeIfPresent(bucketOf(key), (bucket, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    void clear() {
+        buckets.clear();
+    }
+
+    int getBucketCount() {
+        return buckets.size();
+    }
+
+    PathCacheKey findSimilar(PathCacheKey query, int tolerance, Predicate<PathCacheKey> accept) {
+        if (tolerance <= 0) {
+            return null;
+        }
+        int reach = Math.min(tolerance, MAX_TOLERANCE) - 1;
+        long start = query.getStartHash();
+        long end = query.getEndHash();
+
+        int sx = PathCacheKey.decodeX(start);
+        int sy = PathCacheKey.decodeY(start);
+        int sz = PathCacheKey.decodeZ(start);
+        int ex = PathCacheKey.decodeX(end);
+        int ey = PathCacheKey.decodeY(end);
+        int ez = PathCacheKey.decodeZ(end);
+
+        int sx0 = (sx - reach) >> CELL_SHIFT, sx1 = (sx + reach) >> CELL_SHIFT;
+        int sy0 = (sy - reach) >> CELL_SHIFT, sy1 = (sy + reach) >> CELL_SHIFT;
+        int sz0 = (sz - reach) >> CELL_SHIFT, sz1 = (sz + reach) >> CELL_SHIFT;
+        int ex0 = (ex - reach) >> CELL_SHIFT, ex1 = (ex + reach) >> CELL_SHIFT;
+        int ey0 = (ey - reach) >> CELL_SHIFT, ey1 = (ey + reach) >> CELL_SHIFT;
+        int ez0 = (ez - reach) >> CELL_SHIFT, ez1 = (ez + reach) >> CELL_SHIFT;
+
+        for (int cx = sx0; cx <= sx1; cx++) {
+            for (int cy = sy0; cy <= sy1; cy++) {
+                for (int cz = sz0; cz <= sz1; cz++) {
+                    long startCell = packCell(cx, cy, cz);
+                    for (int tx = ex0; tx <= ex1; tx++) {
+                        for (int ty = ey0; ty <= ey1; ty++) {
+                            for (int tz = ez0; tz <= ez1; tz++) {
+                                Set<PathCacheKey> keys = buckets.get(bucketKey(startCell, packCell(tx, ty, tz)));
+                                if (keys == null) {
+                                    continue;
+                                }
+                                for (PathCacheKey candidate : keys) {
+                                    if (candidate.isSimilar(query, tolerance) && accept.test(candidate)) {
+                                        return candidate;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long bucketOf(PathCacheKey key) {
+        long start = key.getStartHash();
+        long end = key.getEndHash();
+        return bucketKey(
+            packCell(PathCacheKey.decodeX(start) >> CELL_SHIFT, PathCacheKey.decodeY(start) >> CELL_SHIFT,
+                PathCacheKey.decodeZ(start) >> CELL_SHIFT),
+            packCell(PathCacheKey.decodeX(end) >> CELL_SHIFT, PathCacheKey.decodeY(end) >> CELL_SHIFT,
+                PathCacheKey.decodeZ(end) >> CELL_SHIFT));
+    }
+
+    private static long packCell(int cx, int cy, int cz) {
+        return ((long) (cx & 0x3FFFFF) << 42) | ((long) (cy & 0xFFFFF) << 22) | (cz & 0x3FFFFF);
+    }
+
+    private static long bucketKey(long startCell, long targetCell) {
+        return startCell * 0x9E3779B97F4A7C15L ^ Long.rotateLeft(targetCell, 29);
+    }
+}
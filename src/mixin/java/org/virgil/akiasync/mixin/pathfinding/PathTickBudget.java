@@ -0,0 +1,280 @@
+package org.virgil.akiasync.mixin.pathfinding;
+
+import org.virgil.akiasync.mixin.async.executor.WeightedLane;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PathTickBudget {
+
+    public enum Tier { HIGH, MEDIUM, LOW }
+
+    private static final int BATCH_SIZE = 8;
+    private static final Tier[] TIERS = Tier.values();
+
+    private static final class Request {
+        final Runnable compute;
+        final Runnable onDrop;
+        final Tier tier;
+        final long enqueuedTick;
+
+        Request(Runnable compute, Runnable onDrop, Tier tier, long enqueuedTick) {
+            this.compute = compute;
+            this.onDrop = onDrop;
+            this.tier = tier;
+            this.enqueuedTick = enqueuedTick;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentLinkedDeque<Request>[] queues = new ConcurrentLinkedDeque[TIERS.length];
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder droppedOverflow = new LongAdder();
+    private final LongAdder droppedExpired = new LongAdder();
+    private final LongAdder saturations = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private volatile int maxPerTick = 32;
+    private volatile int maxDeferralTicks = 40;
+    private volatile int maxPending = 500;
+    private volatile double highDistance = 16;
+    private volatile double mediumDistance = 48;
+
+    private long budgetTick = Long.MIN_VALUE;
+    private int remaining;
+
+    PathTickBudget() {
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    void configure(int maxPerTick, int maxDeferralTicks, int maxPending, int highDistance, int mediumDistance) {
+        this.maxPerTick = Math.max(1, maxPerTick);
+        this.maxDeferralTicks = Math.max(1, maxDeferralTicks);
+        this.maxPending = Math.max(this.maxPerTick, maxPending);
+        this.highDistance = highDistance;
+        this.mediumDistance = Math.max(highDistance, mediumDistance);
+    }
+
+    Tier tierOf(double distanceToPlayer) {
+        if (distanceToPlayer < highDistance) {
+            return Tier.HIGH;
+        }
+        return distanceToPlayer < mediumDistance ? Tier.MEDIUM : Tier.LOW;
+    }
+
+    void offer(Runnable compute, Runnable onDrop, double distanceToPlayer, long tick) {
+        Tier tier = tierOf(distanceToPlayer);
+        if (pending.incrementAndGet() > maxPending) {
+            Request victim = pollLowerThan(tier);
+            if (victim == null) {
+                pending.decrementAndGet();
+                droppedOverflow.increment();
+                drop(onDrop);
+                return;
+            }
+            pending.decrementAndGet();
+            droppedOverflow.increment();
+            drop(victim.onDrop);
+        }
+        queues[tier.ordinal()].offerLast(new Request(compute, onDrop, tier, tick));
+        scheduled.increment();
+    }
+
+    private Request pollLowerThan(Tier tier) {
+        for (int i = TIERS.length - 1; i > tier.ordinal(); i--) {
+            Request victim = queues[i].pollLast();
+            if (victim != null) {
+                return victim;
+            }
+        }
+        return null;
+    }
+
+    synchronized void flush(Executor executor, long tick) {
+        if (tick != budgetTick) {
+            budgetTick = tick;
+            remaining = maxPerTick;
+            expire(tick);
+        }
+        if (pending.get() == 0) {
+            return;
+        }
+
+        List<Request> batch = new ArrayList<>(BATCH_SIZE);
+        for (Tier tier : TIERS) {
+            ConcurrentLinkedDeque<Request> queue = queues[tier.ordinal()];
+            while (remaining > 0) {
+                if (isSaturated(executor)) {
+                    saturations.increment();
+                    requeue(batch);
+                    return;
+                }
+                Request request = queue.pollFirst();
+                if (request == null) {
+                    break;
+                }
+                pending.decrementAndGet();
+
+                if (request.enqueuedTick != tick) {
+                    if (tick - request.enqueuedTick > maxDeferralTicks) {
+                        droppedExpired.increment();
+                        drop(request.onDrop);
+                        continue;
+                    }
+                    deferred.increment();
+                }
+
+                batch.add(request);
+                remaining--;
+                if (batch.size() == BATCH_SIZE && !dispatch(executor, batch)) {
+                    return;
+                }
+            }
+        }
+        dispatch(executor, batch);
+    }
+
+    private void expire(long tick) {
+        for (ConcurrentLinkedDeque<Request> queue : queues) {
+            Request head;
+            while ((head = queue.peekFirst()) != null && tick - head.enqueuedTick > maxDeferralTicks) {
+                Request request = queue.pollFirst();
+                if (request == null) {
+                    break;
+                }
+                if (tick - request.enqueuedTick <= maxDeferralTicks) {
+                    queue.offerFirst(request);
+                    break;
+                }
+                pending.decrementAndGet();
+                droppedExpired.increment();
+                drop(request.onDrop);
+            }
+        }
+    }
+
+    private boolean dispatch(Executor executor, List<Request> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        List<Request> tasks = new ArrayList<>(batch);
+        long asyncStartNanos = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                for (Request request : tasks) {
+                    try {
+                        request.compute.run();
+                    } catch (Exception e) {
+                        BridgeConfigCache.errorLog("[AkiAsync-PathBudget] Path computation failed: %s", e);
+                        drop(request.onDrop);
+                    }
+                }
+                AsyncMetrics.recordLatency(AsyncMetrics.PATHFINDING, asyncStartNanos);
+            });
+        } catch (RejectedExecutionException e) {
+            saturations.increment();
+            requeue(batch);
+            return false;
+        }
+        batches.increment();
+        dispatched.add(tasks.size());
+        batch.clear();
+        return true;
+    }
+
+    private void requeue(List<Request> batch) {
+        remaining += batch.size();
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            Request request = batch.get(i);
+            queues[request.tier.ordinal()].offerFirst(request);
+            pending.incrementAndGet();
+        }
+        batch.clear();
+    }
+
+    private static boolean isSaturated(Executor executor) {
+        return executor instanceof WeightedLane lane && lane.isSaturated();
+    }
+
+    void cancelAll() {
+        for (ConcurrentLinkedDeque<Request> queue : queues) {
+            Request request;
+            while ((request = queue.pollFirst()) != null) {
+                pending.decrementAndGet();
+                drop(request.onDrop);
+            }
+        }
+    }
+
+    private static void drop(Runnable onDrop) {
+        try {
+            onDrop.run();
+        } catch (Exception e) {
+            BridgeConfigCache.errorLog("[AkiAsync-PathBudget] Failed to release a dropped path request: %s", e);
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public int getPendingCount(Tier tier) {
+        return queues[tier.ordinal()].size();
+    }
+
+    public long getScheduledCount() {
+        return scheduled.sum();
+    }
+
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    public long getDeferredCount() {
+        return deferred.sum();
+    }
+
+    public long getDroppedOverflowCount() {
+        return droppedOverflow.sum();
+    }
+
+    public long getDroppedExpiredCount() {
+        return droppedExpired.sum();
+    }
+
+    public long getSaturationCount() {
+        return saturations.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public int getMaxPerTick() {
+        return maxPerTick;
+    }
+
+    public String getStatistics() {
+        long batchCount = batches.sum();
+        long dispatchedCount = dispatched.sum();
+        return String.format(
+            "Budget=%d/tick | Pending(H=%d,M=%d,L=%d) | Dispatched=%d | Batches=%d | AvgBatch=%.1f | Deferred=%d | Dropped(overflow=%d,expired=%d) | Saturated=%d",
+            maxPerTick,
+            getPendingCount(Tier.HIGH), getPendingCount(Tier.MEDIUM), getPendingCount(Tier.LOW),
+            dispatchedCount, batchCount, batchCount > 0 ? (double) dispatchedCount / batchCount : 0.0,
+            deferred.sum(), droppedOverflow.sum(), droppedExpired.sum(), saturations.sum());
+    }
+}
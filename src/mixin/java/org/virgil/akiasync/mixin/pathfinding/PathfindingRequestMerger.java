@@ -1,54 +1,88 @@
 package org.virgil.akiasync.mixin.pathfinding;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.pathfinder.Node;
 import net.minecraft.world.level.pathfinder.Path;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 public class PathfindingRequestMerger {
-    
-    public static class PathRequest {
-        public final Mob entity;
-        public final BlockPos start;
-        public final BlockPos target;
-        public final CompletableFuture<Path> future;
-        public final long timestamp;
-        
-        public PathRequest(Mob entity, BlockPos start, BlockPos target) {
-            this.entity = entity;
+
+    private static final int START_CELL_SHIFT = 2;
+    private static final int TARGET_CELL_SHIFT = 1;
+
+    public static final class RequestKey {
+        private final long start;
+        private final long[] targets;
+        private final float maxRange;
+        private final int accuracy;
+        private final Object navigationType;
+        private final Object entityType;
+        private final int hashCode;
+
+        private RequestKey(long start, long[] targets, float maxRange, int accuracy,
+                           Object navigationType, Object entityType) {
             this.start = start;
-            this.target = target;
-            this.future = new CompletableFuture<>();
-            this.timestamp = System.currentTimeMillis();
+            this.targets = targets;
+            this.maxRange = maxRange;
+            this.accuracy = accuracy;
+            this.navigationType = navigationType;
+            this.entityType = entityType;
+            int hash = Long.hashCode(start);
+            hash = 31 * hash + Arrays.hashCode(targets);
+            hash = 31 * hash + Float.floatToIntBits(maxRange);
+            hash = 31 * hash + accuracy;
+            hash = 31 * hash + System.identityHashCode(navigationType);
+            this.hashCode = 31 * hash + System.identityHashCode(entityType);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof RequestKey)) return false;
+
+            RequestKey other = (RequestKey) obj;
+            return start == other.start && accuracy == other.accuracy
+                && Float.floatToIntBits(maxRange) == Float.floatToIntBits(other.maxRange)
+                && navigationType == other.navigationType && entityType == other.entityType
+                && Arrays.equals(targets, other.targets);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
-    
+
     public static long encodePosition(BlockPos pos) {
         return encodePosition(pos.getX(), pos.getY(), pos.getZ());
     }
-    
+
     public static long encodePosition(int x, int y, int z) {
-        
+
         long encodedX = (long) x & 0x1FFFFF;
         long encodedY = (long) y & 0x1FFFFF;
         long encodedZ = (long) z & 0x1FFFFF;
-        
+
         return (encodedX << 42) | (encodedY << 21) | encodedZ;
     }
-    
+
     public static int decodeX(long encoded) {
         int x = (int) ((encoded >> 42) & 0x1FFFFF);
-        
+
         if ((x & 0x100000) != 0) {
             x |= 0xFFE00000;
         }
         return x;
     }
-    
+
     public static int decodeY(long encoded) {
         int y = (int) ((encoded >> 21) & 0x1FFFFF);
         if ((y & 0x100000) != 0) {
@@ -56,7 +90,7 @@ public class PathfindingRequestMerger {
         }
         return y;
     }
-    
+
     public static int decodeZ(long encoded) {
         int z = (int) (encoded & 0x1FFFFF);
         if ((z & 0x100000) != 0) {
@@ -64,100 +98,106 @@ public class PathfindingRequestMerger {
         }
         return z;
     }
-    
+
     public static long createPathKey(BlockPos start, BlockPos target) {
-        long startEncoded = encodePosition(start);
-        long targetEncoded = encodePosition(target);
-        
+        return createPathKey(encodePosition(start), encodePosition(target));
+    }
+
+    private static long createPathKey(long startEncoded, long targetEncoded) {
         return startEncoded ^ (targetEncoded * 31);
     }
-    
-    private final Long2ObjectOpenHashMap<List<PathRequest>> pendingRequests;
-    
-    private static final int MAX_BATCH_SIZE = 50;
-    
-    private static final long MAX_WAIT_TIME = 50;
-    
-    public PathfindingRequestMerger() {
-        this.pendingRequests = new Long2ObjectOpenHashMap<>();
-    }
-    
-    public CompletableFuture<Path> addRequest(Mob entity, BlockPos start, BlockPos target) {
-        long key = createPathKey(start, target);
-        
-        PathRequest request = new PathRequest(entity, start, target);
-        
-        synchronized (pendingRequests) {
-            List<PathRequest> requests = pendingRequests.get(key);
-            if (requests == null) {
-                requests = new ArrayList<>();
-                pendingRequests.put(key, requests);
-            }
-            requests.add(request);
-            
-            if (requests.size() >= MAX_BATCH_SIZE || shouldFlush(requests)) {
-                flushRequests(key, requests);
+
+    private static long encodeCell(BlockPos pos, int shift) {
+        return encodePosition(pos.getX() >> shift, pos.getY(), pos.getZ() >> shift);
+    }
+
+    public static RequestKey keyOf(Mob mob, BlockPos start, Set<BlockPos> targets, float maxRange, int accuracy) {
+        long[] cells = new long[targets == null ? 0 : targets.size()];
+        int count = 0;
+        if (targets != null) {
+            for (BlockPos target : targets) {
+                cells[count++] = encodeCell(target, TARGET_CELL_SHIFT);
             }
         }
-        
-        return request.future;
+        Arrays.sort(cells, 0, count);
+        return newKey(mob, start, cells, maxRange, accuracy);
     }
-    
-    private boolean shouldFlush(List<PathRequest> requests) {
-        if (requests.isEmpty()) {
-            return false;
+
+    public static RequestKey keyOf(Mob mob, BlockPos start, BlockPos target) {
+        return newKey(mob, start, new long[] {encodeCell(target, TARGET_CELL_SHIFT)}, 0.0F, 0);
+    }
+
+    public static RequestKey keyOf(BlockPos start, BlockPos target) {
+        return keyOf(null, start, target);
+    }
+
+    private static RequestKey newKey(Mob mob, BlockPos start, long[] targets, float maxRange, int accuracy) {
+        long startCell = start == null ? 0L : encodeCell(start, START_CELL_SHIFT);
+        if (mob == null) {
+            return new RequestKey(startCell, targets, maxRange, accuracy, null, null);
         }
-        
-        long oldestTimestamp = requests.get(0).timestamp;
-        return System.currentTimeMillis() - oldestTimestamp > MAX_WAIT_TIME;
-    }
-    
-    private void flushRequests(long key, List<PathRequest> requests) {
-        if (requests.isEmpty()) {
-            return;
+        return new RequestKey(startCell, targets, maxRange, accuracy,
+            mob.getNavigation().getClass(), mob.getType());
+    }
+
+    public static Path copyOf(Path path) {
+        if (path == null) {
+            return null;
         }
-        
-        pendingRequests.remove(key);
-        
-        PathRequest representative = requests.get(0);
-        
-        CompletableFuture.supplyAsync(() -> {
-            try {
-                
-                return computePath(representative.entity, representative.start, representative.target);
-            } catch (Exception e) {
-                return null;
-            }
-        }).thenAccept(path -> {
-            
-            for (PathRequest request : requests) {
-                request.future.complete(path);
-            }
-        });
-    }
-    
-    private Path computePath(Mob entity, BlockPos start, BlockPos target) {
-        
-        return null;
-    }
-    
-    public void flushAll() {
-        synchronized (pendingRequests) {
-            for (Long2ObjectOpenHashMap.Entry<List<PathRequest>> entry : pendingRequests.long2ObjectEntrySet()) {
-                flushRequests(entry.getLongKey(), entry.getValue());
-            }
-            pendingRequests.clear();
+        int count = path.getNodeCount();
+        List<Node> nodes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            nodes.add(path.getNode(i));
         }
+        return new Path(nodes, path.getTarget(), path.canReach());
     }
-    
-    public String getStats() {
-        synchronized (pendingRequests) {
-            int totalRequests = 0;
-            for (List<PathRequest> requests : pendingRequests.values()) {
-                totalRequests += requests.size();
+
+    private final ConcurrentHashMap<RequestKey, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder followers = new LongAdder();
+
+    public CompletableFuture<Path> tryLead(RequestKey key, CompletableFuture<Path> leaderFuture) {
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(key, leaderFuture);
+        if (existing == null) {
+            leaders.increment();
+            return null;
+        }
+        followers.increment();
+        return existing.thenApply(PathfindingRequestMerger::copyOf);
+    }
+
+    public void finish(RequestKey key, CompletableFuture<Path> leaderFuture, Path path, Throwable failure) {
+        inFlight.remove(key, leaderFuture);
+        if (failure != null) {
+            leaderFuture.completeExceptionally(failure);
+        } else {
+            leaderFuture.complete(path);
+        }
+    }
+
+    public void cancelAll() {
+        for (RequestKey key : inFlight.keySet()) {
+            CompletableFuture<Path> future = inFlight.remove(key);
+            if (future != null) {
+                future.complete(null);
             }
-            return String.format("Pending groups: %d, Total requests: %d", 
-                pendingRequests.size(), totalRequests);
         }
     }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getLeaderCount() {
+        return leaders.sum();
+    }
+
+    public long getFollowerCount() {
+        return followers.sum();
+    }
+
+    public String getStats() {
+        return String.format("InFlight=%d | Leaders=%d | Followers=%d",
+            inFlight.size(), leaders.sum(), followers.sum());
+    }
 }
@@ -0,0 +1,535 @@
+package org.virgil.akiasync.mixin.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.virgil.akiasync.mixin.util.BridgeConfigCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PersistentPathStore {
+
+    private static final int MAGIC = 0x414B5043;
+    private static final int VERSION = 1;
+    private static final int ENTRY_FIXED_BYTES = 8 + 8 + 8 + 4 + 4 + 1;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static volatile boolean enabled = false;
+    private static volatile java.nio.file.Path directory;
+    private static volatile int maxEntries = 2048;
+    private static volatile int minHits = 3;
+
+    private static final Map<ServerLevel, Map<PathCacheKey, Candidate>> CANDIDATES = new ConcurrentHashMap<>();
+    private static final Map<ServerLevel, LevelStore> STORES = new HashMap<>();
+    private static ExecutorService ioExecutor;
+
+    private static final LongAdder restored = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+    private static final LongAdder saved = new LongAdder();
+
+    private PersistentPathStore() {
+    }
+
+    private static final class Candidate {
+        final PathCacheKey key;
+        final AtomicInteger hits;
+        volatile PackedPath path;
+        volatile PathSectionStamp stamp;
+
+        Candidate(PathCacheKey key, PackedPath path, PathSectionStamp stamp, int hits) {
+            this.key = key;
+            this.path = path;
+            this.stamp = stamp;
+            this.hits = new AtomicInteger(hits);
+        }
+    }
+
+    private static final class StoredEntry {
+        final int offset;
+        final int length;
+        final long[] chunks;
+        final StoredEntry source;
+        boolean done;
+
+        StoredEntry(int offset, int length, long[] chunks, StoredEntry source) {
+            this.offset = offset;
+            this.length = length;
+            this.chunks = chunks;
+            this.source = source;
+        }
+    }
+
+    private static final class LevelStore {
+        final java.nio.file.Path file;
+        ByteBuffer data;
+        boolean saving;
+        final List<StoredEntry> entries = new ArrayList<>();
+        final Long2ObjectOpenHashMap<List<StoredEntry>> byChunk = new Long2ObjectOpenHashMap<>();
+
+        LevelStore(java.nio.file.Path file) {
+            this.file = file;
+        }
+
+        void index(StoredEntry entry) {
+            entries.add(entry);
+            for (long chunk : entry.chunks) {
+                byChunk.computeIfAbsent(chunk, k -> new ArrayList<>(2)).add(entry);
+            }
+        }
+    }
+
+    public static synchronized void configure(boolean enable, java.nio.file.Path dir, int maxEntryCount, int minHitCount) {
+        enabled = enable && dir != null;
+        directory = dir;
+        maxEntries = Math.max(16, maxEntryCount);
+        minHits = Math.max(1, minHitCount);
+        if (!enabled) {
+            STORES.clear();
+            CANDIDATES.clear();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void recordHit(Level level, PathCacheKey key, PackedPath path, PathSectionStamp stamp) {
+        if (!enabled || path == null || stamp == null || !(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        Map<PathCacheKey, Candidate> candidates = candidates(serverLevel);
+        Candidate candidate = candidates.get(key);
+        if (candidate == null) {
+            if (candidates.size() >= maxEntries * 2) {
+                return;
+            }
+            candidate = candidates.computeIfAbsent(key, k -> new Candidate(k, path, stamp, 0));
+        }
+        candidate.path = path;
+        candidate.stamp = stamp;
+        candidate.hits.incrementAndGet();
+    }
+
+    private static Map<PathCacheKey, Candidate> candidates(ServerLevel level) {
+        return CANDIDATES.computeIfAbsent(level, ignored -> new ConcurrentHashMap<>());
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (ioExecutor == null) {
+            ioExecutor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "AkiAsync-PathStore");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return ioExecutor;
+    }
+
+    public static synchronized void onLevelLoaded(ServerLevel level) {
+        if (enabled) {
+            open(level);
+        }
+    }
+
+    public static synchronized void onChunkLoaded(ServerLevel level, int chunkX, int chunkZ) {
+        if (!enabled) {
+            return;
+        }
+        LevelStore store = open(level);
+        List<StoredEntry> entries = store.byChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (entries == null) {
+            return;
+        }
+        for (StoredEntry entry : entries) {
+            if (!entry.done && allLoaded(level, entry.chunks)) {
+                restore(level, store, entry);
+            }
+        }
+    }
+
+    public static synchronized void onLevelUnloaded(ServerLevel level) {
+        if (!enabled) {
+            return;
+        }
+        save(level, true);
+        STORES.remove(level);
+        CANDIDATES.remove(level);
+    }
+
+    public static synchronized void onLevelSaved(ServerLevel level) {
+        if (enabled) {
+            save(level, false);
+        }
+    }
+
+    public static void saveAll() {
+        ExecutorService exec;
+        synchronized (PersistentPathStore.class) {
+            if (enabled) {
+                for (ServerLevel level : new ArrayList<>(STORES.keySet())) {
+                    save(level, true);
+                }
+            }
+            exec = ioExecutor;
+            ioExecutor = null;
+        }
+        if (exec == null) {
+            return;
+        }
+        exec.shutdown();
+        try {
+            if (!exec.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                BridgeConfigCache.errorLog("[PathStore] Timed out after %d seconds writing path caches", SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LevelStore open(ServerLevel level) {
+        LevelStore store = STORES.get(level);
+        if (store != null) {
+            return store;
+        }
+
+        store = new LevelStore(directory.resolve(fileName(level)));
+        STORES.put(level, store);
+        if (!Files.isRegularFile(store.file)) {
+            return store;
+        }
+
+        try {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(store.file));
+            if (data.remaining() < 16 || data.getInt() != MAGIC || data.getInt() != VERSION
+                || data.getInt() != Block.BLOCK_STATE_REGISTRY.size()) {
+                return store;
+            }
+            int count = data.getInt();
+            for (int i = 0; i < count; i++) {
+                int offset = data.position();
+                int length = data.getInt();
+                data.position(offset + 4 + ENTRY_FIXED_BYTES);
+                long[] chunks = new long[data.getShort() & 0xFFFF];
+                for (int c = 0; c < chunks.length; c++) {
+                    chunks[c] = data.getLong();
+                }
+                data.position(offset + 4 + length);
+                store.index(new StoredEntry(offset, length, chunks, null));
+            }
+            store.data = data;
+        } catch (IOException | RuntimeException e) {
+            store.entries.clear();
+            store.byChunk.clear();
+            BridgeConfigCache.debugLog("[PathStore] Ignoring unreadable path cache " + store.file + ": " + e.getMessage());
+            return store;
+        }
+
+        for (StoredEntry entry : store.entries) {
+            if (allLoaded(level, entry.chunks)) {
+                restore(level, store, entry);
+            }
+        }
+        return store;
+    }
+
+    private static void restore(ServerLevel level, LevelStore store, StoredEntry entry) {
+        entry.done = true;
+        ByteBuffer data = store.data.duplicate();
+        data.position(entry.offset + 4);
+
+        BlockPos start = BlockPos.of(data.getLong());
+        BlockPos target = BlockPos.of(data.getLong());
+        long pathTarget = data.getLong();
+        int hits = data.getInt();
+        int fingerprint = data.getInt();
+        boolean reached = (data.get() & 1) != 0;
+        int chunkCount = data.getShort() & 0xFFFF;
+        data.position(data.position() + chunkCount * 8);
+
+        int nodeCount = data.getShort() & 0xFFFF;
+        long[] positions = new long[nodeCount];
+        byte[] types = new byte[nodeCount];
+        int x = 0;
+        int y = 0;
+        int z = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            if (i == 0) {
+                x = data.getInt();
+                y = data.getInt();
+                z = data.getInt();
+            } else {
+                x += data.get();
+                y += data.get();
+                z += data.get();
+            }
+            positions[i] = BlockPos.asLong(x, y, z);
+            types[i] = data.get();
+        }
+
+        PackedPath path = new PackedPath(positions, types, pathTarget, reached);
+        if (nodeCount == 0 || fingerprint(level, path) != fingerprint) {
+            rejected.increment();
+            return;
+        }
+
+        SharedPathCache.cachePath(start, target, path);
+        PathCacheKey key = new PathCacheKey(start, target);
+        candidates(level).putIfAbsent(key, new Candidate(key, path, PathSectionStamp.capture(path), hits / 2));
+        restored.increment();
+    }
+
+    private static void save(ServerLevel level, boolean force) {
+        LevelStore store = open(level);
+        if (store.saving && !force) {
+            return;
+        }
+        Map<PathCacheKey, Candidate> candidates = candidates(level);
+        int threshold = minHits;
+        int limit = maxEntries;
+
+        List<Candidate> hot = new ArrayList<>();
+        for (Candidate candidate : candidates.values()) {
+            if (candidate.hits.get() >= threshold && candidate.stamp.isCurrent()
+                && !level.getPoiManager().getType(decode(candidate.key.getEndHash())).isEmpty()) {
+                hot.add(candidate);
+            }
+        }
+        hot.sort((a, b) -> Integer.compare(b.hits.get(), a.hits.get()));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        List<StoredEntry> pending = new ArrayList<>();
+        int count = 0;
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(Block.BLOCK_STATE_REGISTRY.size());
+            out.writeInt(0);
+
+            for (Candidate candidate : hot) {
+                if (count >= limit) {
+                    break;
+                }
+                if (writeCandidate(level, candidate, out)) {
+                    count++;
+                }
+            }
+
+            if (store.data != null) {
+                for (StoredEntry entry : store.entries) {
+                    if (count >= limit) {
+                        break;
+                    }
+                    if (entry.done) {
+                        continue;
+                    }
+                    int offset = out.size();
+                    ByteBuffer raw = store.data.duplicate();
+                    raw.position(entry.offset).limit(entry.offset + 4 + entry.length);
+                    byte[] copy = new byte[raw.remaining()];
+                    raw.get(copy);
+                    out.write(copy);
+                    pending.add(new StoredEntry(offset, entry.length, entry.chunks, entry));
+                    count++;
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            return;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        buffer.putInt(12, count);
+        int written = count;
+        java.nio.file.Path dir = directory;
+
+        store.saving = true;
+        executor().execute(() -> write(store, buffer, pending, dir, written));
+
+        for (Candidate candidate : hot) {
+            candidate.hits.set(candidate.hits.get() / 2);
+        }
+        if (candidates.size() > limit) {
+            candidates.values().removeIf(candidate -> candidate.hits.get() < threshold);
+        }
+    }
+
+    private static void write(LevelStore store, ByteBuffer buffer, List<StoredEntry> pending,
+                              java.nio.file.Path dir, int count) {
+        try {
+            Files.createDirectories(dir);
+            java.nio.file.Path tmp = store.file.resolveSibling(store.file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            Files.move(tmp, store.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            synchronized (PersistentPathStore.class) {
+                store.saving = false;
+            }
+            BridgeConfigCache.debugLog("[PathStore] Failed to save path cache " + store.file + ": " + e.getMessage());
+            return;
+        }
+
+        buffer.rewind();
+        synchronized (PersistentPathStore.class) {
+            store.saving = false;
+            store.entries.clear();
+            store.byChunk.clear();
+            store.data = buffer;
+            for (StoredEntry entry : pending) {
+                entry.done = entry.source.done;
+                store.index(entry);
+            }
+        }
+        saved.add(count);
+    }
+
+    private static BlockPos decode(long hash) {
+        return new BlockPos(PathCacheKey.decodeX(hash), PathCacheKey.decodeY(hash), PathCacheKey.decodeZ(hash));
+    }
+
+    private static boolean writeCandidate(ServerLevel level, Candidate candidate, DataOutputStream out) throws IOException {
+        PackedPath path = candidate.path;
+        int nodeCount = path.getNodeCount();
+        if (nodeCount == 0 || nodeCount > 0xFFFF) {
+            return false;
+        }
+
+        BlockPos target = decode(candidate.key.getEndHash());
+        LongOpenHashSet chunkSet = new LongOpenHashSet();
+        for (int i = 0; i < nodeCount; i++) {
+            if (i > 0 && (!fitsInByte(path.getX(i) - path.getX(i - 1)) || !fitsInByte(path.getY(i) - path.getY(i - 1))
+                || !fitsInByte(path.getZ(i) - path.getZ(i - 1)))) {
+                return false;
+            }
+            chunkSet.add(ChunkPos.asLong(path.getX(i) >> 4, path.getZ(i) >> 4));
+        }
+        long[] chunks = chunkSet.toLongArray();
+        if (chunks.length > 0xFFFF || !allLoaded(level, chunks)) {
+            return false;
+        }
+        int fingerprint = fingerprint(level, path);
+
+        BlockPos start = decode(candidate.key.getStartHash());
+
+        int length = ENTRY_FIXED_BYTES + 2 + chunks.length * 8 + 2 + 13 + (nodeCount - 1) * 4;
+        out.writeInt(length);
+        out.writeLong(start.asLong());
+        out.writeLong(target.asLong());
+        out.writeLong(path.getTarget());
+        out.writeInt(candidate.hits.get());
+        out.writeInt(fingerprint);
+        out.writeByte(path.canReach() ? 1 : 0);
+        out.writeShort(chunks.length);
+        for (long chunk : chunks) {
+            out.writeLong(chunk);
+        }
+        out.writeShort(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            if (i == 0) {
+                out.writeInt(path.getX(i));
+                out.writeInt(path.getY(i));
+                out.writeInt(path.getZ(i));
+            } else {
+                out.writeByte(path.getX(i) - path.getX(i - 1));
+                out.writeByte(path.getY(i) - path.getY(i - 1));
+                out.writeByte(path.getZ(i) - path.getZ(i - 1));
+            }
+            out.writeByte(path.getType(i));
+        }
+        return true;
+    }
+
+    private static boolean fitsInByte(int delta) {
+        return delta >= Byte.MIN_VALUE && delta <= Byte.MAX_VALUE;
+    }
+
+    private static boolean allLoaded(ServerLevel level, long[] chunks) {
+        for (long chunk : chunks) {
+            if (level.getChunkSource().getChunkNow(ChunkPos.getX(chunk), ChunkPos.getZ(chunk)) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int fingerprint(ServerLevel level, PackedPath path) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int hash = 1;
+        for (int i = 0; i < path.getNodeCount(); i++) {
+            int x = path.getX(i);
+            int y = path.getY(i);
+            int z = path.getZ(i);
+            LevelChunk chunk = level.getChunkSource().getChunkNow(x >> 4, z >> 4);
+            if (chunk == null) {
+                return 0;
+            }
+            hash = 31 * hash + Block.getId(chunk.getBlockState(pos.set(x, y, z)));
+            hash = 31 * hash + Block.getId(chunk.getBlockState(pos.set(x, y - 1, z)));
+        }
+        return hash;
+    }
+
+    private static String fileName(ServerLevel level) {
+        return level.dimension().location().toString().replaceAll("[^a-zA-Z0-9._-]", "_") + ".paths";
+    }
+
+    public static long getRestoredCount() {
+        return restored.sum();
+    }
+
+    public static long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public static long getSavedCount() {
+        return saved.sum();
+    }
+
+    public static synchronized String getStatistics() {
+        if (!enabled) {
+            return "PathStore: disabled";
+        }
+        int candidates = 0;
+        for (Map<PathCacheKey, Candidate> levelCandidates : CANDIDATES.values()) {
+            candidates += levelCandidates.size();
+        }
+        int pending = 0;
+        for (LevelStore store : STORES.values()) {
+            for (StoredEntry entry : store.entries) {
+                if (!entry.done) {
+                    pending++;
+                }
+            }
+        }
+        return String.format("PathStore: %d candidates | %d pending | Restored=%d | Rejected=%d | Saved=%d",
+            candidates, pending, restored.sum(), rejected.sum(), saved.sum());
+    }
+}
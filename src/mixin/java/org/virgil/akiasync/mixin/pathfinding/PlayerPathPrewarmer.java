@@ -9,12 +9,12 @@ import net.minecraft.world.entity.ai.village.poi.PoiManager;
 import net.minecraft.world.entity.ai.village.poi.PoiRecord;
 import net.minecraft.world.entity.ai.village.poi.PoiTypes;
 import net.minecraft.world.level.pathfinder.Path;
+import org.virgil.akiasync.mixin.optimization.thread.VirtualThreadService;
 import org.virgil.akiasync.mixin.util.BridgeConfigCache;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -42,11 +42,7 @@ public class PlayerPathPrewarmer {
         if (running) return;
         
         running = true;
-        scheduler = new ScheduledThreadPoolExecutor(1, r -> {
-            Thread thread = new Thread(r, "PathPrewarmer");
-            thread.setDaemon(true);
-            return thread;
-        });
+        scheduler = VirtualThreadService.newScheduledExecutor("PathPrewarmer-");
         
         BridgeConfigCache.debugLog("[PathPrewarmer] Starting prewarm for player");
         
@@ -0,0 +1,600 @@
+package org.virgil.akiasync.mixin.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.navigation.GroundPathNavigation;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.entity.ai.navigation.WallClimberNavigation;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.PathNavigationRegion;
+import net.minecraft.world.level.block.DoorBlock;
+import net.minecraft.world.level.block.FenceGateBlock;
+import net.minecraft.world.level.block.TrapDoorBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.EmptyLevelChunk;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.level.pathfinder.PathFinder;
+import org.virgil.akiasync.mixin.util.SectionChangeTracker;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class RegionNavigationGraph {
+
+    private static final int MAX_LABEL = 0xFFF;
+    private static final int MAX_SECTIONS_PER_LEVEL = 2048;
+    private static final int EVICTION_DIVISOR = 4;
+    private static final int MAX_COARSE_EXPANSIONS = 2048;
+    private static final float UNREACHABLE_BUDGET = 0.25f;
+
+    private static final int UNREACHABLE = -1;
+    private static final int UNKNOWN = -2;
+
+    private static final int[] STEP_X = {1, -1, 0, 0};
+    private static final int[] STEP_Z = {0, 0, 1, -1};
+
+    private static volatile boolean enabled = true;
+    private static volatile int minDistance = 32;
+
+    private static final Map<Level, Map<Long, SectionGraph>> LEVELS = new ConcurrentHashMap<>();
+
+    private static final LongAdder coarseQueries = new LongAdder();
+    private static final LongAdder prunedUnreachable = new LongAdder();
+    private static final LongAdder reachableRoutes = new LongAdder();
+    private static final LongAdder unknownRoutes = new LongAdder();
+    private static final LongAdder sectionBuilds = new LongAdder();
+    private static final LongAdder sectionEvictions = new LongAdder();
+
+    private RegionNavigationGraph() {
+    }
+
+    public static void configure(boolean enable, int minimumDistance) {
+        enabled = enable;
+        minDistance = Math.max(16, minimumDistance);
+        if (!enable) {
+            LEVELS.clear();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static Path findPath(PathFinder finder, PathNavigationRegion region, Mob mob, Set<BlockPos> targets,
+                                float maxRange, int accuracy, float depth) {
+        if (!enabled || targets == null || targets.isEmpty() || !isGroundNavigator(mob.getNavigation())) {
+            return finder.findPath(region, mob, targets, maxRange, accuracy, depth);
+        }
+
+        BlockPos start = mob.blockPosition();
+        double minDistanceSqr = (double) minDistance * minDistance;
+        boolean longDistance = true;
+        for (BlockPos target : targets) {
+            if (target.distSqr(start) < minDistanceSqr) {
+                longDistance = false;
+                break;
+            }
+        }
+        if (!longDistance) {
+            return finder.findPath(region, mob, targets, maxRange, accuracy, depth);
+        }
+
+        coarseQueries.increment();
+        int hops = route(mob.level(), region, start, targets, accuracy, maxRange);
+        if (hops == UNKNOWN) {
+            unknownRoutes.increment();
+            return finder.findPath(region, mob, targets, maxRange, accuracy, depth);
+        }
+        if (hops == UNREACHABLE) {
+            prunedUnreachable.increment();
+            return finder.findPath(region, mob, targets, maxRange, accuracy, depth * UNREACHABLE_BUDGET);
+        }
+
+        reachableRoutes.increment();
+        return finder.findPath(region, mob, targets, maxRange, accuracy, depth);
+    }
+
+    private static boolean isGroundNavigator(PathNavigation navigation) {
+        return navigation instanceof GroundPathNavigation && !(navigation instanceof WallClimberNavigation);
+    }
+
+    private static int route(Level level, PathNavigationRegion region, BlockPos start, Set<BlockPos> targets,
+                             int accuracy, float maxRange) {
+        Map<Long, SectionGraph> sections = LEVELS.computeIfAbsent(level, ignored -> new ConcurrentHashMap<>());
+        int rangeSections = ((int) Math.ceil(maxRange) >> 4) + 1;
+        SearchArea area = new SearchArea(sections, region, start.getX() >> 4, start.getY() >> 4,
+            start.getZ() >> 4, rangeSections);
+
+        LongOpenHashSet goals = new LongOpenHashSet();
+        int reach = Math.max(1, accuracy) + 1;
+        for (BlockPos target : targets) {
+            if (!area.collectNodes(target, reach, goals)) {
+                return UNKNOWN;
+            }
+        }
+        if (goals.isEmpty()) {
+            return UNKNOWN;
+        }
+
+        LongOpenHashSet origins = new LongOpenHashSet();
+        if (!area.collectNodes(start, 1, origins) || origins.isEmpty()) {
+            return UNKNOWN;
+        }
+
+        Long2IntOpenHashMap hops = new Long2IntOpenHashMap();
+        hops.defaultReturnValue(-1);
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        for (long origin : origins) {
+            if (goals.contains(origin)) {
+                return 0;
+            }
+            hops.put(origin, 0);
+            queue.enqueue(origin);
+        }
+
+        int expansions = 0;
+        while (!queue.isEmpty()) {
+            if (++expansions > MAX_COARSE_EXPANSIONS) {
+                return UNKNOWN;
+            }
+            long node = queue.dequeueLong();
+            int nextHops = hops.get(node) + 1;
+            int sx = nodeSectionX(node);
+            int sy = nodeSectionY(node);
+            int sz = nodeSectionZ(node);
+            SectionGraph graph = area.section(sx, sy, sz);
+            if (graph == null) {
+                continue;
+            }
+
+            int label = nodeLabel(node);
+            int from = graph.exitOffsets[label - 1];
+            int to = graph.exitOffsets[label];
+            for (int i = from; i < to; i++) {
+                int cell = graph.exitCells[i];
+                int wx = (sx << 4) | (cell & 15);
+                int wz = (sz << 4) | ((cell >> 4) & 15);
+                int wy = (sy << 4) | (cell >> 8);
+
+                for (int dir = 0; dir < 4; dir++) {
+                    int nx = wx + STEP_X[dir];
+                    int nz = wz + STEP_Z[dir];
+                    long stepUp = area.crossNode(sx, sy, sz, nx, wy + 1, nz);
+                    if (stepUp != 0 && hops.putIfAbsent(stepUp, nextHops) == -1) {
+                        if (goals.contains(stepUp)) {
+                            return nextHops;
+                        }
+                        queue.enqueue(stepUp);
+                    }
+                    long landing = area.landing(sx, sy, sz, nx, wy, nz);
+                    if (landing != 0 && hops.putIfAbsent(landing, nextHops) == -1) {
+                        if (goals.contains(landing)) {
+                            return nextHops;
+                        }
+                        queue.enqueue(landing);
+                    }
+                }
+                if (graph.vertical(cell)) {
+                    for (int dy = -1; dy <= 1; dy += 2) {
+                        long neighbor = area.crossNode(sx, sy, sz, wx, wy + dy, wz);
+                        if (neighbor != 0 && hops.putIfAbsent(neighbor, nextHops) == -1) {
+                            if (goals.contains(neighbor)) {
+                                return nextHops;
+                            }
+                            queue.enqueue(neighbor);
+                        }
+                    }
+                }
+            }
+        }
+
+        return area.touchedUnknown ? UNKNOWN : UNREACHABLE;
+    }
+
+    private static long packNode(int sx, int sy, int sz, int label) {
+        return ((long) (sx & 0x3FFFFF) << 42) | ((long) (sz & 0x3FFFFF) << 20) | ((long) (sy & 0xFF) << 12)
+            | Math.min(label, MAX_LABEL);
+    }
+
+    private static int nodeSectionX(long node) {
+        return (int) (node >> 42);
+    }
+
+    private static int nodeSectionZ(long node) {
+        return (int) (node << 22 >> 42);
+    }
+
+    private static int nodeSectionY(long node) {
+        return (int) (node << 44 >> 56);
+    }
+
+    private static int nodeLabel(long node) {
+        return (int) (node & MAX_LABEL);
+    }
+
+    private static long sectionKey(int sx, int sy, int sz) {
+        return packNode(sx, sy, sz, 0);
+    }
+
+    public static void removeLevel(Level level) {
+        LEVELS.remove(level);
+    }
+
+    public static void clear() {
+        LEVELS.clear();
+    }
+
+    public static String getStatistics() {
+        int cachedSections = 0;
+        for (Map<Long, SectionGraph> sections : LEVELS.values()) {
+            cachedSections += sections.size();
+        }
+        return String.format(
+            "RegionGraph: Queries=%d | PrunedUnreachable=%d | Reachable=%d | Unknown=%d | Sections=%d (built %d, evicted %d)",
+            coarseQueries.sum(), prunedUnreachable.sum(), reachableRoutes.sum(),
+            unknownRoutes.sum(), cachedSections, sectionBuilds.sum(), sectionEvictions.sum()
+        );
+    }
+
+    private static void evictOldest(Map<Long, SectionGraph> sections) {
+        synchronized (sections) {
+            int size = sections.size();
+            if (size < MAX_SECTIONS_PER_LEVEL) {
+                return;
+            }
+            long[] stamps = new long[size];
+            int count = 0;
+            for (SectionGraph graph : sections.values()) {
+                if (count == stamps.length) {
+                    break;
+                }
+                stamps[count++] = graph.lastUsed;
+            }
+            Arrays.sort(stamps, 0, count);
+            long cutoff = stamps[Math.max(0, count / EVICTION_DIVISOR - 1)];
+            int before = sections.size();
+            sections.values().removeIf(graph -> graph.lastUsed - cutoff <= 0);
+            sectionEvictions.add(before - sections.size());
+        }
+    }
+
+    private static final class SearchArea {
+        final Map<Long, SectionGraph> sections;
+        final PathNavigationRegion region;
+        final int originX;
+        final int originY;
+        final int originZ;
+        final int range;
+        boolean touchedUnknown;
+
+        SearchArea(Map<Long, SectionGraph> sections, PathNavigationRegion region,
+                   int originX, int originY, int originZ, int range) {
+            this.sections = sections;
+            this.region = region;
+            this.originX = originX;
+            this.originY = originY;
+            this.originZ = originZ;
+            this.range = range;
+        }
+
+        SectionGraph section(int sx, int sy, int sz) {
+            if (Math.abs(sx - originX) > range || Math.abs(sy - originY) > range || Math.abs(sz - originZ) > range) {
+                touchedUnknown = true;
+                return null;
+            }
+
+            long version = SectionChangeTracker.version(SectionChangeTracker.slotOf(sx, sy, sz));
+            long key = sectionKey(sx, sy, sz);
+            SectionGraph graph = sections.get(key);
+            if (graph != null && graph.version == version) {
+                graph.lastUsed = System.nanoTime();
+                return graph;
+            }
+
+            BlockGetter getter = region.getChunkForCollisions(sx, sz);
+            if (!(getter instanceof ChunkAccess chunk) || getter instanceof EmptyLevelChunk) {
+                touchedUnknown = true;
+                return null;
+            }
+
+            graph = SectionGraph.build(chunk, sx, sy, sz, version);
+            graph.lastUsed = System.nanoTime();
+            sectionBuilds.increment();
+            if (sections.size() >= MAX_SECTIONS_PER_LEVEL) {
+                evictOldest(sections);
+            }
+            sections.put(key, graph);
+            return graph;
+        }
+
+        long landing(int fromSx, int fromSy, int fromSz, int x, int y, int z) {
+            while (true) {
+                int sx = x >> 4;
+                int sy = y >> 4;
+                int sz = z >> 4;
+                SectionGraph graph = section(sx, sy, sz);
+                if (graph == null) {
+                    return 0;
+                }
+                int label = graph.label(x & 15, y & 15, z & 15);
+                if (label != 0) {
+                    boolean sameSection = sx == fromSx && sy == fromSy && sz == fromSz;
+                    return sameSection ? 0 : packNode(sx, sy, sz, label);
+                }
+                if (!graph.open(x & 15, y & 15, z & 15)) {
+                    return 0;
+                }
+                y--;
+            }
+        }
+
+        long crossNode(int fromSx, int fromSy, int fromSz, int x, int y, int z) {
+            int sx = x >> 4;
+            int sy = y >> 4;
+            int sz = z >> 4;
+            if (sx == fromSx && sy == fromSy && sz == fromSz) {
+                return 0;
+            }
+            SectionGraph graph = section(sx, sy, sz);
+            if (graph == null) {
+                return 0;
+            }
+            int label = graph.label(x & 15, y & 15, z & 15);
+            return label == 0 ? 0 : packNode(sx, sy, sz, label);
+        }
+
+        boolean collectNodes(BlockPos center, int radius, LongOpenHashSet out) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dy = -radius; dy <= radius; dy++) {
+                    for (int dz = -radius; dz <= radius; dz++) {
+                        int x = center.getX() + dx;
+                        int y = center.getY() + dy;
+                        int z = center.getZ() + dz;
+                        SectionGraph graph = section(x >> 4, y >> 4, z >> 4);
+                        if (graph == null) {
+                            return false;
+                        }
+                        int label = graph.label(x & 15, y & 15, z & 15);
+                        if (label != 0) {
+                            out.add(packNode(x >> 4, y >> 4, z >> 4, label));
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class SectionGraph {
+        private static final int[] NO_CELLS = new int[0];
+        private static final int[] NO_OFFSETS = {0};
+
+        private static final long[] ALL_OPEN = filled(-1L);
+        private static final long[] ALL_CLOSED = filled(0L);
+
+        final long version;
+        final short[] labels;
+        final long[] verticalCells;
+        final long[] openCells;
+        final int[] exitOffsets;
+        final int[] exitCells;
+        long lastUsed;
+
+        private SectionGraph(long version, short[] labels, long[] verticalCells, long[] openCells,
+                             int[] exitOffsets, int[] exitCells) {
+            this.version = version;
+            this.labels = labels;
+            this.verticalCells = verticalCells;
+            this.openCells = openCells;
+            this.exitOffsets = exitOffsets;
+            this.exitCells = exitCells;
+        }
+
+        private static long[] filled(long value) {
+            long[] bits = new long[64];
+            Arrays.fill(bits, value);
+            return bits;
+        }
+
+        int label(int x, int y, int z) {
+            return labels == null ? 0 : labels[(y << 8) | (z << 4) | x];
+        }
+
+        boolean open(int x, int y, int z) {
+            int cell = (y << 8) | (z << 4) | x;
+            return (openCells[cell >> 6] & (1L << cell)) != 0;
+        }
+
+        boolean vertical(int cell) {
+            return (verticalCells[cell >> 6] & (1L << cell)) != 0;
+        }
+
+        static SectionGraph build(ChunkAccess chunk, int sx, int sy, int sz, long version) {
+            int sectionIndex = chunk.getSectionIndexFromSectionY(sy);
+            if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+                return new SectionGraph(version, null, new long[64], ALL_CLOSED, NO_OFFSETS, NO_CELLS);
+            }
+            if (chunk.getSection(sectionIndex).hasOnlyAir() && !hasFloorBelow(chunk, sx, sy, sz)) {
+                return new SectionGraph(version, null, new long[64], ALL_OPEN, NO_OFFSETS, NO_CELLS);
+            }
+
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            boolean[] passable = new boolean[17 * 256];
+            boolean[] special = new boolean[17 * 256];
+            for (int y = -1; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        pos.set((sx << 4) | x, (sy << 4) + y, (sz << 4) | z);
+                        BlockState state = chunk.getBlockState(pos);
+                        int index = ((y + 1) << 8) | (z << 4) | x;
+                        boolean fluid = !state.getFluidState().isEmpty();
+                        boolean climbable = state.is(BlockTags.CLIMBABLE);
+                        special[index] = fluid || climbable;
+                        passable[index] = state.isAir() || fluid || climbable || isOpenable(state)
+                            || state.getCollisionShape(chunk, pos).isEmpty();
+                    }
+                }
+            }
+
+            short[] labels = new short[4096];
+            long[] verticalCells = new long[64];
+            long[] openCells = new long[64];
+            boolean any = false;
+            for (int cell = 0; cell < 4096; cell++) {
+                int above = cell + 256;
+                if (passable[above]) {
+                    openCells[cell >> 6] |= 1L << cell;
+                }
+                if (passable[above] && (!passable[cell] || special[above] || special[cell])) {
+                    labels[cell] = -1;
+                    any = true;
+                    if (special[above]) {
+                        verticalCells[cell >> 6] |= 1L << cell;
+                    }
+                }
+            }
+            if (!any) {
+                return new SectionGraph(version, null, verticalCells, openCells, NO_OFFSETS, NO_CELLS);
+            }
+
+            int components = label(labels, verticalCells, openCells);
+            return new SectionGraph(version, labels, verticalCells, openCells, null, null).withExits(components);
+        }
+
+        private static boolean hasFloorBelow(ChunkAccess chunk, int sx, int sy, int sz) {
+            int below = chunk.getSectionIndexFromSectionY(sy - 1);
+            return below >= 0 && below < chunk.getSectionsCount() && !chunk.getSection(below).hasOnlyAir();
+        }
+
+        private static boolean isOpenable(BlockState state) {
+            return state.getBlock() instanceof DoorBlock
+                || state.getBlock() instanceof FenceGateBlock
+                || state.getBlock() instanceof TrapDoorBlock;
+        }
+
+        private static boolean isOpen(long[] openCells, int cell) {
+            return (openCells[cell >> 6] & (1L << cell)) != 0;
+        }
+
+        private static int fall(short[] labels, long[] openCells, int x, int y, int z) {
+            for (int ny = y; ny >= 0; ny--) {
+                int cell = (ny << 8) | (z << 4) | x;
+                if (labels[cell] != 0) {
+                    return cell;
+                }
+                if (!isOpen(openCells, cell)) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private static int label(short[] labels, long[] verticalCells, long[] openCells) {
+            int[] queue = new int[4096];
+            int next = 0;
+            for (int seed = 0; seed < 4096; seed++) {
+                if (labels[seed] != -1) {
+                    continue;
+                }
+                int label = Math.min(++next, MAX_LABEL);
+                labels[seed] = (short) label;
+                int head = 0;
+                int tail = 0;
+                queue[tail++] = seed;
+                while (head < tail) {
+                    int cell = queue[head++];
+                    int x = cell & 15;
+                    int z = (cell >> 4) & 15;
+                    int y = cell >> 8;
+                    for (int dir = 0; dir < 4; dir++) {
+                        int nx = x + STEP_X[dir];
+                        int nz = z + STEP_Z[dir];
+                        if (nx < 0 || nx > 15 || nz < 0 || nz > 15) {
+                            continue;
+                        }
+                        if (y < 15) {
+                            int stepUp = ((y + 1) << 8) | (nz << 4) | nx;
+                            if (labels[stepUp] == -1) {
+                                labels[stepUp] = (short) label;
+                                queue[tail++] = stepUp;
+                            }
+                        }
+                        int landing = fall(labels, openCells, nx, y, nz);
+                        if (landing >= 0 && labels[landing] == -1) {
+                            labels[landing] = (short) label;
+                            queue[tail++] = landing;
+                        }
+                    }
+                    boolean vertical = (verticalCells[cell >> 6] & (1L << cell)) != 0;
+                    for (int dy = -1; dy <= 1; dy += 2) {
+                        int ny = y + dy;
+                        if (ny < 0 || ny > 15) {
+                            continue;
+                        }
+                        int neighbor = (ny << 8) | (z << 4) | x;
+                        boolean neighborVertical = (verticalCells[neighbor >> 6] & (1L << neighbor)) != 0;
+                        if ((vertical || neighborVertical) && labels[neighbor] == -1) {
+                            labels[neighbor] = (short) label;
+                            queue[tail++] = neighbor;
+                        }
+                    }
+                }
+            }
+            return Math.min(next, MAX_LABEL);
+        }
+
+        private SectionGraph withExits(int components) {
+            int[] offsets = new int[components + 1];
+            for (int cell = 0; cell < 4096; cell++) {
+                if (labels[cell] > 0 && isExit(cell)) {
+                    offsets[labels[cell]]++;
+                }
+            }
+            for (int i = 1; i <= components; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+            int[] cells = new int[offsets[components]];
+            int[] cursor = Arrays.copyOf(offsets, components);
+            for (int cell = 0; cell < 4096; cell++) {
+                if (labels[cell] > 0 && isExit(cell)) {
+                    cells[cursor[labels[cell] - 1]++] = cell;
+                }
+            }
+            return new SectionGraph(version, labels, verticalCells, openCells, offsets, cells);
+        }
+
+        private boolean isExit(int cell) {
+            int x = cell & 15;
+            int z = (cell >> 4) & 15;
+            int y = cell >> 8;
+            if (x == 0 || x == 15 || z == 0 || z == 15 || y == 15) {
+                return true;
+            }
+            for (int dir = 0; dir < 4; dir++) {
+                if (fallsThrough(x + STEP_X[dir], y, z + STEP_Z[dir])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean fallsThrough(int x, int y, int z) {
+            for (int ny = y; ny >= 0; ny--) {
+                int cell = (ny << 8) | (z << 4) | x;
+                if (labels[cell] != 0 || !isOpen(openCells, cell)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,59 +1,83 @@
 package org.virgil.akiasync.mixin.pathfinding;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.pathfinder.Path;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SharedPathCache {
     
     private static final Map<PathCacheKey, CachedPath> PATH_CACHE = new ConcurrentHashMap<>(512);
+    private static final PathSpatialIndex SPATIAL_INDEX = new PathSpatialIndex();
+    private static final AtomicLong INVALIDATIONS = new AtomicLong(0);
     
-    private static final int MAX_CACHE_SIZE = 1000;
-    private static final long CACHE_EXPIRE_MS = 30000; 
+    private static final int MAX_CACHE_SIZE = 8192;
+    private static final long CACHE_EXPIRE_MS = 120000; 
     private static final int REUSE_TOLERANCE = 3; 
     
     private static long lastCleanupTime = 0;
     private static final long CLEANUP_INTERVAL_MS = 5000; 
     
     private static class CachedPath {
-        final Path path;
+        final PackedPath path;
         final long createTime;
+        final PathSectionStamp stamp;
         volatile int useCount;
         
-        CachedPath(Path path) {
+        CachedPath(PackedPath path) {
             this.path = path;
             this.createTime = System.currentTimeMillis();
+            this.stamp = PathSectionStamp.capture(path);
             this.useCount = 0;
         }
         
         boolean isExpired() {
-            return System.currentTimeMillis() - createTime > CACHE_EXPIRE_MS;
+            return System.currentTimeMillis() - createTime > CACHE_EXPIRE_MS || isStale();
+        }
+        
+        boolean isStale() {
+            return !stamp.isCurrent();
         }
         
         Path getPath() {
             useCount++;
-            return path;
+            return path.materialize();
         }
     }
     
     public static Path getCachedPath(BlockPos start, BlockPos end) {
+        return getCachedPath(null, start, end);
+    }
+    
+    public static Path getCachedPath(Level level, BlockPos start, BlockPos end) {
         PathCacheKey key = new PathCacheKey(start, end);
         
         CachedPath cached = PATH_CACHE.get(key);
-        if (cached != null && !cached.isExpired()) {
-            return cached.getPath();
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                PersistentPathStore.recordHit(level, key, cached.path, cached.stamp);
+                return cached.getPath();
+            }
+            if (PATH_CACHE.remove(key, cached)) {
+                SPATIAL_INDEX.remove(key);
+                if (cached.isStale()) {
+                    INVALIDATIONS.incrementAndGet();
+                }
+            }
         }
         
-        for (Map.Entry<PathCacheKey, CachedPath> entry : PATH_CACHE.entrySet()) {
-            if (entry.getValue().isExpired()) {
-                continue;
-            }
-            
-            if (entry.getKey().isSimilar(key, REUSE_TOLERANCE)) {
-                return entry.getValue().getPath();
+        PathCacheKey similar = SPATIAL_INDEX.findSimilar(key, REUSE_TOLERANCE, candidate -> {
+            CachedPath candidatePath = PATH_CACHE.get(candidate);
+            return candidatePath != null && !candidatePath.isExpired();
+        });
+        if (similar != null) {
+            CachedPath similarPath = PATH_CACHE.get(similar);
+            if (similarPath != null) {
+                PersistentPathStore.recordHit(level, similar, similarPath.path, similarPath.stamp);
+                return similarPath.getPath();
             }
         }
         
@@ -65,12 +89,21 @@ public class SharedPathCache {
             return;
         }
         
+        PackedPath packed = PackedPath.pack(path);
+        if (packed != null) {
+            cachePath(start, end, packed);
+        }
+    }
+    
+    static void cachePath(BlockPos start, BlockPos end, PackedPath path) {
         if (PATH_CACHE.size() >= MAX_CACHE_SIZE) {
             cleanup(true); 
         }
         
         PathCacheKey key = new PathCacheKey(start, end);
-        PATH_CACHE.put(key, new CachedPath(path));
+        if (PATH_CACHE.put(key, new CachedPath(path)) == null) {
+            SPATIAL_INDEX.add(key);
+        }
         
         long now = System.currentTimeMillis();
         if (now - lastCleanupTime > CLEANUP_INTERVAL_MS) {
@@ -83,16 +116,28 @@ public class SharedPathCache {
         if (force) {
             
             PATH_CACHE.entrySet().removeIf(entry -> 
-                entry.getValue().isExpired() || entry.getValue().useCount < 2
+                evict(entry.getKey(), entry.getValue().isExpired() || entry.getValue().useCount < 2)
             );
         } else {
             
-            PATH_CACHE.entrySet().removeIf(entry -> entry.getValue().isExpired());
+            PATH_CACHE.entrySet().removeIf(entry -> evict(entry.getKey(), entry.getValue().isExpired()));
+        }
+    }
+    
+    private static boolean evict(PathCacheKey key, boolean remove) {
+        if (remove) {
+            SPATIAL_INDEX.remove(key);
         }
+        return remove;
+    }
+    
+    public static long getInvalidationCount() {
+        return INVALIDATIONS.get();
     }
     
     public static void clear() {
         PATH_CACHE.clear();
+        SPATIAL_INDEX.clear();
     }
     
     public static String getStats() {
@@ -101,6 +146,7 @@ public class SharedPathCache {
             .filter(CachedPath::isExpired)
             .count();
         
-        return String.format("PathCache: %d paths (%d expired)", totalPaths, expiredPaths);
+        return String.format("PathCache: %d paths (%d expired, %d buckets, %d invalidated by block changes)",
+            totalPaths, expiredPaths, SPATIAL_INDEX.getBucketCount(), INVALIDATIONS.get());
     }
 }
@@ -0,0 +1,35 @@
+package org.virgil.akiasync.mixin.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class SectionChangeTracker {
+
+    private static final int SLOT_BITS = 15;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    private static final AtomicLongArray VERSIONS = new AtomicLongArray(1 << SLOT_BITS);
+    private static final LongAdder changes = new LongAdder();
+
+    private SectionChangeTracker() {
+    }
+
+    public static void onBlockChanged(int x, int y, int z) {
+        VERSIONS.incrementAndGet(slotOf(x >> 4, y >> 4, z >> 4));
+        changes.increment();
+    }
+
+    public static int slotOf(int sectionX, int sectionY, int sectionZ) {
+        long key = ((long) (sectionX & 0x3FFFFF) << 42) | ((long) (sectionY & 0xFFFFF) << 22) | (sectionZ & 0x3FFFFF);
+        key *= 0x9E3779B97F4A7C15L;
+        return (int) (key >>> (64 - SLOT_BITS)) & SLOT_MASK;
+    }
+
+    public static long version(int slot) {
+        return VERSIONS.get(slot);
+    }
+
+    public static long getChangeCount() {
+        return changes.sum();
+    }
+}
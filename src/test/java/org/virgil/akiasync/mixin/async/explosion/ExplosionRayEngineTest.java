@@ -0,0 +1,112 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.virgil.akiasync.jmh.fixture.SyntheticBlockVolume;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.Vec3;
+
+class ExplosionRayEngineTest {
+
+    private static final BlockPos ORIGIN = new BlockPos(0, 64, 0);
+    private static final int SEEDS = 64;
+
+    static Stream<Arguments> scenarios() {
+        return Stream.of(4.0F, 8.0F).flatMap(power ->
+            Stream.of("cannonChamber", "naturalTerrain", "obsidianBunker").map(terrain -> Arguments.of(power, terrain)));
+    }
+
+    @ParameterizedTest(name = "{1} power={0}")
+    @MethodSource("scenarios")
+    void engineMatchesVanilla(float power, String terrain) {
+        SyntheticBlockVolume volume = volume(terrain, power);
+        Vec3 center = Vec3.atCenterOf(ORIGIN);
+        ExplosionRayEngine engine = new ExplosionRayEngine();
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Vec3 origin = center.add(seed * 0.0625 - 2.0, (seed % 7) * 0.125, 2.0 - seed * 0.03125);
+            long[] expected = vanillaRays(volume, RandomSource.create(seed), origin, power).stream()
+                .mapToLong(Long::longValue).toArray();
+            int count = engine.march(volume, RandomSource.create(seed), origin.x, origin.y, origin.z, power);
+            assertArrayEquals(expected, Arrays.copyOf(engine.getResults(), count), "seed " + seed);
+        }
+    }
+
+    @ParameterizedTest(name = "{1} power={0}")
+    @MethodSource("scenarios")
+    void templateMatchesEngine(float power, String terrain) {
+        SyntheticBlockVolume volume = volume(terrain, power);
+        Vec3 center = Vec3.atCenterOf(ORIGIN);
+        ExplosionRayEngine engine = new ExplosionRayEngine();
+        ExplosionRayTemplate template = ExplosionRayTemplate.build(center.x, center.y, center.z, power);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            int expected = engine.march(volume, RandomSource.create(seed), center.x, center.y, center.z, power);
+            long[] expectedBlocks = Arrays.copyOf(engine.getResults(), expected);
+            int count = engine.march(template, volume, RandomSource.create(seed));
+            assertArrayEquals(expectedBlocks, Arrays.copyOf(engine.getResults(), count), "seed " + seed);
+        }
+    }
+
+    private static SyntheticBlockVolume volume(String terrain, float power) {
+        int radius = (int) Math.ceil(power * 2) + 2;
+        return switch (terrain) {
+            case "naturalTerrain" -> SyntheticBlockVolume.naturalTerrain(ORIGIN, radius, 42L);
+            case "obsidianBunker" -> SyntheticBlockVolume.obsidianBunker(ORIGIN, radius, 42L);
+            default -> SyntheticBlockVolume.cannonChamber(ORIGIN, radius, 42L);
+        };
+    }
+
+    private static LinkedHashSet<Long> vanillaRays(BlockGetter level, RandomSource random, Vec3 origin, float radius) {
+        LinkedHashSet<Long> set = new LinkedHashSet<>();
+        for (int j = 0; j < 16; ++j) {
+            for (int k = 0; k < 16; ++k) {
+                for (int l = 0; l < 16; ++l) {
+                    if (j != 0 && j != 15 && k != 0 && k != 15 && l != 0 && l != 15) {
+                        continue;
+                    }
+                    double d0 = (float) j / 15.0F * 2.0F - 1.0F;
+                    double d1 = (float) k / 15.0F * 2.0F - 1.0F;
+                    double d2 = (float) l / 15.0F * 2.0F - 1.0F;
+                    double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                    d0 /= d3;
+                    d1 /= d3;
+                    d2 /= d3;
+                    float f = radius * (0.7F + random.nextFloat() * 0.6F);
+                    double x = origin.x;
+                    double y = origin.y;
+                    double z = origin.z;
+                    for (; f > 0.0F; f -= 0.22500001F) {
+                        BlockPos pos = new BlockPos(Mth.floor(x), Mth.floor(y), Mth.floor(z));
+                        BlockState state = level.getBlockState(pos);
+                        FluidState fluid = state.getFluidState();
+                        if (level.isOutsideBuildHeight(pos)) {
+                            break;
+                        }
+                        if (!state.isAir() || !fluid.isEmpty()) {
+                            f -= (Math.max(state.getBlock().getExplosionResistance(), fluid.getExplosionResistance()) + 0.3F) * 0.3F;
+                        }
+                        if (f > 0.0F) {
+                            set.add(pos.asLong());
+                        }
+                        x += d0 * 0.3F;
+                        y += d1 * 0.3F;
+                        z += d2 * 0.3F;
+                    }
+                }
+            }
+        }
+        return set;
+    }
+}